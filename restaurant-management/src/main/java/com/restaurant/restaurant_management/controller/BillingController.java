@@ -1,12 +1,16 @@
 package com.restaurant.restaurant_management.controller;
 
 import com.restaurant.restaurant_management.dto.BillingResponseDTO;
+import com.restaurant.restaurant_management.dto.CursorPage;
+import com.restaurant.restaurant_management.enums.ExportFormat;
 import com.restaurant.restaurant_management.service.BillingService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
 
 /**
  * REST controller for billing-related endpoints.
@@ -58,15 +62,45 @@ public class BillingController {
      * @param username  optional username filter
      * @param startDate optional start date filter (format should be validated in service)
      * @param endDate   optional end date filter (format should be validated in service)
-     * @return list of filtered billing records
+     * @param afterId   cursor returned by the previous page (optional)
+     * @param size      page size (optional, capped)
+     * @return page of filtered billing records
      */
     @GetMapping("/admin/bills")
-    public ResponseEntity<List<BillingResponseDTO>> getBillsForAdmin(
+    public ResponseEntity<CursorPage<BillingResponseDTO>> getBillsForAdmin(
             @RequestParam(required = false) String username,
             @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate) {
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
 
-        List<BillingResponseDTO> bills = billingService.getFilteredBills(username, startDate, endDate);
+        CursorPage<BillingResponseDTO> bills = billingService.getFilteredBills(username, startDate, endDate, afterId, size);
         return ResponseEntity.ok(bills);
     }
+
+    /**
+     * Admin endpoint to export filtered billing records as a streamed NDJSON or CSV download.
+     * Rows are written to the response as they are read, so memory does not grow with the export size.
+     *
+     * @param username  optional username filter
+     * @param startDate optional start date filter (yyyy-MM-dd)
+     * @param endDate   optional end date filter (yyyy-MM-dd)
+     * @param format    export format: ndjson (default) or csv
+     * @param response  HTTP response the export is written to
+     * @throws IOException if writing the response fails
+     */
+    @GetMapping("/admin/bills/export")
+    public void exportBillsForAdmin(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"bills." + exportFormat.getExtension() + "\"");
+        billingService.exportBills(username, startDate, endDate, exportFormat, response.getOutputStream());
+    }
 }
@@ -2,6 +2,7 @@ package com.restaurant.restaurant_management.controller;
 
 import com.restaurant.restaurant_management.dto.BookingRequestDTO;
 import com.restaurant.restaurant_management.dto.BookingResponseDTO;
+import com.restaurant.restaurant_management.dto.CursorPage;
 import com.restaurant.restaurant_management.service.BookingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -34,16 +35,20 @@ public class BookingController {
     }
 
     /**
-     * Retrieve all bookings, optionally filtered by tableId.
+     * Retrieve all bookings one keyset page at a time, optionally filtered by tableId.
      *
      * @param tableId optional table ID filter
-     * @return list of BookingResponseDTO
+     * @param afterId cursor returned by the previous page (optional)
+     * @param size    page size (optional, capped)
+     * @return page of BookingResponseDTO
      */
     @GetMapping
-    public ResponseEntity<List<BookingResponseDTO>> getAllBookings(
-            @RequestParam(required = false) Long tableId
+    public ResponseEntity<CursorPage<BookingResponseDTO>> getAllBookings(
+            @RequestParam(required = false) Long tableId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size
     ) {
-        List<BookingResponseDTO> bookings = bookingService.getAllBookings(tableId);
+        CursorPage<BookingResponseDTO> bookings = bookingService.getAllBookings(tableId, afterId, size);
         return ResponseEntity.ok(bookings);
     }
 
@@ -2,16 +2,16 @@ package com.restaurant.restaurant_management.controller;
 
 import com.restaurant.restaurant_management.dto.CategoryRequestDTO;
 import com.restaurant.restaurant_management.dto.CategoryResponseDTO;
+import com.restaurant.restaurant_management.dto.SerializedBody;
 import com.restaurant.restaurant_management.service.CategoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/categories")
 @RequiredArgsConstructor
@@ -27,9 +27,11 @@ public class CategoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponseDTO>> getAllCategories() {
-        List<CategoryResponseDTO> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<byte[]> getAllCategories(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        SerializedBody categories = categoryService.getSerializedCategories();
+        return SerializedBodyResponses.of(categories, ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/{id}")
@@ -1,6 +1,8 @@
 package com.restaurant.restaurant_management.controller;
 
+import com.restaurant.restaurant_management.dto.CursorPage;
 import com.restaurant.restaurant_management.dto.InventoryDTO;
+import com.restaurant.restaurant_management.dto.RecipeIngredientDTO;
 import com.restaurant.restaurant_management.service.InventoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -53,13 +55,16 @@ public class InventoryController {
     }
 
     /**
-     * Get all inventory items.
+     * Get all inventory items, one keyset page at a time.
      *
-     * @return list of InventoryDTO
+     * @param afterId cursor returned by the previous page (optional)
+     * @param size    page size (optional, capped)
+     * @return page of InventoryDTO
      */
     @GetMapping
-    public ResponseEntity<List<InventoryDTO>> getAll() {
-        return ResponseEntity.ok(inventoryService.getAllInventory());
+    public ResponseEntity<CursorPage<InventoryDTO>> getAll(@RequestParam(required = false) Long afterId,
+                                                           @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(inventoryService.getAllInventory(afterId, size));
     }
 
     /**
@@ -73,4 +78,28 @@ public class InventoryController {
         inventoryService.deleteInventory(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Get the recipe (inventory items consumed per serving) of a menu item.
+     *
+     * @param menuItemId menu item ID
+     * @return list of RecipeIngredientDTO
+     */
+    @GetMapping("/recipes/{menuItemId}")
+    public ResponseEntity<List<RecipeIngredientDTO>> getRecipe(@PathVariable Long menuItemId) {
+        return ResponseEntity.ok(inventoryService.getRecipe(menuItemId));
+    }
+
+    /**
+     * Replace the recipe of a menu item.
+     *
+     * @param menuItemId  menu item ID
+     * @param ingredients new recipe lines
+     * @return saved list of RecipeIngredientDTO
+     */
+    @PutMapping("/recipes/{menuItemId}")
+    public ResponseEntity<List<RecipeIngredientDTO>> updateRecipe(@PathVariable Long menuItemId,
+                                                                  @RequestBody List<RecipeIngredientDTO> ingredients) {
+        return ResponseEntity.ok(inventoryService.updateRecipe(menuItemId, ingredients));
+    }
 }
@@ -1,17 +1,18 @@
 package com.restaurant.restaurant_management.controller;
 
+import com.restaurant.restaurant_management.dto.MenuCacheStatsDTO;
 import com.restaurant.restaurant_management.dto.MenuItemRequestDTO;
 import com.restaurant.restaurant_management.dto.MenuItemResponseDTO;
+import com.restaurant.restaurant_management.dto.SerializedBody;
 import com.restaurant.restaurant_management.service.MenuItemService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * REST Controller for managing Menu Items.
  * Provides endpoints for CRUD operations on Menu Items,
@@ -43,16 +44,37 @@ public class MenuItemController {
     }
 
     /**
-     * Get all Menu Items, optionally filtered by categoryId.
+     * Get all Menu Items one keyset page at a time, optionally filtered by categoryId.
+     * The page is served as pre-serialized JSON (gzip when accepted) with an ETag;
+     * a matching If-None-Match is answered with 304 Not Modified.
      *
-     * @param categoryId optional Category ID for filtering menu items.
-     * @return list of MenuItemResponseDTO.
+     * @param categoryId     optional Category ID for filtering menu items.
+     * @param afterId        optional cursor returned by the previous page.
+     * @param size           optional page size (capped).
+     * @param ifNoneMatch    optional ETag the client already has.
+     * @param acceptEncoding optional encodings accepted by the client.
+     * @return page of MenuItemResponseDTO as JSON, or 304.
      */
     @GetMapping
-    public ResponseEntity<List<MenuItemResponseDTO>> getAllMenuItems(@RequestParam(required = false) Long categoryId) {
-        logger.info("Fetching Menu Items. Filter categoryId: {}", categoryId);
-        List<MenuItemResponseDTO> list = menuItemService.getAllMenuItems(categoryId);
-        return ResponseEntity.ok(list);
+    public ResponseEntity<byte[]> getAllMenuItems(@RequestParam(required = false) Long categoryId,
+                                                  @RequestParam(required = false) Long afterId,
+                                                  @RequestParam(required = false) Integer size,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        logger.debug("Fetching Menu Items. Filter categoryId: {}, afterId: {}", categoryId, afterId);
+        SerializedBody page = menuItemService.getSerializedMenuItems(categoryId, afterId, size);
+        return SerializedBodyResponses.of(page, ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * Get the statistics of the menu catalog cache.
+     * Access: ADMIN only.
+     *
+     * @return hit/miss/eviction counters and snapshot size.
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<MenuCacheStatsDTO> getCacheStats() {
+        return ResponseEntity.ok(menuItemService.getCacheStats());
     }
 
     /**
@@ -1,15 +1,22 @@
 package com.restaurant.restaurant_management.controller;
 
+import com.restaurant.restaurant_management.dto.BulkOrderResult;
+import com.restaurant.restaurant_management.dto.CursorPage;
 import com.restaurant.restaurant_management.dto.OrderResponse;
 import com.restaurant.restaurant_management.dto.PlaceOrderRequest;
-import com.restaurant.restaurant_management.model.Order;
+import com.restaurant.restaurant_management.enums.ExportFormat;
 import com.restaurant.restaurant_management.service.OrderService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -27,12 +34,35 @@ public class OrderController {
      * Place a new order.
      *
      * @param request order request data
-     * @return created Order entity
+     * @return created order
      */
     @PostMapping("/place")
-    public ResponseEntity<Order> placeOrder(@RequestBody PlaceOrderRequest request) {
-        Order order = orderService.placeOrder(request);
-        return ResponseEntity.ok(order);
+    public ResponseEntity<OrderResponse> placeOrder(@RequestBody PlaceOrderRequest request) {
+        return ResponseEntity.ok(orderService.placeOrder(request));
+    }
+
+    /**
+     * Bulk order ingestion for POS terminals and delivery-platform sync. Orders are placed or
+     * rejected individually; the response has one result per order, in request order.
+     *
+     * @param requests orders to place (at most 1000)
+     * @return result per order
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkOrderResult>> placeOrders(@RequestBody List<PlaceOrderRequest> requests) {
+        return ResponseEntity.ok(orderService.placeOrders(requests));
+    }
+
+    /**
+     * Live feed of order events (placed, status changed, cancelled) for kitchen screens,
+     * as Server-Sent Events. Load the current queue once via /orders/status/PENDING,
+     * then follow this stream instead of polling.
+     *
+     * @return event stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrders() {
+        return orderService.streamOrderEvents();
     }
 
     /**
@@ -47,13 +77,17 @@ public class OrderController {
     }
 
     /**
-     * Get all orders.
+     * Get all orders, one keyset page at a time.
      *
-     * @return list of all orders
+     * @param afterId cursor returned by the previous page (optional)
+     * @param size    page size (optional, capped)
+     * @return page of orders
      */
     @GetMapping
-    public ResponseEntity<List<OrderResponse>> getAllOrders() {
-        return ResponseEntity.ok(orderService.getAllOrders());
+    public ResponseEntity<CursorPage<OrderResponse>> getAllOrders(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(orderService.getAllOrders(afterId, size));
     }
 
     /**
@@ -147,4 +181,32 @@ public class OrderController {
         List<OrderResponse> orders = orderService.getFilteredOrders(username, status, startDate, endDate);
         return ResponseEntity.ok(orders);
     }
+
+    /**
+     * Export filtered orders for the admin panel as a streamed NDJSON or CSV download.
+     * Rows are written to the response as they are read, so memory does not grow with the export size.
+     *
+     * @param username  filter by username
+     * @param status    filter by status
+     * @param startDate filter by start date (String)
+     * @param endDate   filter by end date (String)
+     * @param format    export format: ndjson (default) or csv
+     * @param response  HTTP response the export is written to
+     * @throws IOException if writing the response fails
+     */
+    @GetMapping("/admin/orders/export")
+    public void exportOrdersForAdmin(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders." + exportFormat.getExtension() + "\"");
+        orderService.exportOrders(username, status, startDate, endDate, exportFormat, response.getOutputStream());
+    }
 }
@@ -0,0 +1,69 @@
+package com.restaurant.restaurant_management.controller;
+
+import com.restaurant.restaurant_management.dto.CategorySalesDTO;
+import com.restaurant.restaurant_management.dto.ItemSalesDTO;
+import com.restaurant.restaurant_management.dto.SalesPeriodDTO;
+import com.restaurant.restaurant_management.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller for sales reports (admin only). Every report takes an inclusive range of
+ * order dates in ISO format (yyyy-MM-dd), and covers the restaurant of the X-Restaurant-Id
+ * header, or the whole chain without it.
+ */
+@RestController
+@RequestMapping("/reports/sales")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ReportService reportService;
+
+    /**
+     * Sales per hour.
+     */
+    @GetMapping("/hourly")
+    public ResponseEntity<List<SalesPeriodDTO>> getHourlySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reportService.getHourlySales(from, to));
+    }
+
+    /**
+     * Sales per day.
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<List<SalesPeriodDTO>> getDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reportService.getDailySales(from, to));
+    }
+
+    /**
+     * Units sold and revenue per menu item.
+     */
+    @GetMapping("/items")
+    public ResponseEntity<List<ItemSalesDTO>> getMenuItemSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reportService.getMenuItemSales(from, to));
+    }
+
+    /**
+     * Units sold and revenue per category.
+     */
+    @GetMapping("/categories")
+    public ResponseEntity<List<CategorySalesDTO>> getCategorySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reportService.getCategorySales(from, to));
+    }
+}
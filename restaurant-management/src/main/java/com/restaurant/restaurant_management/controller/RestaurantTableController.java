@@ -6,9 +6,13 @@ import com.restaurant.restaurant_management.model.RestaurantTable;
 import com.restaurant.restaurant_management.service.RestaurantTableService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Controller for managing restaurant tables.
  */
@@ -34,6 +38,23 @@ public class RestaurantTableController {
         return ResponseEntity.ok(savedTable);
     }
 
+    /**
+     * Find tables that seat the party and are free for the whole time window.
+     * Access: CUSTOMER, STAFF, ADMIN
+     *
+     * @param start     window start (ISO date-time)
+     * @param end       window end (ISO date-time)
+     * @param partySize number of guests
+     * @return free tables, smallest fitting capacity first
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<List<RestaurantTableDto>> getAvailableTables(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam int partySize) {
+        return ResponseEntity.ok(tableService.findAvailableTables(start, end, partySize));
+    }
+
     /**
      * Get table details by id.
      *
@@ -0,0 +1,104 @@
+package com.restaurant.restaurant_management.controller;
+
+import com.restaurant.restaurant_management.dto.SerializedBody;
+import com.restaurant.restaurant_management.tenant.TenantFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Builds responses for pre-serialized JSON bodies: sends the precompressed copy to clients that
+ * accept gzip (a q-value of 0 refuses it), and answers an {@code If-None-Match} matching the ETag of
+ * the chosen encoding with 304 Not Modified. Each encoding has its own ETag, so a shared cache never
+ * revalidates one encoding with the other. Bodies vary by restaurant, so shared caches key them on
+ * the restaurant header as well.
+ */
+final class SerializedBodyResponses {
+
+    private static final String VARY = HttpHeaders.ACCEPT_ENCODING + ", " + TenantFilter.HEADER;
+
+    private SerializedBodyResponses() {
+    }
+
+    /**
+     * Creates the response for a serialized body.
+     *
+     * @param body           serialized body of the current view
+     * @param ifNoneMatch    value of the If-None-Match request header (may be null)
+     * @param acceptEncoding value of the Accept-Encoding request header (may be null)
+     * @return 304 if the client already has this version, otherwise 200 with the JSON bytes
+     */
+    static ResponseEntity<byte[]> of(SerializedBody body, String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = body.getGzip() != null && acceptsGzip(acceptEncoding);
+        String etag = gzip ? body.getGzipEtag() : body.getEtag();
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, VARY)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, VARY);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.getGzip());
+        }
+        return response.body(body.getJson());
+    }
+
+    /**
+     * Tells whether an Accept-Encoding header accepts gzip. An explicit {@code gzip} (or
+     * {@code x-gzip}) entry decides; otherwise a {@code *} entry does. Entries with {@code q=0} refuse.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            boolean accepted = quality(parts) > 0;
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,5 +1,6 @@
 package com.restaurant.restaurant_management.dto;
 
+import com.restaurant.restaurant_management.enums.BillingStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -41,4 +42,9 @@ public class BillingResponseDTO {
      * Final total amount after tax and discount.
      */
     private Double totalAmount;
+
+    /**
+     * Whether the bill is a draft, final or void.
+     */
+    private BillingStatus status;
 }
@@ -0,0 +1,42 @@
+package com.restaurant.restaurant_management.dto;
+
+import com.restaurant.restaurant_management.enums.BulkOrderOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result for one order of a bulk ingestion request, in the position the order had in the request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderResult {
+
+    /**
+     * Zero-based position of the order in the request.
+     */
+    private int index;
+
+    /**
+     * Whether the order was placed or rejected.
+     */
+    private BulkOrderOutcome outcome;
+
+    /**
+     * ID of the placed order; null when rejected.
+     */
+    private Long orderId;
+
+    /**
+     * Total amount of the placed order; null when rejected.
+     */
+    private Double totalAmount;
+
+    /**
+     * Why the order was rejected; null when placed.
+     */
+    private String error;
+}
@@ -0,0 +1,34 @@
+package com.restaurant.restaurant_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Units sold and revenue of one category over a date range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorySalesDTO {
+
+    /**
+     * ID of the category.
+     */
+    private Long categoryId;
+
+    /**
+     * Current name of the category; null if it has been deleted.
+     */
+    private String name;
+
+    /**
+     * Units sold across the category's menu items.
+     */
+    private Long quantity;
+
+    /**
+     * Revenue from those units.
+     */
+    private Double revenue;
+}
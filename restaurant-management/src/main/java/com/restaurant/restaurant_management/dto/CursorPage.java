@@ -0,0 +1,79 @@
+package com.restaurant.restaurant_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Generic response wrapper for keyset (cursor) paginated list endpoints.
+ * <p>
+ * Items are ordered by ascending ID. To fetch the next page, pass {@code nextCursor}
+ * back as the {@code afterId} request parameter; it is null on the last page.
+ *
+ * @param <T> type of the items in the page
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    /**
+     * Page size used when the client does not ask for one.
+     */
+    public static final int DEFAULT_SIZE = 50;
+
+    /**
+     * Largest page size a client may request.
+     */
+    public static final int MAX_SIZE = 200;
+
+    /**
+     * Items of the current page.
+     */
+    private List<T> items;
+
+    /**
+     * ID of the last item of this page, or null if there are no more items.
+     */
+    private Long nextCursor;
+
+    /**
+     * Resolves the requested page size, applying the default and upper limit.
+     *
+     * @param size requested page size (nullable)
+     * @return page size between 1 and {@link #MAX_SIZE}
+     */
+    public static int resolveSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * Resolves the cursor to start from.
+     *
+     * @param afterId ID of the last item of the previous page (nullable)
+     * @return the cursor, or 0 to start from the first item
+     */
+    public static long resolveCursor(Long afterId) {
+        return afterId != null ? afterId : 0L;
+    }
+
+    /**
+     * Builds a page from the fetched items.
+     *
+     * @param items       items fetched with a limit of {@code size}
+     * @param size        the page size used for the query
+     * @param idExtractor function returning the ID of an item
+     * @param <T>         type of the items
+     * @return the page with its next cursor
+     */
+    public static <T> CursorPage<T> of(List<T> items, int size, Function<T, Long> idExtractor) {
+        Long nextCursor = items.size() == size ? idExtractor.apply(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+}
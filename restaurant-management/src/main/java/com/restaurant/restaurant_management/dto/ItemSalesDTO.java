@@ -0,0 +1,39 @@
+package com.restaurant.restaurant_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Units sold and revenue of one menu item over a date range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSalesDTO {
+
+    /**
+     * ID of the menu item.
+     */
+    private Long menuItemId;
+
+    /**
+     * Current name of the menu item; null if it has been deleted.
+     */
+    private String name;
+
+    /**
+     * ID of the menu item's category when it was sold.
+     */
+    private Long categoryId;
+
+    /**
+     * Units sold.
+     */
+    private Long quantity;
+
+    /**
+     * Revenue from those units.
+     */
+    private Double revenue;
+}
@@ -0,0 +1,44 @@
+package com.restaurant.restaurant_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counters of the in-process menu catalog cache, used to size and monitor it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuCacheStatsDTO {
+
+    /**
+     * Reads served from the cached snapshot.
+     */
+    private long hits;
+
+    /**
+     * Reads that found no current snapshot and had to wait for a load.
+     */
+    private long misses;
+
+    /**
+     * Number of times the catalog was loaded from the database.
+     */
+    private long loads;
+
+    /**
+     * Number of loaded snapshots discarded because the menu or categories changed.
+     */
+    private long evictions;
+
+    /**
+     * Menu items in the current snapshot (0 if none is loaded).
+     */
+    private int menuItems;
+
+    /**
+     * Categories in the current snapshot (0 if none is loaded).
+     */
+    private int categories;
+}
@@ -0,0 +1,75 @@
+package com.restaurant.restaurant_management.dto;
+
+import com.restaurant.restaurant_management.enums.OrderEventType;
+import com.restaurant.restaurant_management.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Event pushed to kitchen screens when an order is placed or changes status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEventDTO {
+
+    /**
+     * What happened to the order.
+     */
+    private OrderEventType type;
+
+    /**
+     * ID of the order.
+     */
+    private Long orderId;
+
+    /**
+     * ID of the restaurant the order was placed at.
+     */
+    private Long restaurantId;
+
+    /**
+     * Status of the order after the change.
+     */
+    private OrderStatus status;
+
+    /**
+     * Total amount of the order.
+     */
+    private Double totalAmount;
+
+    /**
+     * When the change happened.
+     */
+    private LocalDateTime occurredAt;
+
+    /**
+     * Ordered items; only filled for {@link OrderEventType#PLACED} events.
+     */
+    private List<Item> items;
+
+    /**
+     * A menu item and the quantity to prepare.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        /**
+         * Name of the menu item.
+         */
+        private String name;
+
+        /**
+         * Quantity ordered.
+         */
+        private Integer quantity;
+    }
+}
@@ -0,0 +1,31 @@
+package com.restaurant.restaurant_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a single ingredient line of a menu item's recipe.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecipeIngredientDTO {
+
+    /**
+     * ID of the inventory item used by the recipe.
+     */
+    private Long inventoryId;
+
+    /**
+     * Name of the inventory item (filled in responses).
+     */
+    private String itemName;
+
+    /**
+     * Quantity of the inventory item used for one serving.
+     */
+    private Double quantityPerServing;
+}
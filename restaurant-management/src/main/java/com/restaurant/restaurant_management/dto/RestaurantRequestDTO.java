@@ -11,4 +11,5 @@ public class RestaurantRequestDTO {
     private String name;
     private String address;
     private String phone;
+    private Double taxPercent;
 }
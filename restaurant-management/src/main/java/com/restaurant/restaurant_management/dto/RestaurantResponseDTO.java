@@ -12,4 +12,5 @@ public class RestaurantResponseDTO {
     private String name;
     private String address;
     private String phone;
+    private Double taxPercent;
 }
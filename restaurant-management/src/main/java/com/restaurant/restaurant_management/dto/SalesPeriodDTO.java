@@ -0,0 +1,46 @@
+package com.restaurant.restaurant_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sales totals for one hour or one day of order time.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesPeriodDTO {
+
+    /**
+     * Start of the hour or day.
+     */
+    private LocalDateTime periodStart;
+
+    /**
+     * Orders placed in the period and not cancelled.
+     */
+    private long orders;
+
+    /**
+     * Menu item units in those orders.
+     */
+    private long itemsSold;
+
+    /**
+     * Order totals before tax and discount.
+     */
+    private double revenue;
+
+    /**
+     * Bills created for orders of the period.
+     */
+    private long bills;
+
+    /**
+     * Billed amounts after tax and discount.
+     */
+    private double billedAmount;
+}
@@ -0,0 +1,34 @@
+package com.restaurant.restaurant_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A response body serialized to JSON once and reused for every request of the same view.
+ * Carries an optional gzip-compressed copy and strong ETags derived from the content hash, one per
+ * encoding, since a strong validator identifies the exact bytes sent.
+ */
+@Getter
+@AllArgsConstructor
+public class SerializedBody {
+
+    /**
+     * UTF-8 JSON bytes.
+     */
+    private final byte[] json;
+
+    /**
+     * Gzip-compressed JSON, or null if the body is too small to be worth compressing.
+     */
+    private final byte[] gzip;
+
+    /**
+     * Quoted strong ETag computed from the JSON bytes.
+     */
+    private final String etag;
+
+    /**
+     * Quoted strong ETag of the gzip copy: the JSON ETag with a {@code -gzip} suffix, or null without a gzip copy.
+     */
+    private final String gzipEtag;
+}
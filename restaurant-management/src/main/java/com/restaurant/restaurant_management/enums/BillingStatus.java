@@ -0,0 +1,21 @@
+package com.restaurant.restaurant_management.enums;
+
+/**
+ * Lifecycle of a bill. A draft is created with the order and finalized when staff bill the order.
+ */
+public enum BillingStatus {
+    /**
+     * Bill drafted at order time with the order price; tax and discount are applied when staff issue it.
+     */
+    DRAFT,
+
+    /**
+     * Bill issued; counted in the sales reports and listed for admins.
+     */
+    FINAL,
+
+    /**
+     * Draft of a cancelled order; drafted again if the order is reinstated.
+     */
+    VOID
+}
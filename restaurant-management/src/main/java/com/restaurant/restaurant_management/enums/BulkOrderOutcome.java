@@ -0,0 +1,17 @@
+package com.restaurant.restaurant_management.enums;
+
+/**
+ * Outcome of one order in a bulk ingestion request.
+ */
+public enum BulkOrderOutcome {
+
+    /**
+     * The order was stored and its stock reserved.
+     */
+    PLACED,
+
+    /**
+     * The order was not stored; the result carries the reason.
+     */
+    REJECTED
+}
@@ -0,0 +1,44 @@
+package com.restaurant.restaurant_management.enums;
+
+import com.restaurant.restaurant_management.exception.InvalidRequestException;
+import lombok.Getter;
+
+/**
+ * Enum representing the file formats supported by the streaming export endpoints.
+ */
+@Getter
+public enum ExportFormat {
+
+    /**
+     * Newline-delimited JSON: one JSON object per line.
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * Comma-separated values with a header row.
+     */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * Parses an export format name, ignoring case.
+     *
+     * @param format the format name (e.g. "ndjson", "csv")
+     * @return the matching ExportFormat
+     * @throws InvalidRequestException if the format is not supported
+     */
+    public static ExportFormat fromString(String format) {
+        try {
+            return ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid export format: " + format);
+        }
+    }
+}
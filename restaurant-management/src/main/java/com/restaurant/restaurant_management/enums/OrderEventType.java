@@ -0,0 +1,22 @@
+package com.restaurant.restaurant_management.enums;
+
+/**
+ * Kinds of order changes pushed to the live order feed.
+ */
+public enum OrderEventType {
+
+    /**
+     * A customer placed a new order.
+     */
+    PLACED,
+
+    /**
+     * Staff moved an order to another status.
+     */
+    STATUS_CHANGED,
+
+    /**
+     * The customer cancelled the order.
+     */
+    CANCELLED
+}
@@ -0,0 +1,27 @@
+package com.restaurant.restaurant_management.enums;
+
+/**
+ * Kinds of order lifecycle events written to the transactional outbox.
+ */
+public enum OutboxEventType {
+
+    /**
+     * An order was placed; the payload is the live feed event with the ordered items.
+     */
+    ORDER_PLACED,
+
+    /**
+     * Staff moved an order to another status.
+     */
+    ORDER_STATUS_CHANGED,
+
+    /**
+     * The customer cancelled the order.
+     */
+    ORDER_CANCELLED,
+
+    /**
+     * A bill was finalized for the order; the payload is the bill.
+     */
+    ORDER_BILLED
+}
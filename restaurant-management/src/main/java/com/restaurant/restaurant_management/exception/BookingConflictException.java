@@ -0,0 +1,16 @@
+package com.restaurant.restaurant_management.exception;
+
+/**
+ * Exception thrown when a booking overlaps an existing booking of the same table.
+ */
+public class BookingConflictException extends RuntimeException {
+
+    /**
+     * Constructs a new BookingConflictException with the specified detail message.
+     *
+     * @param message detailed message describing the conflict
+     */
+    public BookingConflictException(String message) {
+        super(message);
+    }
+}
@@ -10,7 +10,10 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.util.DisconnectedClientHelper;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,6 +38,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handles InvalidRequestException (e.g. insufficient stock, malformed input).
+     * Returns 400 Bad Request with error message.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(InvalidRequestException ex) {
+        logger.warn("Invalid request: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles BookingConflictException (requested slot overlaps an existing booking).
+     * Returns 409 Conflict with error message.
+     */
+    @ExceptionHandler(BookingConflictException.class)
+    public ResponseEntity<ErrorResponse> handleBookingConflict(BookingConflictException ex) {
+        logger.warn("Booking conflict: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handles validation errors on @Valid annotated request bodies.
      * Returns 400 Bad Request with field-specific error messages.
@@ -79,6 +106,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * Handles I/O errors of the response, mostly clients that went away, such as a kitchen screen
+     * closing its order stream. A disconnected client is logged at debug and gets no response, since
+     * nothing can be written to it anymore (and an event stream cannot take a JSON body); the order
+     * event bus has already unsubscribed its stream. Other I/O errors are handled as unexpected.
+     */
+    @ExceptionHandler(IOException.class)
+    public ResponseEntity<ErrorResponse> handleIOException(IOException ex) {
+        if (ex instanceof AsyncRequestNotUsableException || DisconnectedClientHelper.isClientDisconnectedException(ex)) {
+            logger.debug("Client disconnected: {}", ex.getMessage());
+            return null;
+        }
+        return handleGeneralException(ex);
+    }
+
     /**
      * Handles all other uncaught exceptions.
      * Returns 500 Internal Server Error with a generic error message.
@@ -0,0 +1,47 @@
+package com.restaurant.restaurant_management.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate statement inspector that counts the SQL statements prepared on the current thread
+ * while a count is open. {@link StatementCountFilter} opens a count around each request.
+ */
+@Component
+public class RequestStatementCounter implements StatementInspector {
+
+    private final transient ThreadLocal<int[]> current = new ThreadLocal<>();
+
+    /**
+     * Counts the statement, if a count is open on this thread, and passes the SQL through unchanged.
+     *
+     * @param sql the SQL Hibernate is about to prepare
+     * @return the same SQL
+     */
+    @Override
+    public String inspect(String sql) {
+        int[] count = current.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Opens a count on the current thread.
+     */
+    void begin() {
+        current.set(new int[1]);
+    }
+
+    /**
+     * Closes the count on the current thread.
+     *
+     * @return number of statements prepared since {@link #begin()}
+     */
+    int end() {
+        int[] count = current.get();
+        current.remove();
+        return count == null ? 0 : count[0];
+    }
+}
@@ -0,0 +1,46 @@
+package com.restaurant.restaurant_management.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the service implementations as the {@code restaurant.service} timer,
+ * tagged by class, method and the simple name of the exception thrown ("none" on success).
+ * The timer count gives calls, the exception tag gives errors. Percentiles and histogram buckets
+ * are configured through the {@code management.metrics.distribution.*} properties.
+ * <p>
+ * Repository calls are timed by Spring Data as {@code spring.data.repository.invocations}
+ * and controller endpoints by Spring MVC as {@code http.server.requests}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.restaurant.restaurant_management.serviceImp..*(..))"
+            + " && @within(org.springframework.stereotype.Service)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("restaurant.service")
+                    .description("Service method latency")
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.restaurant.restaurant_management.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the number of SQL statements each request executes as the {@code restaurant.http.statements}
+ * distribution, tagged like {@code http.server.requests} by method, URI template and status.
+ * Runs first so statements issued while authenticating the request are counted as well.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private final RequestStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        statementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = statementCounter.end();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("restaurant.http.statements")
+                    .description("SQL statements executed per request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+                    .tag("status", Integer.toString(response.getStatus()))
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
@@ -1,26 +1,34 @@
 package com.restaurant.restaurant_management.model;
 
+import com.restaurant.restaurant_management.enums.BillingStatus;
+import com.restaurant.restaurant_management.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Represents the billing information associated with a specific order.
  * Each billing entry is uniquely linked to an order and contains detailed pricing breakdown.
+ * The entry is drafted together with the order, so reading a bill is a single lookup by order ID.
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "billing")
+@Table(name = "billing", indexes = {
+        @Index(name = "idx_billing_restaurant_id", columnList = "restaurant_id, id"),
+        @Index(name = "idx_billing_status", columnList = "status, id")
+})
 public class Billing {
 
     /**
      * Unique identifier for the billing record (Primary Key).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "billing_seq")
+    @SequenceGenerator(name = "billing_seq", sequenceName = "billing_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -31,27 +39,56 @@ public class Billing {
     @JoinColumn(name = "order_id", nullable = false, unique = true)
     private Order order;
 
+    /**
+     * Restaurant of the billed order, copied from the order so bills can be listed per
+     * restaurant without joining orders.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "restaurant_id")
+    private Restaurant restaurant;
+
     /**
      * Base price of the order before applying tax and discount.
      */
-    @Column(nullable = false)
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 12, scale = 2)
     private Double price;
 
     /**
      * Tax amount applicable on the base price.
      */
-    @Column(nullable = false)
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 12, scale = 2)
     private Double tax;
 
     /**
      * Discount amount applicable on the order.
      */
-    @Column(nullable = false)
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 12, scale = 2)
     private Double discount;
 
     /**
      * Final payable amount calculated as (price + tax - discount).
      */
-    @Column(nullable = false)
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 12, scale = 2)
     private Double totalAmount;
+
+    /**
+     * Whether the bill is still a draft, issued, or void. Bills issued before drafts existed,
+     * and bills built without a status, are {@link BillingStatus#FINAL}.
+     */
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'FINAL'")
+    @Column(nullable = false, length = 10)
+    private BillingStatus status = BillingStatus.FINAL;
+
+    /**
+     * Whether the issued bill is counted in the sales aggregates. Only the sales aggregator changes
+     * it, with a conditional update, so entity saves never write it back.
+     */
+    @ColumnDefault("false")
+    @Column(nullable = false, updatable = false)
+    private boolean salesCounted;
 }
@@ -16,14 +16,22 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_restaurant_id", columnList = "restaurant_id, id"),
+        @Index(name = "idx_bookings_table_id", columnList = "table_id, id"),
+        @Index(name = "idx_bookings_table_end_time", columnList = "table_id, end_time"),
+        @Index(name = "idx_bookings_end_time", columnList = "end_time"),
+        @Index(name = "idx_bookings_status", columnList = "status"),
+        @Index(name = "idx_bookings_user_id", columnList = "user_id, id")
+})
 public class Booking {
 
     /**
      * Unique identifier for the booking record (Primary Key).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -42,6 +50,14 @@ public class Booking {
     @JoinColumn(name = "table_id")
     private RestaurantTable table;
 
+    /**
+     * Restaurant the booked table belongs to, copied from the table so bookings can be
+     * listed per restaurant without joining tables.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "restaurant_id")
+    private Restaurant restaurant;
+
     /**
      * Start time of the booking (date and time when the booking begins).
      */
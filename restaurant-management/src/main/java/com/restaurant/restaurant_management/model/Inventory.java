@@ -1,5 +1,6 @@
 package com.restaurant.restaurant_management.model;
 
+import com.restaurant.restaurant_management.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +14,11 @@ import java.time.LocalDateTime;
  * Tracks the quantity, unit, price per unit, and last update timestamp.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_inventory_restaurant_id", columnList = "restaurant_id, id"),
+        @Index(name = "idx_inventory_restaurant_item_name", columnList = "restaurant_id, item_name"),
+        @Index(name = "idx_inventory_item_name", columnList = "item_name")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,7 +29,8 @@ public class Inventory {
      * Unique identifier for each inventory item.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_seq")
+    @SequenceGenerator(name = "inventory_seq", sequenceName = "inventory_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -44,6 +51,8 @@ public class Inventory {
     /**
      * Price per unit of the inventory item.
      */
+    @Convert(converter = MoneyConverter.class)
+    @Column(precision = 12, scale = 2)
     private Double pricePerUnit;
 
     /**
@@ -52,6 +61,13 @@ public class Inventory {
      */
     private LocalDateTime lastUpdated;
 
+    /**
+     * Restaurant whose stock this is. Null only for stock created before inventory was scoped to restaurants.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "restaurant_id")
+    private Restaurant restaurant;
+
     /**
      * Lifecycle callback to update the `lastUpdated` timestamp before
      * persisting or updating the entity in the database.
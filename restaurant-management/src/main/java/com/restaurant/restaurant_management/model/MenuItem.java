@@ -1,5 +1,6 @@
 package com.restaurant.restaurant_management.model;
 
+import com.restaurant.restaurant_management.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -13,7 +14,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "menu_items")
+@Table(name = "menu_items", indexes = {
+        @Index(name = "idx_menu_items_name", columnList = "name")
+})
 public class MenuItem {
 
     /**
@@ -38,7 +41,8 @@ public class MenuItem {
     /**
      * Price of the menu item. Cannot be null.
      */
-    @Column(nullable = false)
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 12, scale = 2)
     private Double price;
 
     /**
@@ -1,10 +1,12 @@
 package com.restaurant.restaurant_management.model;
 
 import com.restaurant.restaurant_management.enums.OrderStatus;
+import com.restaurant.restaurant_management.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,14 +19,25 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_restaurant_id", columnList = "restaurant_id, id"),
+        @Index(name = "idx_orders_restaurant_status", columnList = "restaurant_id, status, id"),
+        @Index(name = "idx_orders_restaurant_date", columnList = "restaurant_id, order_date"),
+        @Index(name = "idx_orders_status_date", columnList = "status, order_date"),
+        @Index(name = "idx_orders_order_date", columnList = "order_date"),
+        @Index(name = "idx_orders_user_date", columnList = "user_id, order_date"),
+        @Index(name = "idx_orders_user_status_date", columnList = "user_id, status, order_date")
+})
 public class Order {
 
     /**
      * Unique identifier for the order.
+     * Allocated from a pooled sequence, 50 ids per database round trip, so an order and its
+     * items are inserted as JDBC batches instead of one statement per row.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -47,7 +60,8 @@ public class Order {
      * Total amount for the order.
      * Cannot be null.
      */
-    @Column(nullable = false)
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 12, scale = 2)
     private Double totalAmount;
 
     /**
@@ -66,4 +80,20 @@ public class Order {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
+
+    /**
+     * Restaurant (branch) the order was placed at; all of its menu items belong to it.
+     * Null only for orders placed before orders were scoped to restaurants.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "restaurant_id")
+    private Restaurant restaurant;
+
+    /**
+     * Whether the order is counted in the sales aggregates. Only the sales aggregator changes it,
+     * with a conditional update, so entity saves never write it back.
+     */
+    @ColumnDefault("false")
+    @Column(nullable = false, updatable = false)
+    private boolean salesCounted;
 }
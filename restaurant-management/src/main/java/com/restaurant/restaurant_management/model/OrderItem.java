@@ -1,5 +1,6 @@
 package com.restaurant.restaurant_management.model;
 
+import com.restaurant.restaurant_management.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -20,7 +21,8 @@ public class OrderItem {
      * Unique identifier for the order item.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -35,7 +37,8 @@ public class OrderItem {
      * Cannot be null.
      * Stored separately to maintain historical price data.
      */
-    @Column(nullable = false)
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 12, scale = 2)
     private Double price;
 
     /**
@@ -0,0 +1,90 @@
+package com.restaurant.restaurant_management.model;
+
+import com.restaurant.restaurant_management.enums.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event written in the same transaction as the order or bill change it describes, and delivered
+ * to in-process subscribers afterwards by the outbox relay. A row exists only until it is delivered;
+ * rows that keep failing are parked with {@code failedAt} set.
+ * <p>
+ * Ids come from a pooled sequence so events are inserted in the same JDBC batches as the orders.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_due", columnList = "failed_at, available_at")
+})
+public class OutboxEvent {
+
+    /**
+     * Unique identifier of the event; events are delivered in id order.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * What happened.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    /**
+     * ID of the order the event is about.
+     */
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    /**
+     * Restaurant of the order, if any.
+     */
+    private Long restaurantId;
+
+    /**
+     * Event body as JSON, up to 64 KB.
+     */
+    @Column(nullable = false, length = 65_535)
+    private String payload;
+
+    /**
+     * When the event was written.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Earliest time of the next delivery attempt; pushed back after each failed attempt.
+     */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    /**
+     * Failed delivery attempts so far.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * Error of the last failed attempt.
+     */
+    @Column(length = 500)
+    private String lastError;
+
+    /**
+     * When the relay gave up on the event; set events are no longer delivered.
+     */
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+}
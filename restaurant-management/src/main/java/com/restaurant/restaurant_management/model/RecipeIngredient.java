@@ -0,0 +1,56 @@
+package com.restaurant.restaurant_management.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity linking a menu item to the inventory items it consumes.
+ * A menu item can use several ingredients and an ingredient can be used by several menu items.
+ * <p>
+ * The unique constraint on (menu_item_id, inventory_id) also serves as the index
+ * used to resolve all ingredients of the menu items in an order by id.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "recipe_ingredients", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_recipe_menu_item_inventory", columnNames = {"menu_item_id", "inventory_id"})
+})
+public class RecipeIngredient {
+
+    /**
+     * Unique identifier for the recipe line.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_ingredients_seq")
+    @SequenceGenerator(name = "recipe_ingredients_seq", sequenceName = "recipe_ingredients_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Menu item this ingredient belongs to.
+     * Cannot be null.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "menu_item_id", nullable = false)
+    private MenuItem menuItem;
+
+    /**
+     * Inventory item consumed when the menu item is ordered.
+     * Cannot be null.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "inventory_id", nullable = false)
+    private Inventory inventory;
+
+    /**
+     * Quantity of the inventory item (in its own unit) used for one serving of the menu item.
+     * Cannot be null.
+     */
+    @Column(nullable = false)
+    private Double quantityPerServing;
+}
@@ -53,6 +53,13 @@ public class Restaurant {
     @Column(length = 13)
     private String phone;
 
+    /**
+     * Tax percentage this restaurant's bills are drafted and issued at, unless staff bill an order
+     * at another rate. When null, {@code billing.default-tax-percent} applies.
+     */
+    @Column(name = "tax_percent")
+    private Double taxPercent;
+
     /**
      * List of menu items available at this restaurant.
      * Cascade ALL is used so that related menu items are persisted/updated/deleted along with the restaurant.
@@ -1,5 +1,6 @@
 package com.restaurant.restaurant_management.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +14,9 @@ import lombok.NoArgsConstructor;
  * This entity is used to manage restaurant seating arrangements and availability.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_restaurant_table_restaurant_id", columnList = "restaurant_id, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -43,4 +47,12 @@ public class RestaurantTable {
     @Column(name = "available")
     @Builder.Default
     private boolean available = true;
+
+    /**
+     * Restaurant the table stands in. Not serialized, since tables are returned as entities.
+     */
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "restaurant_id")
+    private Restaurant restaurant;
 }
@@ -12,6 +12,9 @@ import lombok.Data;
  */
 @Data
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_role_name", columnList = "name")
+})
 public class Role {
 
     /**
@@ -0,0 +1,83 @@
+package com.restaurant.restaurant_management.model;
+
+import com.restaurant.restaurant_management.money.MoneyConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sales totals of one restaurant for one hour of order time, kept up to date as orders are placed,
+ * cancelled and billed, so revenue reports read one row per restaurant and hour instead of scanning orders.
+ * <p>
+ * The unique constraint on (restaurant_id, bucket_start) is the conflict target of the upsert that
+ * creates or increments a row, and the index for one restaurant's range queries; chain-wide reports
+ * read the range on bucket_start.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "sales_hourly", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_sales_hourly_restaurant_bucket", columnNames = {"restaurant_id", "bucket_start"})
+}, indexes = {
+    @Index(name = "idx_sales_hourly_bucket", columnList = "bucket_start")
+})
+public class SalesHourly {
+
+    /**
+     * Unique identifier for the hourly totals row.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ID of the restaurant the orders belong to, or 0 for orders of no restaurant
+     * (a unique key does not treat nulls as equal, so they would never be upserted into one row).
+     */
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    /**
+     * Start of the hour the totals cover.
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    /**
+     * Orders placed in the hour and not cancelled.
+     */
+    @Column(nullable = false)
+    private long orderCount;
+
+    /**
+     * Menu item units in those orders.
+     */
+    @Column(nullable = false)
+    private long itemCount;
+
+    /**
+     * Order totals of those orders, before tax and discount.
+     */
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 12, scale = 2)
+    private Double revenue;
+
+    /**
+     * Bills created for orders placed in the hour.
+     */
+    @Column(nullable = false)
+    private long billCount;
+
+    /**
+     * Billed amounts of those bills, after tax and discount.
+     */
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 12, scale = 2)
+    private Double billedAmount;
+}
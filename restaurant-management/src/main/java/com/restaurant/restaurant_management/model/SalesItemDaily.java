@@ -0,0 +1,75 @@
+package com.restaurant.restaurant_management.model;
+
+import com.restaurant.restaurant_management.money.MoneyConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Units sold and revenue of one menu item on one day in one restaurant, kept up to date as orders are
+ * placed and cancelled. The unique constraint leads with the restaurant, so one restaurant's reports
+ * read only its own rows.
+ * The category is copied from the menu item when the row is created, so per-category reports group
+ * these rows without joining menu items.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "sales_item_daily", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_sales_item_daily_restaurant_date_item",
+            columnNames = {"restaurant_id", "sales_date", "menu_item_id"})
+}, indexes = {
+    @Index(name = "idx_sales_item_daily_date", columnList = "sales_date")
+})
+public class SalesItemDaily {
+
+    /**
+     * Unique identifier for the daily item totals row.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ID of the restaurant the orders belong to, or 0 for orders of no restaurant.
+     */
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    /**
+     * Day of order time the totals cover.
+     */
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    /**
+     * ID of the menu item sold.
+     */
+    @Column(name = "menu_item_id", nullable = false)
+    private Long menuItemId;
+
+    /**
+     * ID of the menu item's category.
+     */
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    /**
+     * Units sold in orders that were not cancelled.
+     */
+    @Column(nullable = false)
+    private long quantity;
+
+    /**
+     * Revenue from those units at the prices they were ordered for.
+     */
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 12, scale = 2)
+    private Double revenue;
+}
@@ -26,6 +26,8 @@ import java.util.Set;
 @Entity
 @Table(name = "users", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"email"})
+}, indexes = {
+    @Index(name = "idx_users_username", columnList = "username")
 })
 @Data
 @NoArgsConstructor
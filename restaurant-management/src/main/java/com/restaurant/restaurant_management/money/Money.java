@@ -0,0 +1,108 @@
+package com.restaurant.restaurant_management.money;
+
+import java.math.RoundingMode;
+
+/**
+ * Exact money arithmetic on amounts held as a {@code long} count of minor units (paise, cents).
+ * <p>
+ * Amounts are stored with two decimals, so converting a stored amount to minor units is exact.
+ * Sums and products are done on primitive longs, so totals carry no floating-point drift and
+ * allocate nothing; only percentages round, and always by an explicit {@link RoundingMode}.
+ * Overflow throws {@link ArithmeticException} instead of wrapping.
+ */
+public final class Money {
+
+    /**
+     * Decimal places of a stored amount.
+     */
+    public static final int SCALE = 2;
+
+    private static final long MINOR_PER_UNIT = 100;
+
+    /**
+     * Percentages are applied in hundredths of a percent (basis points).
+     */
+    private static final long BASIS_POINTS_PER_UNIT = 10_000;
+
+    private Money() {
+    }
+
+    /**
+     * Converts an amount to minor units, rounding half up to the nearest minor unit.
+     *
+     * @param amount the amount, e.g. 249.5
+     * @return the amount in minor units, e.g. 24950
+     */
+    public static long toMinor(double amount) {
+        return Math.round(amount * MINOR_PER_UNIT);
+    }
+
+    /**
+     * Converts minor units back to an amount. The result is the double closest to the exact
+     * two-decimal amount, and converts back to the same minor units.
+     *
+     * @param minor the amount in minor units
+     * @return the amount
+     */
+    public static double toAmount(long minor) {
+        return minor / (double) MINOR_PER_UNIT;
+    }
+
+    /**
+     * Multiplies a unit price by a quantity.
+     *
+     * @param unitMinor unit price in minor units
+     * @param quantity  number of units
+     * @return line total in minor units
+     */
+    public static long times(long unitMinor, long quantity) {
+        return Math.multiplyExact(unitMinor, quantity);
+    }
+
+    /**
+     * Takes a percentage of an amount, rounded to a whole minor unit.
+     * The percentage is used to two decimals, e.g. 12.5% or 18.25%.
+     *
+     * @param minor    the amount in minor units
+     * @param percent  the percentage, e.g. 5.0 for 5%
+     * @param rounding how a fraction of a minor unit is rounded
+     * @return the share in minor units
+     */
+    public static long percentOf(long minor, double percent, RoundingMode rounding) {
+        long basisPoints = Math.round(percent * 100);
+        return divide(Math.multiplyExact(minor, basisPoints), BASIS_POINTS_PER_UNIT, rounding);
+    }
+
+    /**
+     * Divides two longs, rounding the quotient as {@link java.math.BigDecimal} would.
+     *
+     * @param dividend the dividend
+     * @param divisor  the divisor, non-zero
+     * @param rounding how a remainder is rounded
+     * @return the rounded quotient
+     * @throws ArithmeticException if the divisor is zero, or the division is inexact and
+     *                             {@code rounding} is {@link RoundingMode#UNNECESSARY}
+     */
+    static long divide(long dividend, long divisor, RoundingMode rounding) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        int sign = Long.signum(dividend) * Long.signum(divisor);
+        long twiceRemainder = Math.abs(remainder) * 2;
+        long absDivisor = Math.abs(divisor);
+        boolean awayFromZero = switch (rounding) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> sign > 0;
+            case FLOOR -> sign < 0;
+            case HALF_UP -> twiceRemainder >= absDivisor;
+            case HALF_DOWN -> twiceRemainder > absDivisor;
+            case HALF_EVEN -> twiceRemainder > absDivisor || (twiceRemainder == absDivisor && (quotient & 1) != 0);
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return awayFromZero ? quotient + sign : quotient;
+    }
+}
@@ -0,0 +1,27 @@
+package com.restaurant.restaurant_management.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Stores money attributes in fixed-precision DECIMAL columns instead of floating-point ones.
+ * Attributes stay {@code Double} in the entities and DTOs; the value written is the exact
+ * two-decimal amount, so what is read back equals what {@link Money} computed.
+ * Declare the column as {@code @Column(precision = 12, scale = 2)}.
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Double, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Double amount) {
+        return amount != null ? BigDecimal.valueOf(amount).setScale(Money.SCALE, RoundingMode.HALF_UP) : null;
+    }
+
+    @Override
+    public Double convertToEntityAttribute(BigDecimal amount) {
+        return amount != null ? amount.doubleValue() : null;
+    }
+}
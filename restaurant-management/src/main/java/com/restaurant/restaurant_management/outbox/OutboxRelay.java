@@ -0,0 +1,202 @@
+package com.restaurant.restaurant_management.outbox;
+
+import com.restaurant.restaurant_management.model.OutboxEvent;
+import com.restaurant.restaurant_management.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Drains the transactional outbox into the {@link OutboxSubscriber}s.
+ * <p>
+ * Due events are read in batches (oldest first) and handed to every subscriber of their type
+ * outside any transaction; delivered events are deleted in one batch. An event that a subscriber
+ * failed on stays in the table and is retried with exponential backoff, until it has failed
+ * {@code outbox.relay.max-attempts} times and is parked with {@code failed_at} set for inspection.
+ * Delivery is therefore at least once, and a retried event may reach subscribers after later events
+ * of the same order.
+ * <p>
+ * The relay runs when a transaction that wrote events commits and, as a safety net for events
+ * written just before a restart or due for retry, every {@code outbox.relay.poll-interval-ms}.
+ * Only one drain runs at a time per instance; several instances would deliver the same events.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final Duration FIRST_RETRY_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(5);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectProvider<OutboxSubscriber> subscribers;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final ExecutorService dispatcher;
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    /**
+     * Creates the relay. Wake-ups run on a virtual thread when the application runs in
+     * virtual-thread mode, otherwise on a daemon platform thread.
+     *
+     * @param outboxEventRepository outbox table
+     * @param subscribers           receivers of the events, looked up per delivery since they may
+     *                              themselves write to the outbox
+     * @param meterRegistry         registry for the {@code restaurant.outbox.events} counter
+     * @param batchSize             events read and deleted per batch
+     * @param maxAttempts           failed deliveries before an event is parked
+     * @param virtualThreads        whether {@code spring.threads.virtual.enabled} is set
+     */
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ObjectProvider<OutboxSubscriber> subscribers,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.subscribers = subscribers;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.dispatcher = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbox-relay-", 0).factory())
+                : Executors.newCachedThreadPool(Thread.ofPlatform().name("outbox-relay-", 0).daemon(true).factory());
+    }
+
+    /**
+     * Drains the outbox in the background. Returns right away; wake-ups that arrive while one is
+     * pending are merged into it.
+     */
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> {
+                    wakeUpPending.set(false);
+                    drainQuietly();
+                });
+            } catch (RejectedExecutionException e) {
+                wakeUpPending.set(false);
+            }
+        }
+    }
+
+    /**
+     * Periodic drain for events whose wake-up was missed and for retries that became due.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}")
+    void poll() {
+        drainQuietly();
+    }
+
+    /**
+     * Relays due events until a batch comes back short. When another thread is already draining,
+     * it is asked to go round once more instead, so this call never blocks on it.
+     */
+    public void drain() {
+        requested.set(true);
+        while (requested.get() && drainLock.tryLock()) {
+            try {
+                requested.set(false);
+                while (relayBatch() == batchSize) {
+                    // a full batch means more events may be due
+                }
+            } finally {
+                drainLock.unlock();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            logger.warn("Outbox relay failed, retrying on the next poll: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Delivers one batch of due events.
+     *
+     * @return number of events read
+     */
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.findDue(now, PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> delivered = new ArrayList<>(events.size());
+        List<OutboxEvent> failed = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            try {
+                deliver(event);
+                delivered.add(event.getId());
+            } catch (Exception e) {
+                retryLater(event, e, now);
+                failed.add(event);
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(delivered);
+        }
+        if (!failed.isEmpty()) {
+            outboxEventRepository.saveAll(failed);
+        }
+        meterRegistry.counter("restaurant.outbox.events", "outcome", "delivered").increment(delivered.size());
+        return events.size();
+    }
+
+    private void deliver(OutboxEvent event) throws Exception {
+        for (OutboxSubscriber subscriber : subscribers) {
+            if (subscriber.eventTypes().contains(event.getEventType())) {
+                subscriber.handle(event);
+            }
+        }
+    }
+
+    private void retryLater(OutboxEvent event, Exception e, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        event.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+
+        if (attempts >= maxAttempts) {
+            event.setFailedAt(now);
+            meterRegistry.counter("restaurant.outbox.events", "outcome", "failed").increment();
+            logger.error("Outbox event {} ({}) failed {} times, giving up: {}", event.getId(), event.getEventType(),
+                    attempts, error);
+        } else {
+            Duration delay = FIRST_RETRY_DELAY.multipliedBy(1L << Math.min(attempts - 1, 20));
+            event.setAvailableAt(now.plus(delay.compareTo(MAX_RETRY_DELAY) < 0 ? delay : MAX_RETRY_DELAY));
+            meterRegistry.counter("restaurant.outbox.events", "outcome", "retried").increment();
+            logger.debug("Outbox event {} ({}) failed, retrying: {}", event.getId(), event.getEventType(), error);
+        }
+    }
+}
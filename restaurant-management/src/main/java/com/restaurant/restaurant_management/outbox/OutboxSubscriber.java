@@ -0,0 +1,31 @@
+package com.restaurant.restaurant_management.outbox;
+
+import com.restaurant.restaurant_management.enums.OutboxEventType;
+import com.restaurant.restaurant_management.model.OutboxEvent;
+
+import java.util.Set;
+
+/**
+ * Receives outbox events from the relay, off the request thread and after the change committed.
+ * <p>
+ * Delivery is at least once: an event is delivered again if any subscriber failed on it or the
+ * application stopped before the delivery was recorded, so handlers must be idempotent (or tolerate
+ * duplicates, like the live order feed).
+ */
+public interface OutboxSubscriber {
+
+    /**
+     * Returns the event types this subscriber handles.
+     *
+     * @return handled event types
+     */
+    Set<OutboxEventType> eventTypes();
+
+    /**
+     * Handles an event.
+     *
+     * @param event the event, with its JSON payload
+     * @throws Exception if the event could not be handled; it is retried later
+     */
+    void handle(OutboxEvent event) throws Exception;
+}
@@ -0,0 +1,64 @@
+package com.restaurant.restaurant_management.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.restaurant_management.enums.OutboxEventType;
+import com.restaurant.restaurant_management.model.OutboxEvent;
+import com.restaurant.restaurant_management.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Writes events to the transactional outbox as part of the caller's transaction, so an event exists
+ * exactly when the change it describes commits. The insert joins the transaction's JDBC batch, and
+ * the relay is woken once the transaction commits instead of waiting for its next poll.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * Appends an event. Must be called inside the transaction that makes the change.
+     *
+     * @param type         what happened
+     * @param aggregateId  ID of the order the event is about
+     * @param restaurantId restaurant of the order (may be null)
+     * @param payload      event body, serialized to JSON
+     */
+    public void append(OutboxEventType type, Long aggregateId, Long restaurantId, Object payload) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(type)
+                .aggregateId(aggregateId)
+                .restaurantId(restaurantId)
+                .payload(toJson(payload))
+                .createdAt(now)
+                .availableAt(now)
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.wakeUp();
+                }
+            });
+        }
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox event", e);
+        }
+    }
+}
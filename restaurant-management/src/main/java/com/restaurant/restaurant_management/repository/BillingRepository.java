@@ -1,13 +1,22 @@
 package com.restaurant.restaurant_management.repository;
 
+import com.restaurant.restaurant_management.dto.BillingResponseDTO;
 import com.restaurant.restaurant_management.model.Billing;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing Billing entities.
@@ -16,9 +25,11 @@ import java.util.List;
  * <p>
  * Custom Methods:
  * - {@code findByOrderId(Long orderId)}: Fetches billing information for a specific order.
- * - {@code findByUserAndDateRange(String user, LocalDateTime startDate, LocalDateTime endDate)}:
- * Dynamically filters bills based on optional username and date range.
- * Supports partial filtering (any parameter can be null).
+ * - {@code findResponseByOrderId(Long orderId, Long restaurantId)}: Reads a bill (draft or final) straight into its DTO.
+ * - {@code lockByOrderId(Long orderId)}: Loads and row-locks a bill with its order before it is re-rated or finalized.
+ * - {@code findByUserAndDateRange(Long restaurantId, String user, LocalDateTime startDate, LocalDateTime endDate, Long afterId, Pageable pageable)}:
+ * Dynamically filters final bills based on optional restaurant, username and date range, one keyset page at a time.
+ * Supports partial filtering (any filter parameter can be null).
  */
 @Repository
 public interface BillingRepository extends JpaRepository<Billing, Long> {
@@ -29,20 +40,79 @@ public interface BillingRepository extends JpaRepository<Billing, Long> {
      * @param orderId the ID of the order
      * @return the Billing entity associated with the order
      */
-    Billing findByOrderId(Long orderId);
+    @Query("SELECT b FROM Billing b WHERE b.order.id = :orderId")
+    Billing findByOrderId(@Param("orderId") Long orderId);
 
     /**
-     * Retrieves billing records filtered by username and/or date range.
-     * Any of the filters (user, startDate, endDate) can be null to ignore that condition.
+     * Reads the bill of an order, draft or final, in one lookup on the unique order_id index.
      *
+     * @param orderId      the ID of the order
+     * @param restaurantId (optional) the restaurant the bill must belong to
+     * @return the bill as a response DTO, if the order has one in that restaurant
+     */
+    @Query("SELECT new com.restaurant.restaurant_management.dto.BillingResponseDTO(" +
+        "b.id, b.order.id, b.price, b.tax, b.discount, b.totalAmount, b.status) " +
+        "FROM Billing b WHERE b.order.id = :orderId AND (:restaurantId IS NULL OR b.restaurant.id = :restaurantId)")
+    Optional<BillingResponseDTO> findResponseByOrderId(@Param("orderId") Long orderId,
+                                                       @Param("restaurantId") Long restaurantId);
+
+    /**
+     * Loads the bill of an order together with the order and locks the bill row until the
+     * transaction ends, so staff billing and finalization on completion never both issue it.
+     *
+     * @param orderId the ID of the order
+     * @return the locked bill, if the order has one
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Billing b JOIN FETCH b.order WHERE b.order.id = :orderId")
+    Optional<Billing> lockByOrderId(@Param("orderId") Long orderId);
+
+    /**
+     * Retrieves one keyset page of final billing records filtered by restaurant, username and/or date range,
+     * projected straight into response DTOs so the associated orders are never loaded one by one.
+     * Any of the filters (restaurantId, user, startDate, endDate) can be null to ignore that condition.
+     *
+     * @param restaurantId (optional) the restaurant the bills belong to
+     * @param user      (optional) the username associated with the order
+     * @param startDate (optional) lower bound of order date
+     * @param endDate   (optional) upper bound of order date
+     * @param afterId   ID of the last bill of the previous page (0 for the first page)
+     * @param pageable  page request carrying the page size
+     * @return matching Billing records with an ID greater than {@code afterId}, ordered by ID
+     */
+    @Query("SELECT new com.restaurant.restaurant_management.dto.BillingResponseDTO(" +
+        "b.id, b.order.id, b.price, b.tax, b.discount, b.totalAmount, b.status) " +
+        "FROM Billing b WHERE b.status = com.restaurant.restaurant_management.enums.BillingStatus.FINAL AND " +
+        "(:restaurantId IS NULL OR b.restaurant.id = :restaurantId) AND " +
+        "(:user IS NULL OR b.order.user.username = :user) AND " +
+        "(:startDate IS NULL OR b.order.orderDate >= :startDate) AND (:endDate IS NULL OR b.order.orderDate <= :endDate) " +
+        "AND b.id > :afterId ORDER BY b.id")
+    List<BillingResponseDTO> findByUserAndDateRange(@Param("restaurantId") Long restaurantId,
+                                                    @Param("user") String user,
+                                                    @Param("startDate") LocalDateTime startDate,
+                                                    @Param("endDate") LocalDateTime endDate,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
+
+    /**
+     * Streams final billing records filtered by restaurant, username and/or date range, ordered by ID, for exports.
+     * Rows are read forward-only with a JDBC fetch size hint instead of being loaded into a list.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @param restaurantId (optional) the restaurant the bills belong to
      * @param user      (optional) the username associated with the order
      * @param startDate (optional) lower bound of order date
      * @param endDate   (optional) upper bound of order date
-     * @return list of matching Billing records
+     * @return stream of matching Billing records
      */
-    @Query("SELECT b FROM Billing b WHERE (:user IS NULL OR b.order.user.username = :user) AND " +
-        "(:startDate IS NULL OR b.order.orderDate >= :startDate) AND (:endDate IS NULL OR b.order.orderDate <= :endDate)")
-    List<Billing> findByUserAndDateRange(@Param("user") String user,
-                                         @Param("startDate") LocalDateTime startDate,
-                                         @Param("endDate") LocalDateTime endDate);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b FROM Billing b WHERE b.status = com.restaurant.restaurant_management.enums.BillingStatus.FINAL AND " +
+        "(:restaurantId IS NULL OR b.restaurant.id = :restaurantId) AND " +
+        "(:user IS NULL OR b.order.user.username = :user) AND " +
+        "(:startDate IS NULL OR b.order.orderDate >= :startDate) AND (:endDate IS NULL OR b.order.orderDate <= :endDate) " +
+        "ORDER BY b.id")
+    Stream<Billing> streamForExport(@Param("restaurantId") Long restaurantId,
+                                    @Param("user") String user,
+                                    @Param("startDate") LocalDateTime startDate,
+                                    @Param("endDate") LocalDateTime endDate);
 }
@@ -1,10 +1,14 @@
 package com.restaurant.restaurant_management.repository;
 
+import com.restaurant.restaurant_management.dto.BookingResponseDTO;
 import com.restaurant.restaurant_management.enums.BookingStatus;
 import com.restaurant.restaurant_management.model.Booking;
 import com.restaurant.restaurant_management.model.RestaurantTable;
 import com.restaurant.restaurant_management.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -48,7 +52,8 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      * @param tableId the table ID
      * @return list of bookings
      */
-    List<Booking> findByTableId(Long tableId);
+    @Query("SELECT b FROM Booking b WHERE b.table.id = :tableId")
+    List<Booking> findByTableId(@Param("tableId") Long tableId);
 
     /**
      * Retrieves all bookings with a specific booking status.
@@ -64,5 +69,84 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      * @param userId the user's ID
      * @return list of bookings
      */
-    List<Booking> findByUserId(Long userId);
+    @Query("SELECT b FROM Booking b WHERE b.user.id = :userId")
+    List<Booking> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Keyset pagination over all bookings, projected straight into response DTOs.
+     * User and table IDs are read from the foreign key columns, so one query serves the whole page.
+     *
+     * @param afterId  ID of the last booking of the previous page (0 for the first page)
+     * @param pageable page request carrying the page size
+     * @return bookings with an ID greater than {@code afterId}, ordered by ID
+     */
+    @Query("SELECT new com.restaurant.restaurant_management.dto.BookingResponseDTO(" +
+            "b.id, b.user.id, b.table.id, b.startTime, b.endTime, b.status) " +
+            "FROM Booking b WHERE b.id > :afterId ORDER BY b.id")
+    List<BookingResponseDTO> findResponsePage(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Keyset pagination over the bookings of a table, projected straight into response DTOs.
+     *
+     * @param tableId  the table ID
+     * @param afterId  ID of the last booking of the previous page (0 for the first page)
+     * @param pageable page request carrying the page size
+     * @return bookings of the table with an ID greater than {@code afterId}, ordered by ID
+     */
+    @Query("SELECT new com.restaurant.restaurant_management.dto.BookingResponseDTO(" +
+            "b.id, b.user.id, b.table.id, b.startTime, b.endTime, b.status) " +
+            "FROM Booking b WHERE b.table.id = :tableId AND b.id > :afterId ORDER BY b.id")
+    List<BookingResponseDTO> findResponsePageByTableId(@Param("tableId") Long tableId,
+                                                       @Param("afterId") Long afterId,
+                                                       Pageable pageable);
+
+    /**
+     * Keyset pagination over the bookings of one restaurant, optionally of one of its tables,
+     * projected straight into response DTOs and served by the (restaurant_id, id) index.
+     *
+     * @param restaurantId the restaurant ID
+     * @param tableId      optional table ID
+     * @param afterId      ID of the last booking of the previous page (0 for the first page)
+     * @param pageable     page request carrying the page size
+     * @return bookings of the restaurant with an ID greater than {@code afterId}, ordered by ID
+     */
+    @Query("SELECT new com.restaurant.restaurant_management.dto.BookingResponseDTO(" +
+            "b.id, b.user.id, b.table.id, b.startTime, b.endTime, b.status) " +
+            "FROM Booking b WHERE b.restaurant.id = :restaurantId AND (:tableId IS NULL OR b.table.id = :tableId) " +
+            "AND b.id > :afterId ORDER BY b.id")
+    List<BookingResponseDTO> findResponsePageByRestaurantId(@Param("restaurantId") Long restaurantId,
+                                                            @Param("tableId") Long tableId,
+                                                            @Param("afterId") Long afterId,
+                                                            Pageable pageable);
+
+    /**
+     * Retrieves the bookings of a user identified by email, projected straight into response DTOs.
+     *
+     * @param email the user's email
+     * @return bookings of the user, ordered by ID
+     */
+    @Query("SELECT new com.restaurant.restaurant_management.dto.BookingResponseDTO(" +
+            "b.id, b.user.id, b.table.id, b.startTime, b.endTime, b.status) " +
+            "FROM Booking b WHERE b.user.email = :email ORDER BY b.id")
+    List<BookingResponseDTO> findResponsesByUserEmail(@Param("email") String email);
+
+    /**
+     * Retrieves bookings that have not ended yet and are not in the given status.
+     * Used to warm up the in-memory booking index at startup.
+     *
+     * @param time   bookings ending after this time are returned
+     * @param status the status to exclude (e.g., CANCELLED)
+     * @return list of bookings
+     */
+    List<Booking> findByEndTimeAfterAndStatusNot(LocalDateTime time, BookingStatus status);
+
+    /**
+     * Retrieves bookings of a table that have not ended yet and are not in the given status.
+     *
+     * @param tableId the table ID
+     * @param time    bookings ending after this time are returned
+     * @param status  the status to exclude (e.g., CANCELLED)
+     * @return list of bookings
+     */
+    List<Booking> findByTableIdAndEndTimeAfterAndStatusNot(Long tableId, LocalDateTime time, BookingStatus status);
 }
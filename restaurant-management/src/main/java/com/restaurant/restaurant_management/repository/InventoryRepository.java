@@ -1,9 +1,15 @@
 package com.restaurant.restaurant_management.repository;
 
 import com.restaurant.restaurant_management.model.Inventory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,4 +30,40 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
      * @return an Optional containing the Inventory item if found
      */
     Optional<Inventory> findByItemName(String name);
+
+    /**
+     * Atomically decrements the stock of an inventory item if enough quantity is available.
+     * The check and the write happen in a single conditional UPDATE, so concurrent orders
+     * cannot oversell the same item and no row lock is held between a read and a write.
+     *
+     * @param id          the ID of the inventory item
+     * @param amount      the quantity to take out of stock
+     * @param lastUpdated the timestamp to record as the last update
+     * @return the number of updated rows (0 if the item does not exist or stock is insufficient)
+     */
+    @Modifying
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity - :amount, i.lastUpdated = :lastUpdated " +
+            "WHERE i.id = :id AND i.quantity >= :amount")
+    int decrementQuantity(@Param("id") Long id,
+                          @Param("amount") double amount,
+                          @Param("lastUpdated") LocalDateTime lastUpdated);
+
+    /**
+     * Keyset pagination over all inventory items.
+     *
+     * @param afterId  ID of the last item of the previous page (0 for the first page)
+     * @param pageable page request carrying the page size
+     * @return inventory items with an ID greater than {@code afterId}, ordered by ID
+     */
+    List<Inventory> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * Keyset pagination over the inventory items of one restaurant.
+     *
+     * @param restaurantId the restaurant ID
+     * @param afterId      ID of the last item of the previous page (0 for the first page)
+     * @param pageable     page request carrying the page size
+     * @return inventory items of the restaurant with an ID greater than {@code afterId}, ordered by ID
+     */
+    List<Inventory> findByRestaurantIdAndIdGreaterThanOrderByIdAsc(Long restaurantId, Long afterId, Pageable pageable);
 }
@@ -3,6 +3,8 @@ package com.restaurant.restaurant_management.repository;
 import com.restaurant.restaurant_management.model.Category;
 import com.restaurant.restaurant_management.model.MenuItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -23,7 +25,8 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
      * @param categoryId the ID of the category
      * @return a list of menu items in the specified category
      */
-    List<MenuItem> findByCategoryId(Long categoryId);
+    @Query("SELECT m FROM MenuItem m WHERE m.category.id = :categoryId")
+    List<MenuItem> findByCategoryId(@Param("categoryId") Long categoryId);
 
     /**
      * Finds all menu items belonging to the given {@link Category} entity.
@@ -32,4 +35,24 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
      * @return a list of menu items in the specified category
      */
     List<MenuItem> findByCategory(Category category);
+
+    /**
+     * Loads all menu items together with their category in a single query, ordered by ID.
+     * Used to (re)build the in-process menu catalog cache. Items without a category are included.
+     *
+     * @return all menu items with their category initialized
+     */
+    @Query("SELECT m FROM MenuItem m LEFT JOIN FETCH m.category ORDER BY m.id")
+    List<MenuItem> findAllWithCategory();
+
+    /**
+     * Loads the menu items of one restaurant together with their category, ordered by ID.
+     * Used to (re)build that restaurant's partition of the menu catalog cache. Items without a
+     * category are included.
+     *
+     * @param restaurantId the restaurant ID
+     * @return the restaurant's menu items with their category initialized
+     */
+    @Query("SELECT m FROM MenuItem m LEFT JOIN FETCH m.category WHERE m.restaurant.id = :restaurantId ORDER BY m.id")
+    List<MenuItem> findAllWithCategoryByRestaurantId(@Param("restaurantId") Long restaurantId);
 }
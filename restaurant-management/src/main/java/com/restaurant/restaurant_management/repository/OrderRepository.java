@@ -3,13 +3,19 @@ package com.restaurant.restaurant_management.repository;
 import com.restaurant.restaurant_management.enums.OrderStatus;
 import com.restaurant.restaurant_management.model.Order;
 import com.restaurant.restaurant_management.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for {@link Order} entity operations.
@@ -27,6 +33,15 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     List<Order> findByStatus(OrderStatus status);
 
+    /**
+     * Find the orders of one restaurant with a specific status.
+     *
+     * @param restaurantId the restaurant ID
+     * @param status       the order status
+     * @return list of matching orders, ordered by ID
+     */
+    List<Order> findByRestaurantIdAndStatusOrderByIdAsc(Long restaurantId, OrderStatus status);
+
     /**
      * Find all orders placed by a specific user.
      *
@@ -36,9 +51,28 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUser(User user);
 
     /**
-     * Filter orders based on optional user, status, and date range.
+     * Find all orders placed by the user with the given username, without loading the user first.
+     *
+     * @param username the username
+     * @return list of the user's orders, ordered by ID
+     */
+    List<Order> findByUserUsernameOrderByIdAsc(String username);
+
+    /**
+     * Find an order together with its items and their menu items in one query,
+     * for status changes and for counting the order in the sales aggregates.
+     *
+     * @param id the order ID
+     * @return the order with items loaded, if found
+     */
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems i LEFT JOIN FETCH i.menuItem WHERE o.id = :id")
+    Optional<Order> findWithItemsById(@Param("id") Long id);
+
+    /**
+     * Filter orders based on optional restaurant, user, status, and date range.
      * If a parameter is null, that filter is skipped.
      *
+     * @param restaurantId optional restaurant to filter by
      * @param user      optional user to filter by
      * @param status    optional order status to filter by
      * @param startDate optional start of date range
@@ -46,11 +80,13 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @return list of filtered orders
      */
     @Query("SELECT o FROM Order o " +
-            "WHERE (:user IS NULL OR o.user = :user) " +
+            "WHERE (:restaurantId IS NULL OR o.restaurant.id = :restaurantId) " +
+            "AND (:user IS NULL OR o.user = :user) " +
             "AND (:status IS NULL OR o.status = :status) " +
             "AND (:startDate IS NULL OR o.orderDate >= :startDate) " +
             "AND (:endDate IS NULL OR o.orderDate <= :endDate)")
     List<Order> filterOrders(
+            @Param("restaurantId") Long restaurantId,
             @Param("user") User user,
             @Param("status") OrderStatus status,
             @Param("startDate") LocalDateTime startDate,
@@ -92,4 +128,75 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             LocalDateTime start,
             LocalDateTime end
     );
+
+    /**
+     * Keyset pagination over all orders: returns the next orders after the given ID.
+     *
+     * @param afterId  ID of the last order of the previous page (0 for the first page)
+     * @param pageable page request carrying the page size
+     * @return orders with an ID greater than {@code afterId}, ordered by ID
+     */
+    List<Order> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * Keyset pagination over the orders of one restaurant, served by the (restaurant_id, id) index.
+     *
+     * @param restaurantId the restaurant ID
+     * @param afterId      ID of the last order of the previous page (0 for the first page)
+     * @param pageable     page request carrying the page size
+     * @return orders of the restaurant with an ID greater than {@code afterId}, ordered by ID
+     */
+    List<Order> findByRestaurantIdAndIdGreaterThanOrderByIdAsc(Long restaurantId, Long afterId, Pageable pageable);
+
+    /**
+     * Find the orders of one restaurant in a date range, optionally by username and status.
+     *
+     * @param restaurantId the restaurant ID
+     * @param username     optional username to filter by
+     * @param status       optional order status to filter by
+     * @param start        start of the date range
+     * @param end          end of the date range
+     * @return list of matching orders, ordered by ID
+     */
+    @Query("SELECT o FROM Order o " +
+            "WHERE o.restaurant.id = :restaurantId " +
+            "AND (:username IS NULL OR o.user.username = :username) " +
+            "AND (:status IS NULL OR o.status = :status) " +
+            "AND o.orderDate BETWEEN :start AND :end " +
+            "ORDER BY o.id")
+    List<Order> findForRestaurant(
+            @Param("restaurantId") Long restaurantId,
+            @Param("username") String username,
+            @Param("status") OrderStatus status,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    /**
+     * Streams orders matching the optional filters, ordered by ID, for exports.
+     * Rows are read forward-only with a JDBC fetch size hint instead of being loaded into a list.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @param restaurantId optional restaurant to filter by
+     * @param username  optional username to filter by
+     * @param status    optional order status to filter by
+     * @param startDate optional start of date range
+     * @param endDate   optional end of date range
+     * @return stream of matching orders
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT o FROM Order o " +
+            "WHERE (:restaurantId IS NULL OR o.restaurant.id = :restaurantId) " +
+            "AND (:username IS NULL OR o.user.username = :username) " +
+            "AND (:status IS NULL OR o.status = :status) " +
+            "AND (:startDate IS NULL OR o.orderDate >= :startDate) " +
+            "AND (:endDate IS NULL OR o.orderDate <= :endDate) " +
+            "ORDER BY o.id")
+    Stream<Order> streamForExport(
+            @Param("restaurantId") Long restaurantId,
+            @Param("username") String username,
+            @Param("status") OrderStatus status,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
 }
@@ -0,0 +1,29 @@
+package com.restaurant.restaurant_management.repository;
+
+import com.restaurant.restaurant_management.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the transactional outbox. Events are written by the outbox writer and
+ * read, deleted or rescheduled by the outbox relay.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Finds the next events due for delivery, oldest first.
+     *
+     * @param now      events available at or before this time are due
+     * @param pageable page request carrying the batch size
+     * @return due events that have not been parked, ordered by ID
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.failedAt IS NULL AND e.availableAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,95 @@
+package com.restaurant.restaurant_management.repository;
+
+import com.restaurant.restaurant_management.model.RecipeIngredient;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link RecipeIngredient} entities.
+ * <p>
+ * Provides id-based lookups of the inventory items consumed by menu items,
+ * used by order placement to resolve stock without matching on names.
+ */
+@Repository
+public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredient, Long> {
+
+    /**
+     * Finds the recipe lines of all given menu items with a single query.
+     *
+     * @param menuItemIds the IDs of the menu items
+     * @return list of recipe lines for those menu items
+     */
+    @Query("SELECT r FROM RecipeIngredient r WHERE r.menuItem.id IN :menuItemIds")
+    List<RecipeIngredient> findByMenuItemIdIn(@Param("menuItemIds") Collection<Long> menuItemIds);
+
+    /**
+     * Finds the recipe of a single menu item, together with its inventory items.
+     *
+     * @param menuItemId the ID of the menu item
+     * @return list of recipe lines for the menu item
+     */
+    @EntityGraph(attributePaths = "inventory")
+    @Query("SELECT r FROM RecipeIngredient r WHERE r.menuItem.id = :menuItemId")
+    List<RecipeIngredient> findByMenuItemId(@Param("menuItemId") Long menuItemId);
+
+    /**
+     * Deletes the whole recipe of a menu item.
+     *
+     * @param menuItemId the ID of the menu item
+     */
+    @Modifying
+    @Query("DELETE FROM RecipeIngredient r WHERE r.menuItem.id = :menuItemId")
+    void deleteByMenuItemId(@Param("menuItemId") Long menuItemId);
+
+    /**
+     * Deletes every recipe line that consumes an inventory item.
+     *
+     * @param inventoryId the ID of the inventory item
+     */
+    @Modifying
+    @Query("DELETE FROM RecipeIngredient r WHERE r.inventory.id = :inventoryId")
+    void deleteByInventoryId(@Param("inventoryId") Long inventoryId);
+
+    /**
+     * Finds menu items without a recipe that have an inventory item of the same name in the same
+     * restaurant. Used to link stock that was previously matched to menu items by name. Menu items
+     * always belong to a restaurant, so stock without one is never linked to them.
+     *
+     * @return pairs of [MenuItem, Inventory]
+     */
+    @Query("SELECT m, i FROM MenuItem m, Inventory i WHERE i.itemName = m.name " +
+            "AND i.restaurant.id = m.restaurant.id " +
+            "AND NOT EXISTS (SELECT r.id FROM RecipeIngredient r WHERE r.menuItem = m)")
+    List<Object[]> findUnlinkedNameMatches();
+
+    /**
+     * Finds the inventory items of the menu item's restaurant named like the given menu item,
+     * if that menu item has no recipe.
+     *
+     * @param menuItemId the ID of the menu item
+     * @return pairs of [MenuItem, Inventory]
+     */
+    @Query("SELECT m, i FROM MenuItem m, Inventory i WHERE m.id = :menuItemId AND i.itemName = m.name " +
+            "AND i.restaurant.id = m.restaurant.id " +
+            "AND NOT EXISTS (SELECT r.id FROM RecipeIngredient r WHERE r.menuItem = m)")
+    List<Object[]> findUnlinkedNameMatchesByMenuItemId(@Param("menuItemId") Long menuItemId);
+
+    /**
+     * Finds the menu items without a recipe of the inventory item's restaurant that are named
+     * like the given inventory item.
+     *
+     * @param inventoryId the ID of the inventory item
+     * @return pairs of [MenuItem, Inventory]
+     */
+    @Query("SELECT m, i FROM MenuItem m, Inventory i WHERE i.id = :inventoryId AND i.itemName = m.name " +
+            "AND i.restaurant.id = m.restaurant.id " +
+            "AND NOT EXISTS (SELECT r.id FROM RecipeIngredient r WHERE r.menuItem = m)")
+    List<Object[]> findUnlinkedNameMatchesByInventoryId(@Param("inventoryId") Long inventoryId);
+}
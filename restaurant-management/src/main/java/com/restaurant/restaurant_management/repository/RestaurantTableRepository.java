@@ -2,8 +2,12 @@ package com.restaurant.restaurant_management.repository;
 
 import com.restaurant.restaurant_management.model.RestaurantTable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository interface for managing {@link RestaurantTable} entities.
  * Supports standard CRUD operations for restaurant table management,
@@ -12,4 +16,12 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface RestaurantTableRepository extends JpaRepository<RestaurantTable, Long> {
 
+    /**
+     * Finds the tables of one restaurant.
+     *
+     * @param restaurantId the restaurant ID
+     * @return the restaurant's tables
+     */
+    @Query("SELECT t FROM RestaurantTable t WHERE t.restaurant.id = :restaurantId")
+    List<RestaurantTable> findByRestaurantId(@Param("restaurantId") Long restaurantId);
 }
\ No newline at end of file
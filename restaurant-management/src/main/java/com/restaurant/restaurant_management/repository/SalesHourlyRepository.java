@@ -0,0 +1,33 @@
+package com.restaurant.restaurant_management.repository;
+
+import com.restaurant.restaurant_management.model.SalesHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for reading {@link SalesHourly} aggregates. Rows are written by the sales aggregator.
+ */
+@Repository
+public interface SalesHourlyRepository extends JpaRepository<SalesHourly, Long> {
+
+    /**
+     * Finds the hourly totals in a time range, of one restaurant or of every restaurant.
+     * With a restaurant the range is read on the (restaurant_id, bucket_start) key, so only that
+     * restaurant's rows are read.
+     *
+     * @param restaurantId (optional) the restaurant the totals belong to
+     * @param from         start of the range, inclusive
+     * @param to           end of the range, exclusive
+     * @return hourly rows ordered by hour, one per restaurant and hour; hours without orders have no row
+     */
+    @Query("SELECT s FROM SalesHourly s WHERE (:restaurantId IS NULL OR s.restaurantId = :restaurantId) " +
+            "AND s.bucketStart >= :from AND s.bucketStart < :to ORDER BY s.bucketStart")
+    List<SalesHourly> findInRange(@Param("restaurantId") Long restaurantId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,56 @@
+package com.restaurant.restaurant_management.repository;
+
+import com.restaurant.restaurant_management.dto.CategorySalesDTO;
+import com.restaurant.restaurant_management.dto.ItemSalesDTO;
+import com.restaurant.restaurant_management.model.SalesItemDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for reading {@link SalesItemDaily} aggregates. Rows are written by the sales aggregator.
+ */
+@Repository
+public interface SalesItemDailyRepository extends JpaRepository<SalesItemDaily, Long> {
+
+    /**
+     * Sums units and revenue per menu item over a date range, of one restaurant or of every restaurant,
+     * reading one row per restaurant, item and day. Revenue is summed exactly in the DECIMAL column and
+     * converted once.
+     *
+     * @param restaurantId (optional) the restaurant the sales belong to
+     * @param from         first day, inclusive
+     * @param to           last day, inclusive
+     * @return totals per menu item, highest revenue first
+     */
+    @Query("SELECT new com.restaurant.restaurant_management.dto.ItemSalesDTO(" +
+            "s.menuItemId, m.name, s.categoryId, SUM(s.quantity), CAST(SUM(s.revenue) AS Double)) " +
+            "FROM SalesItemDaily s LEFT JOIN MenuItem m ON m.id = s.menuItemId " +
+            "WHERE (:restaurantId IS NULL OR s.restaurantId = :restaurantId) AND s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.menuItemId, m.name, s.categoryId " +
+            "ORDER BY SUM(s.revenue) DESC")
+    List<ItemSalesDTO> sumByMenuItem(@Param("restaurantId") Long restaurantId,
+                                     @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Sums units and revenue per category over a date range, of one restaurant or of every restaurant,
+     * reading one row per restaurant, item and day.
+     *
+     * @param restaurantId (optional) the restaurant the sales belong to
+     * @param from         first day, inclusive
+     * @param to           last day, inclusive
+     * @return totals per category, highest revenue first
+     */
+    @Query("SELECT new com.restaurant.restaurant_management.dto.CategorySalesDTO(" +
+            "s.categoryId, c.name, SUM(s.quantity), CAST(SUM(s.revenue) AS Double)) " +
+            "FROM SalesItemDaily s LEFT JOIN Category c ON c.id = s.categoryId " +
+            "WHERE (:restaurantId IS NULL OR s.restaurantId = :restaurantId) AND s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.categoryId, c.name " +
+            "ORDER BY SUM(s.revenue) DESC")
+    List<CategorySalesDTO> sumByCategory(@Param("restaurantId") Long restaurantId,
+                                         @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
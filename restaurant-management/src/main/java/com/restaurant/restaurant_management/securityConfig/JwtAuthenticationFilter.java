@@ -1,10 +1,14 @@
 package com.restaurant.restaurant_management.securityConfig;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,6 +21,13 @@ import java.io.IOException;
 /**
  * Filter that validates JWT tokens in the Authorization header of incoming requests.
  * This filter runs once per request and sets the Spring Security context if the token is valid.
+ * <p>
+ * By default the authenticated principal is built from the verified token claims (subject and roles),
+ * so requests do not hit the database. Set {@code security.jwt.claims-only=false} to load the user
+ * on every request instead, which makes role changes effective before the token expires.
+ * <p>
+ * Token verification and principal construction are timed as {@code restaurant.jwt.authentication},
+ * tagged by whether the request ended up authenticated.
  */
 @Component
 @RequiredArgsConstructor
@@ -24,6 +35,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+
+    // Build the principal from token claims instead of loading the user from the database
+    @Value("${security.jwt.claims-only:true}")
+    private boolean claimsOnly;
 
     /**
      * Filters incoming HTTP requests to extract and validate JWT tokens.
@@ -54,23 +70,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String authHeader = request.getHeader("Authorization");
+        Timer.Sample sample = authHeader != null ? Timer.start(meterRegistry) : null;
 
-        String jwtToken = null;
-        String userEmail = null;
+        Claims claims = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwtToken = authHeader.substring(7);
             try {
-                userEmail = jwtUtil.extractUsername(jwtToken);
+                // Parsed once; every later check reads these claims
+                claims = jwtUtil.parseClaims(authHeader.substring(7));
             } catch (Exception e) {
                 logger.error("Failed to extract username from JWT: ", e);
             }
         }
 
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+        if (claims != null && claims.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = claimsOnly
+                    ? jwtUtil.extractUserDetails(claims)
+                    : userDetailsService.loadUserByUsername(claims.getSubject());
 
-            if (jwtUtil.validateToken(jwtToken, userDetails)) {
+            if (jwtUtil.validateClaims(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -82,6 +101,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
 
+        if (sample != null) {
+            sample.stop(Timer.builder("restaurant.jwt.authentication")
+                    .description("JWT verification and principal construction")
+                    .tag("authenticated", Boolean.toString(SecurityContextHolder.getContext().getAuthentication() != null))
+                    .register(meterRegistry));
+        }
+
         filterChain.doFilter(request, response);
     }
 
@@ -1,18 +1,33 @@
 package com.restaurant.restaurant_management.securityConfig;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Utility class for handling JWT operations such as token generation and validation.
+ * <p>
+ * Tokens are verified with a single shared, thread-safe parser. Verified claims are cached by
+ * the SHA-256 digest of the token until the token expires, so repeated requests with the same
+ * bearer token skip signature verification and JSON parsing.
  */
 @Component
 public class JwtUtil {
@@ -23,6 +38,17 @@ public class JwtUtil {
     // Token validity period (10 hours)
     private final long jwtExpirationMs = 1000 * 60 * 60 * 10;
 
+    // Maximum number of verified tokens kept in the cache
+    private static final int MAX_CACHED_TOKENS = 10_000;
+
+    // Reusable parser; immutable and safe to share between threads
+    private final JwtParser jwtParser = Jwts.parserBuilder()
+        .setSigningKey(secretKey)
+        .build();
+
+    // Verified claims keyed by the digest of the token they were read from
+    private final Map<String, Claims> verifiedClaims = new ConcurrentHashMap<>();
+
     /**
      * Generate JWT token for the authenticated user.
      * Includes username as subject and roles as a claim.
@@ -53,8 +79,18 @@ public class JwtUtil {
      * @return true if valid; false otherwise
      */
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateClaims(parseClaims(token), userDetails);
+    }
+
+    /**
+     * Validate already parsed token claims by checking username and expiration.
+     *
+     * @param claims      claims returned by {@link #parseClaims(String)}
+     * @param userDetails User details to compare username
+     * @return true if valid; false otherwise
+     */
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 
     /**
@@ -67,6 +103,34 @@ public class JwtUtil {
         return parseClaims(token).getSubject();
     }
 
+    /**
+     * Build the user details of the token's subject from its claims alone.
+     *
+     * @param token JWT token
+     * @return UserDetails holding the subject and its roles
+     * @see #extractUserDetails(Claims)
+     */
+    public UserDetails extractUserDetails(String token) {
+        return extractUserDetails(parseClaims(token));
+    }
+
+    /**
+     * Build the user details of the token's subject from its claims alone.
+     * Authorities come from the "roles" claim written by {@link #generateToken(UserDetails)},
+     * so no database lookup is needed. The password is left empty since it is never checked here.
+     *
+     * @param claims claims returned by {@link #parseClaims(String)}
+     * @return UserDetails holding the subject and its roles
+     */
+    public UserDetails extractUserDetails(Claims claims) {
+        String roles = claims.get("roles", String.class);
+        List<SimpleGrantedAuthority> authorities = roles == null ? List.of() : Arrays.stream(roles.split(","))
+            .filter(role -> !role.isBlank())
+            .map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toList());
+        return new User(claims.getSubject(), "", authorities);
+    }
+
     /**
      * Extract expiration date from JWT token.
      *
@@ -78,26 +142,65 @@ public class JwtUtil {
     }
 
     /**
-     * Check if the token is expired.
+     * Return the claims of a JWT token, verifying it only if it is not already cached.
+     * Cached entries are dropped once the token expires, so an expired token is verified
+     * again and rejected by the parser. Callers that need several values of one token, like the
+     * authentication filter, call this once and pass the claims on.
      *
      * @param token JWT token
-     * @return true if expired; false otherwise
+     * @return Claims object containing token data
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public Claims parseClaims(String token) {
+        String key = digest(token);
+        Claims claims = verifiedClaims.get(key);
+        if (claims != null) {
+            if (!claims.getExpiration().before(new Date())) {
+                return claims;
+            }
+            verifiedClaims.remove(key);
+        }
+
+        claims = verifyClaims(token);
+        if (verifiedClaims.size() >= MAX_CACHED_TOKENS) {
+            evictExpired();
+        }
+        if (verifiedClaims.size() < MAX_CACHED_TOKENS) {
+            verifiedClaims.put(key, claims);
+        }
+        return claims;
     }
 
     /**
-     * Parse and return claims from JWT token.
+     * Verify the signature of a JWT token and parse its claims, bypassing the cache.
      *
      * @param token JWT token
      * @return Claims object containing token data
      */
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(secretKey)
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+    Claims verifyClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Remove the cached claims of tokens that have expired.
+     */
+    private void evictExpired() {
+        Date now = new Date();
+        verifiedClaims.values().removeIf(claims -> claims.getExpiration().before(now));
+    }
+
+    /**
+     * Compute the cache key of a token, so raw tokens are not kept in memory.
+     *
+     * @param token JWT token
+     * @return Base64-encoded SHA-256 digest of the token
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.restaurant.restaurant_management.securityConfig;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,16 +39,24 @@ public class SecurityConfig {
 
                 // Define authorization rules for endpoints
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches of an already authorized request, e.g. when a live order stream ends
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public access: Authentication endpoints
                         .requestMatchers("/v3/api-docs/**",
                                 "/swagger-ui/**",
                                 "/swagger-ui.html").permitAll()
                         .requestMatchers("/auth/**").permitAll()
 
+                        // Actuator: health is public, metrics and Prometheus scrape are admin only
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMIN")
+
                         // Role-based access control
 
                         // Admin only endpoints
                         .requestMatchers("/admin/**").hasAuthority("ROLE_ADMIN")
+                        .requestMatchers("/reports/**").hasAuthority("ROLE_ADMIN")
 
                         // Staff and Admin access
                         .requestMatchers("/staff/**").hasAnyAuthority("ROLE_STAFF", "ROLE_ADMIN")
@@ -58,11 +67,15 @@ public class SecurityConfig {
                         .requestMatchers("/restaurants/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_STAFF")
 
                         // Menu Items - read is public, write operations restricted to Admin/Manager
+                        .requestMatchers(HttpMethod.GET, "/menu-items/cache/stats").hasAuthority("ROLE_ADMIN")
                         .requestMatchers(HttpMethod.GET, "/menu-items/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/menu-items/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_STAFF")
                         .requestMatchers(HttpMethod.PUT, "/menu-items/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_STAFF")
                         .requestMatchers(HttpMethod.DELETE, "/menu-items/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_STAFF")
 
+                        // Table availability search - any signed-in role
+                        .requestMatchers(HttpMethod.GET, "/tables/availability").hasAnyAuthority("ROLE_CUSTOMER", "ROLE_STAFF", "ROLE_ADMIN")
+
                         // Tables management (CRUD) - Admin only
                         .requestMatchers(HttpMethod.POST, "/tables/**").hasAuthority("ROLE_ADMIN")
                         .requestMatchers(HttpMethod.GET, "/tables/**").hasAuthority("ROLE_ADMIN")
@@ -76,12 +89,17 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/bookings").hasAnyAuthority("ROLE_CUSTOMER", "ROLE_ADMIN", "ROLE_STAFF")
                         .requestMatchers(HttpMethod.DELETE, "/bookings/**").hasAnyAuthority("ROLE_CUSTOMER", "ROLE_ADMIN")
 
+                        // Full-period exports of every order and bill - admin only, ahead of the broad /orders and /billing rules
+                        .requestMatchers(HttpMethod.GET, "/orders/admin/orders/export", "/billing/admin/bills/export").hasAuthority("ROLE_ADMIN")
+
                         // Orders - customer and staff/admin roles
                         .requestMatchers(HttpMethod.POST, "/orders/place").hasAuthority("ROLE_CUSTOMER")
+                        .requestMatchers(HttpMethod.POST, "/orders/bulk").hasAnyAuthority("ROLE_STAFF", "ROLE_ADMIN")
                         .requestMatchers(HttpMethod.GET, "/orders/my").hasAuthority("ROLE_CUSTOMER")
                         .requestMatchers(HttpMethod.PUT, "/orders/*/cancel").hasAuthority("ROLE_CUSTOMER")
 
                         .requestMatchers(HttpMethod.GET, "/orders").hasAnyAuthority("ROLE_ADMIN", "ROLE_STAFF")
+                        .requestMatchers(HttpMethod.GET, "/orders/stream").hasAnyAuthority("ROLE_ADMIN", "ROLE_STAFF")
                         .requestMatchers(HttpMethod.PUT, "/orders/*/status").hasAnyAuthority("ROLE_ADMIN", "ROLE_STAFF")
 
                         // Optional: Delete orders - admin and staff only
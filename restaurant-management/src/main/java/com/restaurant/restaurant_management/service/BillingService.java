@@ -1,8 +1,11 @@
 package com.restaurant.restaurant_management.service;
 
 import com.restaurant.restaurant_management.dto.BillingResponseDTO;
+import com.restaurant.restaurant_management.dto.CursorPage;
+import com.restaurant.restaurant_management.enums.ExportFormat;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Service interface for managing billing operations.
@@ -30,12 +33,26 @@ public interface BillingService {
     BillingResponseDTO getBillingByOrderId(Long orderId);
 
     /**
-     * Retrieves a list of billing records filtered by user and optional date range.
+     * Retrieves one keyset page of billing records filtered by user and optional date range.
      *
      * @param user      username to filter bills by (nullable)
      * @param startDate start date for filtering (nullable)
      * @param endDate   end date for filtering (nullable)
-     * @return List of BillingResponseDTO matching the filters
+     * @param afterId   ID of the last bill of the previous page (nullable for the first page)
+     * @param size      requested page size (nullable for the default)
+     * @return page of BillingResponseDTO matching the filters
      */
-    List<BillingResponseDTO> getFilteredBills(String user, String startDate, String endDate);
+    CursorPage<BillingResponseDTO> getFilteredBills(String user, String startDate, String endDate, Long afterId, Integer size);
+
+    /**
+     * Streams all billing records matching the filters to the given output, one record at a time.
+     *
+     * @param user      username to filter bills by (nullable)
+     * @param startDate start date for filtering (nullable)
+     * @param endDate   end date for filtering (nullable)
+     * @param format    output format (NDJSON or CSV)
+     * @param out       stream the export is written to
+     * @throws IOException if writing to the output fails
+     */
+    void exportBills(String user, String startDate, String endDate, ExportFormat format, OutputStream out) throws IOException;
 }
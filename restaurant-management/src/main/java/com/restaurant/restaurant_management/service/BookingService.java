@@ -2,6 +2,7 @@ package com.restaurant.restaurant_management.service;
 
 import com.restaurant.restaurant_management.dto.BookingRequestDTO;
 import com.restaurant.restaurant_management.dto.BookingResponseDTO;
+import com.restaurant.restaurant_management.dto.CursorPage;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -23,12 +24,14 @@ public interface BookingService {
     BookingResponseDTO createBooking(BookingRequestDTO dto, String username);
 
     /**
-     * Retrieves all bookings for a specific table.
+     * Retrieves one keyset page of bookings, optionally for a specific table.
      *
-     * @param tableId the ID of the restaurant table
-     * @return List of BookingResponseDTO for the specified table
+     * @param tableId the ID of the restaurant table (nullable for all tables)
+     * @param afterId ID of the last booking of the previous page (nullable for the first page)
+     * @param size    requested page size (nullable for the default)
+     * @return page of BookingResponseDTO
      */
-    List<BookingResponseDTO> getAllBookings(Long tableId);
+    CursorPage<BookingResponseDTO> getAllBookings(Long tableId, Long afterId, Integer size);
 
     /**
      * Retrieves all bookings made by a specific user.
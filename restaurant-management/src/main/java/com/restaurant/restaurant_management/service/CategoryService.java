@@ -2,6 +2,7 @@ package com.restaurant.restaurant_management.service;
 
 import com.restaurant.restaurant_management.dto.CategoryRequestDTO;
 import com.restaurant.restaurant_management.dto.CategoryResponseDTO;
+import com.restaurant.restaurant_management.dto.SerializedBody;
 
 import java.util.List;
 
@@ -10,6 +11,8 @@ public interface CategoryService {
 
     List<CategoryResponseDTO> getAllCategories();
 
+    SerializedBody getSerializedCategories();
+
     CategoryResponseDTO getCategoryById(Long id);
 
     CategoryResponseDTO updateCategory(Long id, CategoryRequestDTO dto);
@@ -1,6 +1,8 @@
 package com.restaurant.restaurant_management.service;
 
+import com.restaurant.restaurant_management.dto.CursorPage;
 import com.restaurant.restaurant_management.dto.InventoryDTO;
+import com.restaurant.restaurant_management.dto.RecipeIngredientDTO;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -37,11 +39,13 @@ public interface InventoryService {
     InventoryDTO getInventoryById(Long id);
 
     /**
-     * Retrieves all inventory items.
+     * Retrieves one keyset page of inventory items.
      *
-     * @return list of all inventory DTOs
+     * @param afterId ID of the last item of the previous page (nullable for the first page)
+     * @param size    requested page size (nullable for the default)
+     * @return page of inventory DTOs
      */
-    List<InventoryDTO> getAllInventory();
+    CursorPage<InventoryDTO> getAllInventory(Long afterId, Integer size);
 
     /**
      * Deletes an inventory record by ID.
@@ -49,4 +53,21 @@ public interface InventoryService {
      * @param id the ID of the inventory to delete
      */
     void deleteInventory(Long id);
+
+    /**
+     * Retrieves the recipe (inventory items consumed per serving) of a menu item.
+     *
+     * @param menuItemId the ID of the menu item
+     * @return list of recipe ingredient DTOs
+     */
+    List<RecipeIngredientDTO> getRecipe(Long menuItemId);
+
+    /**
+     * Replaces the recipe of a menu item.
+     *
+     * @param menuItemId  the ID of the menu item
+     * @param ingredients the new recipe lines
+     * @return the saved recipe lines
+     */
+    List<RecipeIngredientDTO> updateRecipe(Long menuItemId, List<RecipeIngredientDTO> ingredients);
 }
@@ -1,11 +1,12 @@
 package com.restaurant.restaurant_management.service;
 
+import com.restaurant.restaurant_management.dto.CursorPage;
+import com.restaurant.restaurant_management.dto.MenuCacheStatsDTO;
 import com.restaurant.restaurant_management.dto.MenuItemRequestDTO;
 import com.restaurant.restaurant_management.dto.MenuItemResponseDTO;
+import com.restaurant.restaurant_management.dto.SerializedBody;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 /**
  * Service interface for managing menu items.
  */
@@ -21,12 +22,24 @@ public interface MenuItemService {
     MenuItemResponseDTO createMenuItem(MenuItemRequestDTO dto);
 
     /**
-     * Retrieves all menu items optionally filtered by category ID.
+     * Retrieves one keyset page of menu items optionally filtered by category ID.
+     *
+     * @param categoryId the category ID to filter menu items (nullable)
+     * @param afterId    ID of the last item of the previous page (nullable for the first page)
+     * @param size       requested page size (nullable for the default)
+     * @return page of menu item response DTOs
+     */
+    CursorPage<MenuItemResponseDTO> getAllMenuItems(Long categoryId, Long afterId, Integer size);
+
+    /**
+     * Retrieves one keyset page of menu items as pre-serialized JSON with an ETag.
      *
      * @param categoryId the category ID to filter menu items (nullable)
-     * @return list of menu item response DTOs
+     * @param afterId    ID of the last item of the previous page (nullable for the first page)
+     * @param size       requested page size (nullable for the default)
+     * @return serialized page
      */
-    List<MenuItemResponseDTO> getAllMenuItems(Long categoryId);
+    SerializedBody getSerializedMenuItems(Long categoryId, Long afterId, Integer size);
 
     /**
      * Retrieves a menu item by its ID.
@@ -51,4 +64,11 @@ public interface MenuItemService {
      * @param id the menu item ID to delete
      */
     void deleteMenuItem(Long id);
+
+    /**
+     * Retrieves the statistics of the menu catalog cache.
+     *
+     * @return cache hit/miss/eviction counters and snapshot size
+     */
+    MenuCacheStatsDTO getCacheStats();
 }
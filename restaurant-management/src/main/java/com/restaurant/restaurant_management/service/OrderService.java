@@ -1,9 +1,14 @@
 package com.restaurant.restaurant_management.service;
 
+import com.restaurant.restaurant_management.dto.BulkOrderResult;
+import com.restaurant.restaurant_management.dto.CursorPage;
 import com.restaurant.restaurant_management.dto.OrderResponse;
 import com.restaurant.restaurant_management.dto.PlaceOrderRequest;
-import com.restaurant.restaurant_management.model.Order;
+import com.restaurant.restaurant_management.enums.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -16,9 +21,18 @@ public interface OrderService {
      * Places a new order.
      *
      * @param request the place order request DTO
-     * @return the created Order entity
+     * @return the created order
      */
-    Order placeOrder(PlaceOrderRequest request);
+    OrderResponse placeOrder(PlaceOrderRequest request);
+
+    /**
+     * Places a batch of orders with partial-failure semantics: each order is placed or rejected
+     * on its own and the result lists the outcome of every order in request order.
+     *
+     * @param requests the orders to place
+     * @return one result per order
+     */
+    List<BulkOrderResult> placeOrders(List<PlaceOrderRequest> requests);
 
     /**
      * Retrieves an order by its ID.
@@ -29,11 +43,13 @@ public interface OrderService {
     OrderResponse getOrderById(Long orderId);
 
     /**
-     * Retrieves all orders.
+     * Retrieves one keyset page of all orders.
      *
-     * @return list of order response DTOs
+     * @param afterId ID of the last order of the previous page (nullable for the first page)
+     * @param size    requested page size (nullable for the default)
+     * @return page of order response DTOs
      */
-    List<OrderResponse> getAllOrders();
+    CursorPage<OrderResponse> getAllOrders(Long afterId, Integer size);
 
     /**
      * Retrieves orders by status.
@@ -89,4 +105,25 @@ public interface OrderService {
      * @return list of filtered order response DTOs
      */
     List<OrderResponse> getFilteredOrders(String username, String status, String startDate, String endDate);
+
+    /**
+     * Streams all orders matching the filters to the given output, one record at a time.
+     *
+     * @param username  optional username
+     * @param status    optional status string
+     * @param startDate optional start date-time string (e.g., "2025-06-01T00:00:00")
+     * @param endDate   optional end date-time string (e.g., "2025-06-10T23:59:59")
+     * @param format    output format (NDJSON or CSV)
+     * @param out       stream the export is written to
+     * @throws IOException if writing to the output fails
+     */
+    void exportOrders(String username, String status, String startDate, String endDate,
+                      ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Opens a live stream of order events for kitchen screens.
+     *
+     * @return Server-Sent Events emitter receiving order events
+     */
+    SseEmitter streamOrderEvents();
 }
@@ -0,0 +1,53 @@
+package com.restaurant.restaurant_management.service;
+
+import com.restaurant.restaurant_management.dto.CategorySalesDTO;
+import com.restaurant.restaurant_management.dto.ItemSalesDTO;
+import com.restaurant.restaurant_management.dto.SalesPeriodDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for sales reports, answered from the incrementally maintained sales aggregates.
+ * The aggregates are updated from the outbox, so they trail committed orders by the relay delay.
+ * All ranges are inclusive days of order time. Reports cover the request's restaurant when it is
+ * restaurant-scoped, otherwise the whole chain.
+ */
+public interface ReportService {
+
+    /**
+     * Sales per hour over a date range. Hours without orders are left out.
+     *
+     * @param from first day
+     * @param to   last day
+     * @return totals per hour, in time order
+     */
+    List<SalesPeriodDTO> getHourlySales(LocalDate from, LocalDate to);
+
+    /**
+     * Sales per day over a date range. Days without orders are left out.
+     *
+     * @param from first day
+     * @param to   last day
+     * @return totals per day, in time order
+     */
+    List<SalesPeriodDTO> getDailySales(LocalDate from, LocalDate to);
+
+    /**
+     * Units sold and revenue per menu item over a date range.
+     *
+     * @param from first day
+     * @param to   last day
+     * @return totals per menu item, highest revenue first
+     */
+    List<ItemSalesDTO> getMenuItemSales(LocalDate from, LocalDate to);
+
+    /**
+     * Units sold and revenue per category over a date range.
+     *
+     * @param from first day
+     * @param to   last day
+     * @return totals per category, highest revenue first
+     */
+    List<CategorySalesDTO> getCategorySales(LocalDate from, LocalDate to);
+}
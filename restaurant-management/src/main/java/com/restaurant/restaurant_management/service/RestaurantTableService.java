@@ -5,6 +5,9 @@ import com.restaurant.restaurant_management.dto.TableRequestDTO;
 import com.restaurant.restaurant_management.model.RestaurantTable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Service interface for managing restaurant tables.
  */
@@ -42,4 +45,14 @@ public interface RestaurantTableService {
      * @param id the ID of the table to delete
      */
     void deleteTable(Long id);
+
+    /**
+     * Finds the tables that seat the party and have no booking overlapping the time window.
+     *
+     * @param start     window start
+     * @param end       window end
+     * @param partySize number of guests
+     * @return free tables, smallest fitting capacity first
+     */
+    List<RestaurantTableDto> findAvailableTables(LocalDateTime start, LocalDateTime end, int partySize);
 }
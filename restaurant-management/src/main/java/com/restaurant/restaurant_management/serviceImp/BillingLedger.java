@@ -0,0 +1,189 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.enums.BillingStatus;
+import com.restaurant.restaurant_management.enums.OrderStatus;
+import com.restaurant.restaurant_management.enums.OutboxEventType;
+import com.restaurant.restaurant_management.model.Billing;
+import com.restaurant.restaurant_management.model.Order;
+import com.restaurant.restaurant_management.model.OutboxEvent;
+import com.restaurant.restaurant_management.model.Restaurant;
+import com.restaurant.restaurant_management.money.Money;
+import com.restaurant.restaurant_management.outbox.OutboxSubscriber;
+import com.restaurant.restaurant_management.outbox.OutboxWriter;
+import com.restaurant.restaurant_management.repository.BillingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps every order's bill ready to serve.
+ * <p>
+ * A draft bill at the restaurant's tax rate is written in the transaction that places the order, so
+ * a customer checking their bill reads one precomputed row showing what they will be charged. Staff
+ * billing re-rates the draft (e.g. with a discount) and issues it; otherwise the draft is issued as
+ * drafted once the order is completed. Completion, cancellation and reinstatement reach the ledger
+ * asynchronously through the outbox; on each event the bill is brought in line with the order's
+ * current status, so redelivered or out-of-order events change nothing.
+ */
+@Component
+public class BillingLedger implements OutboxSubscriber {
+
+    private static final Set<OutboxEventType> EVENT_TYPES =
+            EnumSet.of(OutboxEventType.ORDER_STATUS_CHANGED, OutboxEventType.ORDER_CANCELLED);
+
+    private final BillingRepository billingRepository;
+    private final OutboxWriter outboxWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final double defaultTaxPercent;
+    private final RoundingMode rounding;
+
+    /**
+     * Creates the ledger.
+     *
+     * @param billingRepository   bill storage
+     * @param outboxWriter        announces issued bills
+     * @param transactionTemplate transaction for bills synced from outbox events
+     * @param defaultTaxPercent   tax percentage of restaurants without their own rate
+     *                            ({@code billing.default-tax-percent})
+     * @param rounding            rounding of tax and discount to a minor unit, as the tax jurisdiction
+     *                            requires ({@code billing.rounding-mode})
+     */
+    public BillingLedger(BillingRepository billingRepository,
+                         OutboxWriter outboxWriter,
+                         TransactionTemplate transactionTemplate,
+                         @Value("${billing.default-tax-percent:0}") double defaultTaxPercent,
+                         @Value("${billing.rounding-mode:HALF_UP}") RoundingMode rounding) {
+        this.billingRepository = billingRepository;
+        this.outboxWriter = outboxWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.defaultTaxPercent = defaultTaxPercent;
+        this.rounding = rounding;
+    }
+
+    /**
+     * Drafts the bills of newly placed orders. Must be called in the transaction that saves them.
+     *
+     * @param orders saved orders
+     */
+    public void draft(Collection<Order> orders) {
+        billingRepository.saveAll(orders.stream()
+                .map(this::newDraft)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Builds an unsaved draft bill for an order, at its restaurant's tax rate and without discount.
+     *
+     * @param order the order to bill
+     * @return the draft, not yet persisted
+     */
+    public Billing newDraft(Order order) {
+        return calculateBilling(order, taxPercent(order.getRestaurant()), 0, rounding);
+    }
+
+    /**
+     * Returns the tax rate of a restaurant, or the default rate for a restaurant without one
+     * and for orders that belong to no restaurant.
+     */
+    private double taxPercent(Restaurant restaurant) {
+        return restaurant != null && restaurant.getTaxPercent() != null ? restaurant.getTaxPercent() : defaultTaxPercent;
+    }
+
+    /**
+     * Re-rates a bill with the given tax and discount and issues it, writing the billed event to the
+     * outbox, from which the sales reports count it. Must be called in a transaction, on a bill that is
+     * not yet final.
+     *
+     * @param billing         the draft (or new) bill to issue
+     * @param taxPercent      the tax percentage to apply
+     * @param discountPercent the discount percentage to apply
+     * @return the issued bill
+     */
+    public Billing issue(Billing billing, double taxPercent, double discountPercent) {
+        applyRates(billing, taxPercent, discountPercent, rounding);
+        return issue(billing);
+    }
+
+    /**
+     * Issues a bill as it is and writes the billed event to the outbox.
+     */
+    private Billing issue(Billing billing) {
+        billing.setStatus(BillingStatus.FINAL);
+        Billing saved = billingRepository.save(billing);
+        outboxWriter.append(OutboxEventType.ORDER_BILLED, saved.getOrder().getId(),
+                saved.getRestaurant() != null ? saved.getRestaurant().getId() : null,
+                ResponseMapper.toResponse(saved));
+        return saved;
+    }
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        transactionTemplate.executeWithoutResult(status ->
+                billingRepository.lockByOrderId(event.getAggregateId()).ifPresent(this::sync));
+    }
+
+    /**
+     * Issues the draft of a completed order, voids the draft of a cancelled one and drafts again
+     * the bill of a reinstated order. Issued bills are never changed.
+     */
+    private void sync(Billing billing) {
+        OrderStatus orderStatus = billing.getOrder().getStatus();
+        if (billing.getStatus() == BillingStatus.VOID && orderStatus != OrderStatus.CANCELLED) {
+            billing.setStatus(BillingStatus.DRAFT);
+        }
+        if (billing.getStatus() == BillingStatus.DRAFT && orderStatus == OrderStatus.COMPLETED) {
+            issue(billing);
+        } else if (billing.getStatus() == BillingStatus.DRAFT && orderStatus == OrderStatus.CANCELLED) {
+            billing.setStatus(BillingStatus.VOID);
+        }
+    }
+
+    /**
+     * Builds an unsaved draft billing for an order, with tax and discount calculated from the order total.
+     *
+     * @param order           the order to bill
+     * @param taxPercent      the tax percentage to apply
+     * @param discountPercent the discount percentage to apply
+     * @param rounding        how fractions of a minor unit of tax and discount are rounded
+     * @return the billing entity, not yet persisted
+     */
+    static Billing calculateBilling(Order order, double taxPercent, double discountPercent, RoundingMode rounding) {
+        Billing billing = new Billing();
+        billing.setOrder(order);
+        billing.setRestaurant(order.getRestaurant());
+        billing.setStatus(BillingStatus.DRAFT);
+        applyRates(billing, taxPercent, discountPercent, rounding);
+        return billing;
+    }
+
+    /**
+     * Recalculates the price components of a bill from its order total, in minor units.
+     * Tax and discount are each rounded to a whole minor unit; the total is then exact.
+     *
+     * @param billing         the bill, with its order set
+     * @param taxPercent      the tax percentage to apply
+     * @param discountPercent the discount percentage to apply
+     * @param rounding        how fractions of a minor unit of tax and discount are rounded
+     */
+    static void applyRates(Billing billing, double taxPercent, double discountPercent, RoundingMode rounding) {
+        long price = Money.toMinor(billing.getOrder().getTotalAmount());
+        long tax = Money.percentOf(price, taxPercent, rounding);
+        long discount = Money.percentOf(price, discountPercent, rounding);
+
+        billing.setPrice(Money.toAmount(price));
+        billing.setTax(Money.toAmount(tax));
+        billing.setDiscount(Money.toAmount(discount));
+        billing.setTotalAmount(Money.toAmount(Math.subtractExact(Math.addExact(price, tax), discount)));
+    }
+}
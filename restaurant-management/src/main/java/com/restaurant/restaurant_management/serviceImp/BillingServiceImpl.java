@@ -1,20 +1,31 @@
 package com.restaurant.restaurant_management.serviceImp;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurant.restaurant_management.dto.BillingResponseDTO;
+import com.restaurant.restaurant_management.dto.CursorPage;
+import com.restaurant.restaurant_management.enums.BillingStatus;
+import com.restaurant.restaurant_management.enums.ExportFormat;
+import com.restaurant.restaurant_management.enums.OrderStatus;
+import com.restaurant.restaurant_management.exception.InvalidRequestException;
 import com.restaurant.restaurant_management.exception.ResourceNotFoundException;
 import com.restaurant.restaurant_management.model.Billing;
 import com.restaurant.restaurant_management.model.Order;
 import com.restaurant.restaurant_management.repository.BillingRepository;
 import com.restaurant.restaurant_management.repository.OrderRepository;
 import com.restaurant.restaurant_management.service.BillingService;
+import com.restaurant.restaurant_management.tenant.TenantContext;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of BillingService interface for managing billing-related operations.
@@ -25,110 +36,130 @@ public class BillingServiceImpl implements BillingService {
 
     private final BillingRepository billingRepository;
     private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final BillingLedger billingLedger;
 
     /**
-     * Helper method to map Billing entity to BillingResponseDTO.
-     *
-     * @param billing the Billing entity to map
-     * @return BillingResponseDTO with necessary fields populated
-     */
-    private BillingResponseDTO mapToDTO(Billing billing) {
-        BillingResponseDTO dto = new BillingResponseDTO();
-        dto.setId(billing.getId());
-        dto.setOrderId(billing.getOrder().getId());
-        dto.setPrice(billing.getPrice());
-        dto.setTax(billing.getTax());
-        dto.setDiscount(billing.getDiscount());
-        dto.setTotalAmount(billing.getTotalAmount());
-        return dto;
-    }
-
-    /**
-     * Creates a billing record for a given order with calculated tax and discount.
+     * Issues the bill of a given order with calculated tax and discount. The draft drafted with
+     * the order is re-rated and issued; orders placed before drafts existed get a new bill.
      * This method is transactional to ensure data integrity.
      *
      * @param orderId         the ID of the order to bill
      * @param taxPercent      the tax percentage to apply
      * @param discountPercent the discount percentage to apply
-     * @return the created BillingResponseDTO
+     * @return the issued BillingResponseDTO
      * @throws ResourceNotFoundException if order with given ID does not exist
+     * @throws InvalidRequestException   if the order is already billed or was cancelled
      */
     @Override
     @Transactional
     public BillingResponseDTO createBilling(Long orderId, double taxPercent, double discountPercent) {
-        // Retrieve order by ID or throw exception if not found
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId));
-
-        // Calculate price components based on order's total amount
-        double price = order.getTotalAmount();
-        double tax = price * taxPercent / 100;
-        double discount = price * discountPercent / 100;
-        double totalAmount = price + tax - discount;
-
-        // Create new Billing entity and set fields
-        Billing billing = new Billing();
-        billing.setOrder(order);
-        billing.setPrice(price);
-        billing.setTax(tax);
-        billing.setDiscount(discount);
-        billing.setTotalAmount(totalAmount);
-
-        // Persist billing entity
-        billing = billingRepository.save(billing);
+        // Lock the drafted bill, or fall back to the order for a bill from scratch
+        Billing billing = billingRepository.lockByOrderId(orderId)
+                .filter(b -> TenantContext.permits(b.getRestaurant()))
+                .orElseGet(() -> billingLedger.newDraft(orderRepository.findById(orderId)
+                        .filter(o -> TenantContext.permits(o.getRestaurant()))
+                        .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId))));
+        if (billing.getStatus() == BillingStatus.FINAL) {
+            throw new InvalidRequestException("Order is already billed: " + orderId);
+        }
+        // A cancelled order no longer counts in sales, so it must not be billed, even before its draft is voided
+        if (billing.getStatus() == BillingStatus.VOID || billing.getOrder().getStatus() == OrderStatus.CANCELLED) {
+            throw new InvalidRequestException("Cannot bill a cancelled order: " + orderId);
+        }
 
-        // Return DTO mapped from saved billing
-        return mapToDTO(billing);
+        // Apply the requested rates and issue the bill
+        return ResponseMapper.toResponse(billingLedger.issue(billing, taxPercent, discountPercent));
     }
 
     /**
-     * Retrieves the billing details for a specific order.
+     * Retrieves the billing details for a specific order, as drafted or issued.
      *
      * @param orderId the ID of the order
-     * @return BillingResponseDTO or null if billing not found
+     * @return BillingResponseDTO of the order's bill
+     * @throws ResourceNotFoundException if the order has no bill
      */
     @Override
     public BillingResponseDTO getBillingByOrderId(Long orderId) {
-        Billing billing = billingRepository.findByOrderId(orderId);
-        if (billing == null) {
-            throw new ResourceNotFoundException("Billing not found for order ID: " + orderId);
-        }
-
-        return mapToDTO(billing);
+        // One read of the precomputed bill, draft or final, on the unique order_id index
+        return billingRepository.findResponseByOrderId(orderId, TenantContext.restaurantId())
+                .orElseThrow(() -> new ResourceNotFoundException("Billing not found for order ID: " + orderId));
     }
 
     /**
-     * Retrieves a list of billing records filtered by username and date range.
+     * Retrieves one keyset page of billing records filtered by username and date range,
+     * limited to the request's restaurant when it is restaurant-scoped.
      * If the date parameters are null or empty, they are ignored.
      *
      * @param user      the username to filter by
      * @param startDate the start date filter in ISO format (yyyy-MM-dd)
      * @param endDate   the end date filter in ISO format (yyyy-MM-dd)
-     * @return list of BillingResponseDTO matching the filter criteria
+     * @param afterId   ID of the last bill of the previous page (optional)
+     * @param size      requested page size (optional)
+     * @return page of BillingResponseDTO matching the filter criteria
      */
     @Override
-    public List<BillingResponseDTO> getFilteredBills(String user, String startDate, String endDate) {
-        LocalDateTime start = null;
-        LocalDateTime end = null;
+    public CursorPage<BillingResponseDTO> getFilteredBills(String user, String startDate, String endDate, Long afterId, Integer size) {
+        LocalDateTime start = parseStartDate(startDate);
+        LocalDateTime end = parseEndDate(endDate);
+
+        // Fetch one page of filtered billing records, already projected into DTOs
+        int pageSize = CursorPage.resolveSize(size);
+        List<BillingResponseDTO> bills = billingRepository.findByUserAndDateRange(
+                TenantContext.restaurantId(), user, start, end, CursorPage.resolveCursor(afterId), PageRequest.of(0, pageSize));
+        return CursorPage.of(bills, pageSize, BillingResponseDTO::getId);
+    }
 
-        // Parse and convert startDate to start of the day if provided
-        if (startDate != null && !startDate.isEmpty()) {
-            LocalDate startLocalDate = LocalDate.parse(startDate);
-            start = startLocalDate.atStartOfDay();
+    /**
+     * Streams the filtered billing records to the output. Each bill is written and detached
+     * right away, so neither the persistence context nor the response grows with the number of rows.
+     *
+     * @param user      the username to filter by
+     * @param startDate the start date filter in ISO format (yyyy-MM-dd)
+     * @param endDate   the end date filter in ISO format (yyyy-MM-dd)
+     * @param format    output format (NDJSON or CSV)
+     * @param out       stream the export is written to
+     * @throws IOException if writing to the output fails
+     */
+    @Override
+    @Transactional
+    public void exportBills(String user, String startDate, String endDate, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Billing> bills = billingRepository.streamForExport(
+                TenantContext.restaurantId(), user, parseStartDate(startDate), parseEndDate(endDate));
+             RecordExportWriter<BillingResponseDTO> writer = new RecordExportWriter<>(out, format, objectMapper,
+                     new String[]{"id", "orderId", "price", "tax", "discount", "totalAmount"},
+                     b -> new Object[]{b.getId(), b.getOrderId(), b.getPrice(), b.getTax(), b.getDiscount(), b.getTotalAmount()})) {
+            for (Billing billing : (Iterable<Billing>) bills::iterator) {
+                writer.write(ResponseMapper.toResponse(billing));
+                entityManager.detach(billing);
+            }
         }
+    }
 
-        // Parse and convert endDate to end of the day if provided
-        if (endDate != null && !endDate.isEmpty()) {
-            LocalDate endLocalDate = LocalDate.parse(endDate);
-            end = endLocalDate.atTime(23, 59, 59, 999_999_999);
+    /**
+     * Parses a start date filter and converts it to the start of that day.
+     *
+     * @param startDate date in ISO format (yyyy-MM-dd), may be null or empty
+     * @return start of the day, or null if no date was given
+     */
+    private LocalDateTime parseStartDate(String startDate) {
+        if (startDate == null || startDate.isEmpty()) {
+            return null;
         }
+        return LocalDate.parse(startDate).atStartOfDay();
+    }
 
-        // Fetch filtered billing records from repository
-        List<Billing> bills = billingRepository.findByUserAndDateRange(user, start, end);
-
-        // Map Billing entities to DTOs and return as list
-        return bills.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    /**
+     * Parses an end date filter and converts it to the end of that day.
+     *
+     * @param endDate date in ISO format (yyyy-MM-dd), may be null or empty
+     * @return end of the day, or null if no date was given
+     */
+    private LocalDateTime parseEndDate(String endDate) {
+        if (endDate == null || endDate.isEmpty()) {
+            return null;
+        }
+        return LocalDate.parse(endDate).atTime(23, 59, 59, 999_999_999);
     }
 }
@@ -0,0 +1,164 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.enums.BookingStatus;
+import com.restaurant.restaurant_management.model.Booking;
+import com.restaurant.restaurant_management.repository.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of the active (not cancelled, not yet ended) bookings of every table.
+ * <p>
+ * Each table keeps its booked slots in a map sorted by start time. Slots of a table never
+ * overlap, so checking a new slot only needs the booked slot with the greatest start before the
+ * new end: O(log n). Checks and reservations of a table run under that table's lock, which makes
+ * "check then reserve" atomic for concurrent requests without blocking other tables.
+ * <p>
+ * Slots are half-open [start, end), so back-to-back bookings are allowed. The index is warmed from
+ * the database at startup and a table is loaded on first use if it was not warmed. It is local to
+ * this application instance.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingIntervalIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingIntervalIndex.class);
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Long, TableSchedule> schedules = new ConcurrentHashMap<>();
+
+    /**
+     * Loads all active bookings into the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Booking> bookings = bookingRepository.findByEndTimeAfterAndStatusNot(LocalDateTime.now(), BookingStatus.CANCELLED);
+
+        Map<Long, TableSchedule> loaded = new HashMap<>();
+        for (Booking booking : bookings) {
+            loaded.computeIfAbsent(booking.getTable().getId(), id -> new TableSchedule())
+                    .add(booking.getStartTime(), booking.getEndTime());
+        }
+        loaded.forEach(schedules::putIfAbsent);
+        logger.info("Booking index warmed with {} bookings on {} tables", bookings.size(), loaded.size());
+    }
+
+    /**
+     * Checks whether a table has no booking overlapping the given slot.
+     *
+     * @param tableId the table ID
+     * @param start   slot start (inclusive)
+     * @param end     slot end (exclusive)
+     * @return true if the slot is free
+     */
+    public boolean isFree(Long tableId, LocalDateTime start, LocalDateTime end) {
+        TableSchedule schedule = schedule(tableId);
+        schedule.lock.lock();
+        try {
+            return !schedule.overlaps(start, end);
+        } finally {
+            schedule.lock.unlock();
+        }
+    }
+
+    /**
+     * Atomically checks that a slot is free and reserves it.
+     *
+     * @param tableId the table ID
+     * @param start   slot start (inclusive)
+     * @param end     slot end (exclusive)
+     * @return true if the slot was reserved, false if it overlaps an existing booking
+     */
+    public boolean tryReserve(Long tableId, LocalDateTime start, LocalDateTime end) {
+        TableSchedule schedule = schedule(tableId);
+        schedule.lock.lock();
+        try {
+            schedule.pruneEndedBefore(LocalDateTime.now());
+            if (schedule.overlaps(start, end)) {
+                return false;
+            }
+            schedule.add(start, end);
+            return true;
+        } finally {
+            schedule.lock.unlock();
+        }
+    }
+
+    /**
+     * Frees a reserved slot, e.g. when the booking is cancelled or could not be saved.
+     * Slots never overlap, so the booked slot overlapping the given window is the one removed;
+     * this tolerates the precision lost when times round-trip through the database.
+     *
+     * @param tableId the table ID
+     * @param start   slot start
+     * @param end     slot end
+     */
+    public void release(Long tableId, LocalDateTime start, LocalDateTime end) {
+        TableSchedule schedule = schedules.get(tableId);
+        if (schedule == null) {
+            return;
+        }
+        schedule.lock.lock();
+        try {
+            Map.Entry<LocalDateTime, LocalDateTime> slot = schedule.slots.lowerEntry(end);
+            if (slot != null && slot.getValue().isAfter(start)) {
+                schedule.slots.remove(slot.getKey());
+            }
+        } finally {
+            schedule.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the schedule of a table, loading it from the database if it is not indexed yet.
+     */
+    private TableSchedule schedule(Long tableId) {
+        TableSchedule schedule = schedules.get(tableId);
+        if (schedule != null) {
+            return schedule;
+        }
+
+        TableSchedule loaded = new TableSchedule();
+        bookingRepository.findByTableIdAndEndTimeAfterAndStatusNot(tableId, LocalDateTime.now(), BookingStatus.CANCELLED)
+                .forEach(booking -> loaded.add(booking.getStartTime(), booking.getEndTime()));
+        TableSchedule existing = schedules.putIfAbsent(tableId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * Booked slots of a single table, keyed by start time with the end time as value.
+     */
+    private static final class TableSchedule {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final TreeMap<LocalDateTime, LocalDateTime> slots = new TreeMap<>();
+
+        private boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            Map.Entry<LocalDateTime, LocalDateTime> latestBefore = slots.lowerEntry(end);
+            return latestBefore != null && latestBefore.getValue().isAfter(start);
+        }
+
+        private void add(LocalDateTime start, LocalDateTime end) {
+            slots.put(start, end);
+        }
+
+        private void pruneEndedBefore(LocalDateTime time) {
+            while (!slots.isEmpty() && !slots.firstEntry().getValue().isAfter(time)) {
+                slots.pollFirstEntry();
+            }
+        }
+    }
+}
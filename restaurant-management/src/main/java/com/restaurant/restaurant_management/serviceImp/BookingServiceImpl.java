@@ -2,7 +2,10 @@ package com.restaurant.restaurant_management.serviceImp;
 
 import com.restaurant.restaurant_management.dto.BookingRequestDTO;
 import com.restaurant.restaurant_management.dto.BookingResponseDTO;
+import com.restaurant.restaurant_management.dto.CursorPage;
 import com.restaurant.restaurant_management.enums.BookingStatus;
+import com.restaurant.restaurant_management.exception.BookingConflictException;
+import com.restaurant.restaurant_management.exception.InvalidRequestException;
 import com.restaurant.restaurant_management.exception.ResourceNotFoundException;
 import com.restaurant.restaurant_management.model.Booking;
 import com.restaurant.restaurant_management.model.RestaurantTable;
@@ -12,7 +15,9 @@ import com.restaurant.restaurant_management.repository.BookingRepository;
 import com.restaurant.restaurant_management.repository.RestaurantTableRepository;
 import com.restaurant.restaurant_management.repository.UserRepository;
 import com.restaurant.restaurant_management.service.BookingService;
+import com.restaurant.restaurant_management.tenant.TenantContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -32,59 +37,88 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final RestaurantTableRepository tableRepository;
     private final UserRepository userRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
 
     /**
      * Creates a booking for a user at a specified restaurant table.
+     * The slot is reserved in the booking index first, so concurrent requests for
+     * overlapping slots of the same table cannot both succeed.
      *
      * @param dto      the booking request details including tableId, startTime, endTime
      * @param username the email/username of the user making the booking
      * @return BookingResponseDTO containing the booking details
      * @throws ResourceNotFoundException if table or user not found
+     * @throws InvalidRequestException   if the time window is missing or empty
+     * @throws BookingConflictException  if the slot overlaps an existing booking of the table
      */
     @Override
     public BookingResponseDTO createBooking(BookingRequestDTO dto, String username) {
+        if (dto.getStartTime() == null || dto.getEndTime() == null || !dto.getStartTime().isBefore(dto.getEndTime())) {
+            throw new InvalidRequestException("Booking start time must be before end time");
+        }
+
         // Fetch restaurant table by id, or throw if not found
         RestaurantTable table = tableRepository.findById(dto.getTableId())
+                .filter(t -> TenantContext.permits(t.getRestaurant()))
                 .orElseThrow(() -> new ResourceNotFoundException("Table not found with id: " + dto.getTableId()));
 
         // Fetch user by email (username), or throw if not found
         User user = userRepository.findByEmail(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + username));
 
+        // Atomically check and reserve the slot for this table
+        if (!bookingIntervalIndex.tryReserve(table.getId(), dto.getStartTime(), dto.getEndTime())) {
+            throw new BookingConflictException("Table " + table.getId() + " is already booked between "
+                    + dto.getStartTime() + " and " + dto.getEndTime());
+        }
+
         // Create and populate booking entity
         Booking booking = new Booking();
         booking.setTable(table);
+        booking.setRestaurant(table.getRestaurant());
         booking.setUser(user);
         booking.setStartTime(dto.getStartTime());
         booking.setEndTime(dto.getEndTime());
         booking.setStatus(BookingStatus.CONFIRMED);
 
-        // Save booking to repository
-        Booking saved = bookingRepository.save(booking);
+        // Save booking to repository, freeing the slot again if that fails
+        Booking saved;
+        try {
+            saved = bookingRepository.save(booking);
+        } catch (RuntimeException ex) {
+            bookingIntervalIndex.release(table.getId(), dto.getStartTime(), dto.getEndTime());
+            throw ex;
+        }
 
         // Map saved entity to response DTO and return
-        return mapToDTO(saved);
+        return ResponseMapper.toResponse(saved);
     }
 
     /**
-     * Retrieves all bookings optionally filtered by a specific table ID.
+     * Retrieves one keyset page of bookings optionally filtered by a specific table ID,
+     * limited to the request's restaurant when it is restaurant-scoped.
      *
      * @param tableId the restaurant table ID to filter bookings (optional)
-     * @return list of BookingResponseDTO matching the filter criteria
+     * @param afterId ID of the last booking of the previous page (optional)
+     * @param size    requested page size (optional)
+     * @return page of BookingResponseDTO matching the filter criteria
      */
     @Override
-    public List<BookingResponseDTO> getAllBookings(Long tableId) {
-        List<Booking> bookings;
-
-        if (tableId != null) {
-            bookings = bookingRepository.findByTableId(tableId);
+    public CursorPage<BookingResponseDTO> getAllBookings(Long tableId, Long afterId, Integer size) {
+        int pageSize = CursorPage.resolveSize(size);
+        long cursor = CursorPage.resolveCursor(afterId);
+        List<BookingResponseDTO> bookings;
+        Long restaurantId = TenantContext.restaurantId();
+
+        if (restaurantId != null) {
+            bookings = bookingRepository.findResponsePageByRestaurantId(restaurantId, tableId, cursor, PageRequest.of(0, pageSize));
+        } else if (tableId != null) {
+            bookings = bookingRepository.findResponsePageByTableId(tableId, cursor, PageRequest.of(0, pageSize));
         } else {
-            bookings = bookingRepository.findAll();
+            bookings = bookingRepository.findResponsePage(cursor, PageRequest.of(0, pageSize));
         }
 
-        return bookings.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return CursorPage.of(bookings, pageSize, BookingResponseDTO::getId);
     }
 
     /**
@@ -92,22 +126,15 @@ public class BookingServiceImpl implements BookingService {
      *
      * @param username the email/username of the user
      * @return list of BookingResponseDTO for the user
-     * @throws ResourceNotFoundException if user not found
      */
     @Override
     public List<BookingResponseDTO> getBookingsByUsername(String username) {
-        User user = userRepository.findByEmail(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + username));
-
-        List<Booking> bookings = bookingRepository.findByUser(user);
-
-        return bookings.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByUserEmail(username);
     }
 
     /**
-     * Cancels a booking by updating its status to CANCELLED.
+     * Cancels a booking by updating its status to CANCELLED and frees its slot in the booking index.
+     * Cancelling an already cancelled booking has no effect.
      *
      * @param bookingId the ID of the booking to cancel
      * @throws ResourceNotFoundException if booking not found
@@ -115,10 +142,16 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public void cancelBooking(Long bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
+                .filter(b -> TenantContext.permits(b.getRestaurant()))
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
 
+        if (booking.getStatus() == BookingStatus.CANCELLED) {
+            return;
+        }
+
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+        bookingIntervalIndex.release(booking.getTable().getId(), booking.getStartTime(), booking.getEndTime());
     }
 
     /**
@@ -131,26 +164,10 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public BookingResponseDTO getBookingById(Long bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
+                .filter(b -> TenantContext.permits(b.getRestaurant()))
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
 
-        return mapToDTO(booking);
-    }
-
-    /**
-     * Maps a Booking entity to a BookingResponseDTO.
-     *
-     * @param booking the Booking entity
-     * @return the mapped BookingResponseDTO
-     */
-    private BookingResponseDTO mapToDTO(Booking booking) {
-        return BookingResponseDTO.builder()
-                .id(booking.getId())
-                .userId(booking.getUser().getId())
-                .tableId(booking.getTable().getId())
-                .startTime(booking.getStartTime())
-                .endTime(booking.getEndTime())
-                .status(booking.getStatus())
-                .build();
+        return ResponseMapper.toResponse(booking);
     }
 
     /**
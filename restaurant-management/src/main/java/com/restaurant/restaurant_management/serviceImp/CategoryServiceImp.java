@@ -2,6 +2,7 @@ package com.restaurant.restaurant_management.serviceImp;
 
 import com.restaurant.restaurant_management.dto.CategoryRequestDTO;
 import com.restaurant.restaurant_management.dto.CategoryResponseDTO;
+import com.restaurant.restaurant_management.dto.SerializedBody;
 import com.restaurant.restaurant_management.dto.UserRegistrationDto;
 import com.restaurant.restaurant_management.enums.RoleType;
 import com.restaurant.restaurant_management.exception.ResourceNotFoundException;
@@ -20,13 +21,13 @@ import org.springframework.stereotype.Service;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryServiceImp implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final MenuCatalogCache menuCatalogCache;
 
     @Override
     public CategoryResponseDTO createCategory(CategoryRequestDTO dto) {
@@ -34,22 +35,28 @@ public class CategoryServiceImp implements CategoryService {
         category.setName(dto.getName());
         category.setDescription(dto.getDescription());
         Category saved = categoryRepository.save(category);
+        menuCatalogCache.invalidate();
         return mapToResponseDTO(saved);
     }
 
     @Override
     public List<CategoryResponseDTO> getAllCategories() {
-        return categoryRepository.findAll()
-                .stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+        return menuCatalogCache.snapshot().categories();
+    }
+
+    @Override
+    public SerializedBody getSerializedCategories() {
+        return menuCatalogCache.serialized(menuCatalogCache.snapshot(), "categories",
+                MenuCatalogCache.Snapshot::categories);
     }
 
     @Override
     public CategoryResponseDTO getCategoryById(Long id) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
-        return mapToResponseDTO(category);
+        CategoryResponseDTO category = menuCatalogCache.snapshot().categoriesById().get(id);
+        if (category == null) {
+            throw new ResourceNotFoundException("Category not found with id: " + id);
+        }
+        return category;
     }
 
     @Override
@@ -60,6 +67,7 @@ public class CategoryServiceImp implements CategoryService {
         category.setName(dto.getName());
         category.setDescription(dto.getDescription());
         Category updated = categoryRepository.save(category);
+        menuCatalogCache.invalidate();
         return mapToResponseDTO(updated);
     }
 
@@ -68,6 +76,7 @@ public class CategoryServiceImp implements CategoryService {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
         categoryRepository.delete(category);
+        menuCatalogCache.invalidate();
     }
 
     private CategoryResponseDTO mapToResponseDTO(Category category) {
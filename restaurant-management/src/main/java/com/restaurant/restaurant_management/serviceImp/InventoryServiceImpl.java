@@ -1,13 +1,29 @@
 package com.restaurant.restaurant_management.serviceImp;
 
+import com.restaurant.restaurant_management.dto.CursorPage;
 import com.restaurant.restaurant_management.dto.InventoryDTO;
+import com.restaurant.restaurant_management.dto.RecipeIngredientDTO;
+import com.restaurant.restaurant_management.exception.InvalidRequestException;
+import com.restaurant.restaurant_management.exception.ResourceNotFoundException;
 import com.restaurant.restaurant_management.model.Inventory;
+import com.restaurant.restaurant_management.model.MenuItem;
+import com.restaurant.restaurant_management.model.RecipeIngredient;
 import com.restaurant.restaurant_management.repository.InventoryRepository;
+import com.restaurant.restaurant_management.repository.MenuItemRepository;
+import com.restaurant.restaurant_management.repository.RecipeIngredientRepository;
+import com.restaurant.restaurant_management.repository.RestaurantRepository;
 import com.restaurant.restaurant_management.service.InventoryService;
+import com.restaurant.restaurant_management.tenant.TenantContext;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -18,6 +34,10 @@ import java.util.stream.Collectors;
 public class InventoryServiceImpl implements InventoryService {
 
     private final InventoryRepository inventoryRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final RecipeLinker recipeLinker;
 
     /**
      * Converts Inventory entity to InventoryDTO.
@@ -52,19 +72,27 @@ public class InventoryServiceImpl implements InventoryService {
     }
 
     /**
-     * Creates a new inventory item.
+     * Creates a new inventory item, as stock of the request's restaurant when it is restaurant-scoped.
+     * Menu items of the same name that have no recipe yet are linked to it.
      *
      * @param dto Inventory data transfer object with item details
      * @return created InventoryDTO
      */
     @Override
     public InventoryDTO createInventory(InventoryDTO dto) {
-        Inventory inventory = inventoryRepository.save(convertToEntity(dto));
+        Inventory entity = convertToEntity(dto);
+        Long restaurantId = TenantContext.restaurantId();
+        if (restaurantId != null) {
+            entity.setRestaurant(restaurantRepository.getReferenceById(restaurantId));
+        }
+        Inventory inventory = inventoryRepository.save(entity);
+        recipeLinker.linkInventory(inventory.getId());
         return convertToDTO(inventory);
     }
 
     /**
-     * Updates an existing inventory item by ID.
+     * Updates an existing inventory item by ID. Menu items of its (new) name that have no recipe
+     * yet are linked to it.
      *
      * @param id  inventory ID to update
      * @param dto inventory data with updated values
@@ -74,6 +102,7 @@ public class InventoryServiceImpl implements InventoryService {
     @Override
     public InventoryDTO updateInventory(Long id, InventoryDTO dto) {
         Inventory inventory = inventoryRepository.findById(id)
+            .filter(i -> TenantContext.permits(i.getRestaurant()))
             .orElseThrow(() -> new RuntimeException("Inventory not found with id: " + id));
 
         inventory.setItemName(dto.getItemName());
@@ -82,6 +111,7 @@ public class InventoryServiceImpl implements InventoryService {
         inventory.setPricePerUnit(dto.getPricePerUnit());
 
         Inventory updatedInventory = inventoryRepository.save(inventory);
+        recipeLinker.linkInventory(updatedInventory.getId());
         return convertToDTO(updatedInventory);
     }
 
@@ -95,30 +125,140 @@ public class InventoryServiceImpl implements InventoryService {
     @Override
     public InventoryDTO getInventoryById(Long id) {
         return inventoryRepository.findById(id)
+            .filter(i -> TenantContext.permits(i.getRestaurant()))
             .map(this::convertToDTO)
             .orElseThrow(() -> new RuntimeException("Inventory not found with id: " + id));
     }
 
     /**
-     * Retrieves all inventory items.
+     * Retrieves one keyset page of inventory items, only the request's restaurant's when it is
+     * restaurant-scoped.
      *
-     * @return list of all InventoryDTOs
+     * @param afterId ID of the last item of the previous page (optional)
+     * @param size    requested page size (optional)
+     * @return page of InventoryDTOs
      */
     @Override
-    public List<InventoryDTO> getAllInventory() {
-        return inventoryRepository.findAll()
+    public CursorPage<InventoryDTO> getAllInventory(Long afterId, Integer size) {
+        int pageSize = CursorPage.resolveSize(size);
+        long cursor = CursorPage.resolveCursor(afterId);
+        Long restaurantId = TenantContext.restaurantId();
+        List<Inventory> page = restaurantId != null
+            ? inventoryRepository.findByRestaurantIdAndIdGreaterThanOrderByIdAsc(restaurantId, cursor, PageRequest.of(0, pageSize))
+            : inventoryRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, pageSize));
+        List<InventoryDTO> items = page
             .stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
+        return CursorPage.of(items, pageSize, InventoryDTO::getId);
     }
 
     /**
-     * Deletes inventory item by ID.
+     * Deletes inventory item by ID, together with the recipe lines that consume it.
+     * Items of other restaurants are left alone in a restaurant-scoped request.
      *
      * @param id inventory ID to delete
      */
     @Override
+    @Transactional
     public void deleteInventory(Long id) {
-        inventoryRepository.deleteById(id);
+        inventoryRepository.findById(id)
+            .filter(i -> TenantContext.permits(i.getRestaurant()))
+            .ifPresent(inventory -> {
+                recipeIngredientRepository.deleteByInventoryId(inventory.getId());
+                inventoryRepository.delete(inventory);
+            });
+    }
+
+    /**
+     * Retrieves the recipe of a menu item.
+     *
+     * @param menuItemId menu item ID
+     * @return list of RecipeIngredientDTOs
+     * @throws ResourceNotFoundException if menu item with given ID not found
+     */
+    @Override
+    public List<RecipeIngredientDTO> getRecipe(Long menuItemId) {
+        if (!menuItemRepository.existsById(menuItemId)) {
+            throw new ResourceNotFoundException("MenuItem not found with id: " + menuItemId);
+        }
+        return recipeIngredientRepository.findByMenuItemId(menuItemId)
+            .stream()
+            .map(this::convertToDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Replaces the recipe of a menu item with the given ingredient lines.
+     *
+     * @param menuItemId  menu item ID
+     * @param ingredients new recipe lines
+     * @return saved RecipeIngredientDTOs
+     * @throws ResourceNotFoundException if the menu item or an inventory item is not found
+     * @throws InvalidRequestException   if the recipe is missing, a line has no inventory ID, an
+     *                                   inventory item appears twice or a line has no positive
+     *                                   quantity per serving
+     */
+    @Override
+    @Transactional
+    public List<RecipeIngredientDTO> updateRecipe(Long menuItemId, List<RecipeIngredientDTO> ingredients) {
+        MenuItem menuItem = menuItemRepository.findById(menuItemId)
+            .filter(m -> TenantContext.permits(m.getRestaurant()))
+            .orElseThrow(() -> new ResourceNotFoundException("MenuItem not found with id: " + menuItemId));
+
+        if (ingredients == null) {
+            throw new InvalidRequestException("Recipe must be a list of ingredient lines");
+        }
+        Set<Long> inventoryIds = new HashSet<>();
+        for (RecipeIngredientDTO dto : ingredients) {
+            if (dto == null || dto.getInventoryId() == null) {
+                throw new InvalidRequestException("Every recipe line needs an inventory id");
+            }
+            if (!inventoryIds.add(dto.getInventoryId())) {
+                throw new InvalidRequestException("Inventory id " + dto.getInventoryId() + " appears more than once in the recipe");
+            }
+        }
+
+        Map<Long, Inventory> inventories = inventoryRepository.findAllById(inventoryIds)
+            .stream()
+            .filter(i -> TenantContext.permits(i.getRestaurant()))
+            .collect(Collectors.toMap(Inventory::getId, Function.identity()));
+
+        List<RecipeIngredient> recipe = ingredients.stream()
+            .map(dto -> {
+                Inventory inventory = inventories.get(dto.getInventoryId());
+                if (inventory == null) {
+                    throw new ResourceNotFoundException("Inventory not found with id: " + dto.getInventoryId());
+                }
+                if (dto.getQuantityPerServing() == null || dto.getQuantityPerServing() <= 0) {
+                    throw new InvalidRequestException("Quantity per serving must be positive for inventory id: " + dto.getInventoryId());
+                }
+                return RecipeIngredient.builder()
+                    .menuItem(menuItem)
+                    .inventory(inventory)
+                    .quantityPerServing(dto.getQuantityPerServing())
+                    .build();
+            })
+            .collect(Collectors.toList());
+
+        recipeIngredientRepository.deleteByMenuItemId(menuItemId);
+        return recipeIngredientRepository.saveAll(recipe)
+            .stream()
+            .map(this::convertToDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Converts RecipeIngredient entity to RecipeIngredientDTO.
+     *
+     * @param ingredient RecipeIngredient entity
+     * @return RecipeIngredientDTO representation
+     */
+    private RecipeIngredientDTO convertToDTO(RecipeIngredient ingredient) {
+        return RecipeIngredientDTO.builder()
+            .inventoryId(ingredient.getInventory().getId())
+            .itemName(ingredient.getInventory().getItemName())
+            .quantityPerServing(ingredient.getQuantityPerServing())
+            .build();
     }
 }
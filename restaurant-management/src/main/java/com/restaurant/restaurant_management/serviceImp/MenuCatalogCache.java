@@ -0,0 +1,308 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.restaurant_management.dto.CategoryResponseDTO;
+import com.restaurant.restaurant_management.dto.MenuCacheStatsDTO;
+import com.restaurant.restaurant_management.dto.MenuItemResponseDTO;
+import com.restaurant.restaurant_management.dto.SerializedBody;
+import com.restaurant.restaurant_management.model.Category;
+import com.restaurant.restaurant_management.model.MenuItem;
+import com.restaurant.restaurant_management.repository.CategoryRepository;
+import com.restaurant.restaurant_management.repository.MenuItemRepository;
+import com.restaurant.restaurant_management.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Read-through, in-process cache of the whole menu catalog (menu items and categories).
+ * <p>
+ * Reads are served from an immutable snapshot without touching the database. Any change to a
+ * menu item or category bumps a version counter (after the surrounding transaction commits), which
+ * makes the current snapshot stale; the next read reloads it with two queries. Only one thread
+ * loads at a time, the others wait for its result.
+ * <p>
+ * Each snapshot also keeps the JSON of the views rendered from it (e.g. a menu page), serialized
+ * once with an optional gzip copy and content-hash ETags, so repeated reads skip Jackson entirely.
+ * <p>
+ * The cache is partitioned per restaurant: a restaurant-scoped request reads a snapshot holding only
+ * that restaurant's menu items (and all categories), loaded and invalidated on its own, so a menu
+ * change at one branch does not reload the others. Requests that are not scoped read a partition
+ * holding the whole chain's menu.
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuCatalogCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuCatalogCache.class);
+
+    /**
+     * Upper bound of serialized views kept per snapshot; views beyond it are serialized per request.
+     */
+    private static final int MAX_SERIALIZED_VIEWS = 256;
+
+    /**
+     * Bodies smaller than this are not worth compressing.
+     */
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    /**
+     * Partition key of requests that are not scoped to a restaurant.
+     */
+    private static final long CHAIN = 0L;
+
+    private final MenuItemRepository menuItemRepository;
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Partition> partitions = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Returns the current catalog snapshot of the request's restaurant (or of the whole chain),
+     * loading it if the menu changed since the last load.
+     *
+     * @return current snapshot
+     */
+    Snapshot snapshot() {
+        Long restaurantId = TenantContext.restaurantId();
+        Partition partition = partition(restaurantId);
+        Snapshot current = partition.snapshot;
+        if (current != null && current.version() == partition.version.get()) {
+            hits.increment();
+            return current;
+        }
+
+        misses.increment();
+        partition.loadLock.lock();
+        try {
+            long expected = partition.version.get();
+            current = partition.snapshot;
+            if (current != null && current.version() == expected) {
+                return current;
+            }
+            current = load(restaurantId, expected);
+            partition.snapshot = current;
+            return current;
+        } finally {
+            partition.loadLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the serialized JSON of a view of the snapshot, rendering and keeping it on first use.
+     *
+     * @param snapshot catalog snapshot the view is rendered from
+     * @param key      identifies the view (endpoint and parameters) within the snapshot
+     * @param view     builds the response object from the snapshot
+     * @return serialized body with gzip copy and ETag
+     */
+    SerializedBody serialized(Snapshot snapshot, String key, Function<Snapshot, Object> view) {
+        SerializedBody body = snapshot.serialized().get(key);
+        if (body != null) {
+            return body;
+        }
+
+        body = serialize(view.apply(snapshot));
+        if (snapshot.serialized().size() < MAX_SERIALIZED_VIEWS) {
+            SerializedBody existing = snapshot.serialized().putIfAbsent(key, body);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Marks the cached catalog of every restaurant as stale, e.g. after a category change.
+     * Inside a transaction this happens after commit, so a concurrent reload cannot cache data
+     * the transaction has not committed yet.
+     */
+    public void invalidate() {
+        afterCommit(() -> partitions.values().forEach(this::evict));
+    }
+
+    /**
+     * Marks the cached catalog of the given restaurants, and of the whole chain, as stale, e.g. after
+     * a menu item change. Inside a transaction this happens after commit.
+     *
+     * @param restaurantIds restaurants whose menu changed
+     */
+    public void invalidateRestaurants(Long... restaurantIds) {
+        afterCommit(() -> {
+            for (Long restaurantId : restaurantIds) {
+                if (restaurantId != null) {
+                    evict(partitions.get(restaurantId));
+                }
+            }
+            evict(partitions.get(CHAIN));
+        });
+    }
+
+    /**
+     * Returns the cache counters and the size of the current snapshot of the request's restaurant.
+     *
+     * @return cache statistics
+     */
+    public MenuCacheStatsDTO stats() {
+        Snapshot current = partition(TenantContext.restaurantId()).snapshot;
+        return new MenuCacheStatsDTO(
+                hits.sum(),
+                misses.sum(),
+                loads.sum(),
+                evictions.sum(),
+                current != null ? current.items().size() : 0,
+                current != null ? current.categories().size() : 0
+        );
+    }
+
+    private SerializedBody serialize(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            byte[] gzip = json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            String tag = HexFormat.of().formatHex(hash, 0, 16);
+            return new SerializedBody(json, gzip, "\"" + tag + "\"", gzip != null ? "\"" + tag + "-gzip\"" : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize menu view", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private Partition partition(Long restaurantId) {
+        return partitions.computeIfAbsent(restaurantId != null ? restaurantId : CHAIN, key -> new Partition());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void evict(Partition partition) {
+        if (partition == null) {
+            return;
+        }
+        long previous = partition.version.getAndIncrement();
+        Snapshot current = partition.snapshot;
+        if (current != null && current.version() == previous) {
+            evictions.increment();
+        }
+    }
+
+    private Snapshot load(Long restaurantId, long loadVersion) {
+        List<MenuItem> menuItems = restaurantId != null
+                ? menuItemRepository.findAllWithCategoryByRestaurantId(restaurantId)
+                : menuItemRepository.findAllWithCategory();
+        List<Category> categoryEntities = categoryRepository.findAll(Sort.by("id"));
+        loads.increment();
+
+        List<MenuItemResponseDTO> items = new ArrayList<>(menuItems.size());
+        Map<Long, MenuItemResponseDTO> itemsById = new HashMap<>();
+        Map<Long, List<MenuItemResponseDTO>> itemsByCategory = new HashMap<>();
+        for (MenuItem menuItem : menuItems) {
+            Category category = menuItem.getCategory();
+            MenuItemResponseDTO dto = new MenuItemResponseDTO(
+                    menuItem.getId(),
+                    menuItem.getName(),
+                    menuItem.getDescription(),
+                    menuItem.getPrice(),
+                    category != null ? category.getId() : null,
+                    category != null ? category.getName() : null
+            );
+            items.add(dto);
+            itemsById.put(dto.getId(), dto);
+            if (category != null) {
+                itemsByCategory.computeIfAbsent(category.getId(), id -> new ArrayList<>()).add(dto);
+            }
+        }
+
+        List<CategoryResponseDTO> categories = new ArrayList<>(categoryEntities.size());
+        Map<Long, CategoryResponseDTO> categoriesById = new HashMap<>();
+        for (Category category : categoryEntities) {
+            CategoryResponseDTO dto = new CategoryResponseDTO(category.getId(), category.getName(), category.getDescription());
+            categories.add(dto);
+            categoriesById.put(dto.getId(), dto);
+        }
+
+        itemsByCategory.replaceAll((id, list) -> Collections.unmodifiableList(list));
+        logger.debug("Loaded menu catalog of restaurant {} version {} with {} items and {} categories",
+                restaurantId != null ? restaurantId : "(all)", loadVersion, items.size(), categories.size());
+        return new Snapshot(loadVersion,
+                Collections.unmodifiableList(items),
+                Collections.unmodifiableMap(itemsById),
+                Collections.unmodifiableMap(itemsByCategory),
+                Collections.unmodifiableList(categories),
+                Collections.unmodifiableMap(categoriesById),
+                new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Cached catalog of one restaurant (or of the whole chain): the current snapshot, the version it
+     * must match to be current, and the lock that lets one thread at a time load it.
+     */
+    private static final class Partition {
+
+        private final AtomicLong version = new AtomicLong();
+        private final ReentrantLock loadLock = new ReentrantLock();
+        private volatile Snapshot snapshot;
+    }
+
+    /**
+     * Immutable view of the catalog at one version. Menu items and categories are ordered by ID.
+     * {@code serialized} holds the views rendered from this version, keyed by view.
+     */
+    record Snapshot(long version,
+                    List<MenuItemResponseDTO> items,
+                    Map<Long, MenuItemResponseDTO> itemsById,
+                    Map<Long, List<MenuItemResponseDTO>> itemsByCategory,
+                    List<CategoryResponseDTO> categories,
+                    Map<Long, CategoryResponseDTO> categoriesById,
+                    Map<String, SerializedBody> serialized) {
+    }
+}
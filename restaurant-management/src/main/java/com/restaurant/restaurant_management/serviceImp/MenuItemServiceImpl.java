@@ -1,19 +1,25 @@
 package com.restaurant.restaurant_management.serviceImp;
 
+import com.restaurant.restaurant_management.dto.CursorPage;
+import com.restaurant.restaurant_management.dto.MenuCacheStatsDTO;
 import com.restaurant.restaurant_management.dto.MenuItemRequestDTO;
 import com.restaurant.restaurant_management.dto.MenuItemResponseDTO;
+import com.restaurant.restaurant_management.dto.SerializedBody;
 import com.restaurant.restaurant_management.exception.ResourceNotFoundException;
 import com.restaurant.restaurant_management.model.Category;
 import com.restaurant.restaurant_management.model.MenuItem;
 import com.restaurant.restaurant_management.model.Restaurant;
 import com.restaurant.restaurant_management.repository.CategoryRepository;
 import com.restaurant.restaurant_management.repository.MenuItemRepository;
+import com.restaurant.restaurant_management.repository.RecipeIngredientRepository;
 import com.restaurant.restaurant_management.repository.RestaurantRepository;
 import com.restaurant.restaurant_management.service.MenuItemService;
+import com.restaurant.restaurant_management.tenant.TenantContext;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing Menu Items.
@@ -24,19 +30,27 @@ public class MenuItemServiceImpl implements MenuItemService {
     private final MenuItemRepository menuItemRepository;
     private final CategoryRepository categoryRepository;
     private final RestaurantRepository restaurantRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final MenuCatalogCache menuCatalogCache;
+    private final RecipeLinker recipeLinker;
 
-    public MenuItemServiceImpl(MenuItemRepository menuItemRepository, CategoryRepository categoryRepository, RestaurantRepository restaurantRepository) {
+    public MenuItemServiceImpl(MenuItemRepository menuItemRepository, CategoryRepository categoryRepository,
+                               RestaurantRepository restaurantRepository, RecipeIngredientRepository recipeIngredientRepository,
+                               MenuCatalogCache menuCatalogCache, RecipeLinker recipeLinker) {
         this.menuItemRepository = menuItemRepository;
         this.categoryRepository = categoryRepository;
         this.restaurantRepository = restaurantRepository;
+        this.recipeIngredientRepository = recipeIngredientRepository;
+        this.menuCatalogCache = menuCatalogCache;
+        this.recipeLinker = recipeLinker;
     }
 
     /**
-     * Creates a new MenuItem.
+     * Creates a new MenuItem. In a restaurant-scoped request it can only be added to that restaurant.
      *
      * @param dto DTO containing new menu item data
      * @return MenuItemResponseDTO representing created menu item
-     * @throws ResourceNotFoundException if category with provided ID does not exist
+     * @throws ResourceNotFoundException if category or restaurant with provided ID does not exist
      */
     @Override
     public MenuItemResponseDTO createMenuItem(MenuItemRequestDTO dto) {
@@ -44,6 +58,7 @@ public class MenuItemServiceImpl implements MenuItemService {
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + dto.getCategoryId()));
 
         Restaurant restaurant = restaurantRepository.findById(dto.getRestaurantId())
+                .filter(TenantContext::permits)
                 .orElseThrow(() -> new ResourceNotFoundException("Restaurant not found with id: " + dto.getRestaurantId()));
 
         MenuItem menuItem = new MenuItem();
@@ -51,42 +66,91 @@ public class MenuItemServiceImpl implements MenuItemService {
     }
 
     private MenuItemResponseDTO getMenuItemResponseDTO(MenuItemRequestDTO dto, Category category, Restaurant restaurant, MenuItem menuItem) {
+        Long previousRestaurantId = menuItem.getRestaurant() != null ? menuItem.getRestaurant().getId() : null;
         menuItem.setName(dto.getName());
         menuItem.setDescription(dto.getDescription());
         menuItem.setPrice(dto.getPrice());
         menuItem.setCategory(category);
         menuItem.setRestaurant(restaurant);  // Now restaurant is resolved properly
         MenuItem savedItem = menuItemRepository.save(menuItem);
+        // Until it has a recipe, the item consumes the stock of the same name
+        recipeLinker.linkMenuItem(savedItem.getId());
+        menuCatalogCache.invalidateRestaurants(previousRestaurantId, restaurant.getId());
         return mapToResponse(savedItem);
     }
 
 
     /**
-     * Retrieves all menu items, optionally filtered by category.
+     * Retrieves one keyset page of menu items, optionally filtered by category.
+     * Served from the menu catalog cache; the page is sliced from the cached, ID-ordered list.
      *
      * @param categoryId optional category ID to filter menu items
-     * @return list of MenuItemResponseDTOs matching criteria
+     * @param afterId    optional ID of the last item of the previous page
+     * @param size       optional page size
+     * @return page of MenuItemResponseDTOs matching criteria
      * @throws ResourceNotFoundException if category with provided ID does not exist when filtering
      */
     @Override
-    public List<MenuItemResponseDTO> getAllMenuItems(Long categoryId) {
-        List<MenuItem> items;
-
-        if (categoryId != null) {
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + categoryId));
-            items = menuItemRepository.findByCategory(category);
-        } else {
-            items = menuItemRepository.findAll();
+    public CursorPage<MenuItemResponseDTO> getAllMenuItems(Long categoryId, Long afterId, Integer size) {
+        List<MenuItemResponseDTO> items = items(menuCatalogCache.snapshot(), categoryId);
+        return page(items, firstIndexAfter(items, CursorPage.resolveCursor(afterId)), CursorPage.resolveSize(size));
+    }
+
+    /**
+     * Retrieves the same page as {@link #getAllMenuItems}, already serialized to JSON.
+     * The body is rendered once per catalog version and page, then reused until the menu changes.
+     * Pages are keyed by where they start in the catalog and by the clamped size, so any cursor
+     * between two items, or any size above the maximum, reuses the same body.
+     *
+     * @param categoryId optional category ID to filter menu items
+     * @param afterId    optional ID of the last item of the previous page
+     * @param size       optional page size
+     * @return serialized page with gzip copy and ETag
+     * @throws ResourceNotFoundException if category with provided ID does not exist when filtering
+     */
+    @Override
+    public SerializedBody getSerializedMenuItems(Long categoryId, Long afterId, Integer size) {
+        MenuCatalogCache.Snapshot catalog = menuCatalogCache.snapshot();
+        List<MenuItemResponseDTO> items = items(catalog, categoryId);
+        int from = firstIndexAfter(items, CursorPage.resolveCursor(afterId));
+        int pageSize = CursorPage.resolveSize(size);
+        String key = "menu-items:" + categoryId + ":" + from + ":" + pageSize;
+        return menuCatalogCache.serialized(catalog, key, snapshot -> page(items, from, pageSize));
+    }
+
+    /**
+     * Returns the cached, ID-ordered menu items, optionally only those of one category.
+     *
+     * @param catalog    catalog snapshot
+     * @param categoryId optional category ID to filter menu items
+     * @return menu items ordered by ID
+     * @throws ResourceNotFoundException if category with provided ID does not exist when filtering
+     */
+    private List<MenuItemResponseDTO> items(MenuCatalogCache.Snapshot catalog, Long categoryId) {
+        if (categoryId == null) {
+            return catalog.items();
+        }
+        if (!catalog.categoriesById().containsKey(categoryId)) {
+            throw new ResourceNotFoundException("Category not found with id: " + categoryId);
         }
+        return catalog.itemsByCategory().getOrDefault(categoryId, List.of());
+    }
 
-        return items.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    /**
+     * Slices one keyset page from ID-ordered menu items.
+     *
+     * @param items    menu items ordered by ID
+     * @param from     index of the first item of the page
+     * @param pageSize page size
+     * @return page of MenuItemResponseDTOs
+     */
+    private CursorPage<MenuItemResponseDTO> page(List<MenuItemResponseDTO> items, int from, int pageSize) {
+        int to = Math.min(items.size(), from + pageSize);
+        return CursorPage.of(new ArrayList<>(items.subList(from, to)), pageSize, MenuItemResponseDTO::getId);
     }
 
     /**
-     * Retrieves a MenuItem by its ID.
+     * Retrieves a MenuItem by its ID from the menu catalog cache.
      *
      * @param id menu item ID
      * @return MenuItemResponseDTO for found menu item
@@ -94,9 +158,21 @@ public class MenuItemServiceImpl implements MenuItemService {
      */
     @Override
     public MenuItemResponseDTO getMenuItemById(Long id) {
-        MenuItem menuItem = menuItemRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("MenuItem not found with id: " + id));
-        return mapToResponse(menuItem);
+        MenuItemResponseDTO menuItem = menuCatalogCache.snapshot().itemsById().get(id);
+        if (menuItem == null) {
+            throw new ResourceNotFoundException("MenuItem not found with id: " + id);
+        }
+        return menuItem;
+    }
+
+    /**
+     * Returns the hit/miss/eviction counters of the menu catalog cache.
+     *
+     * @return cache statistics
+     */
+    @Override
+    public MenuCacheStatsDTO getCacheStats() {
+        return menuCatalogCache.stats();
     }
 
     /**
@@ -110,12 +186,14 @@ public class MenuItemServiceImpl implements MenuItemService {
     @Override
     public MenuItemResponseDTO updateMenuItem(Long id, MenuItemRequestDTO dto) {
         MenuItem menuItem = menuItemRepository.findById(id)
+                .filter(m -> TenantContext.permits(m.getRestaurant()))
                 .orElseThrow(() -> new ResourceNotFoundException("MenuItem not found with id: " + id));
 
         Category category = categoryRepository.findById(dto.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + dto.getCategoryId()));
 
         Restaurant restaurant = restaurantRepository.findById(dto.getRestaurantId())
+                .filter(TenantContext::permits)
                 .orElseThrow(() -> new ResourceNotFoundException("Restaurant not found with id: " + dto.getRestaurantId()));
 
         return getMenuItemResponseDTO(dto, category, restaurant, menuItem);
@@ -123,16 +201,41 @@ public class MenuItemServiceImpl implements MenuItemService {
 
 
     /**
-     * Deletes a MenuItem by ID.
+     * Deletes a MenuItem by ID, together with its recipe.
      *
      * @param id menu item ID to delete
      * @throws ResourceNotFoundException if menu item with given ID does not exist
      */
     @Override
+    @Transactional
     public void deleteMenuItem(Long id) {
         MenuItem menuItem = menuItemRepository.findById(id)
+                .filter(m -> TenantContext.permits(m.getRestaurant()))
                 .orElseThrow(() -> new ResourceNotFoundException("MenuItem not found with id: " + id));
+        recipeIngredientRepository.deleteByMenuItemId(id);
         menuItemRepository.delete(menuItem);
+        menuCatalogCache.invalidateRestaurants(menuItem.getRestaurant().getId());
+    }
+
+    /**
+     * Finds the position of the first item with an ID greater than the cursor in an ID-ordered list.
+     *
+     * @param items  menu items ordered by ID
+     * @param cursor ID of the last item of the previous page
+     * @return index of the first item of the next page
+     */
+    private int firstIndexAfter(List<MenuItemResponseDTO> items, long cursor) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (items.get(mid).getId() <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     /**
@@ -0,0 +1,211 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.dto.OrderEventDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process publish/subscribe bus for order events.
+ * <p>
+ * Every subscriber has its own bounded buffer. Publishing only enqueues into those buffers and
+ * never waits: when a subscriber's buffer is full its oldest event is dropped. Each buffer is
+ * drained by at most one dispatcher task at a time, so a slow subscriber only delays itself.
+ * Event IDs increase monotonically, so a subscriber can notice dropped events as gaps.
+ * <p>
+ * Idle subscribers get a periodic heartbeat through the same buffer, so a subscriber whose
+ * connection is gone fails on the heartbeat and is removed instead of lingering until it times out.
+ */
+@Component
+public class OrderEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventBus.class);
+
+    /**
+     * Events buffered per subscriber before the oldest ones are dropped.
+     */
+    static final int BUFFER_CAPACITY = 256;
+
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final ExecutorService dispatcher;
+
+    /**
+     * Creates the bus. Dispatch runs on virtual threads when the application runs in
+     * virtual-thread mode, otherwise on a cached pool of daemon platform threads.
+     *
+     * @param virtualThreads whether {@code spring.threads.virtual.enabled} is set
+     */
+    public OrderEventBus(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.dispatcher = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-events-", 0).factory())
+                : Executors.newCachedThreadPool(Thread.ofPlatform().name("order-events-", 0).daemon(true).factory());
+    }
+
+    /**
+     * Receives the events of one subscriber, in publication order.
+     */
+    @FunctionalInterface
+    public interface Sink {
+
+        /**
+         * Delivers an event. Throwing ends the subscription.
+         *
+         * @param eventId monotonically increasing event ID
+         * @param event   the event
+         * @throws Exception if the event cannot be delivered
+         */
+        void send(long eventId, OrderEventDTO event) throws Exception;
+
+        /**
+         * Keeps an idle subscription alive. Throwing ends the subscription.
+         *
+         * @throws Exception if the subscriber cannot be reached
+         */
+        default void heartbeat() throws Exception {
+        }
+    }
+
+    /**
+     * Registers a subscriber.
+     *
+     * @param sink receives the events
+     * @return subscription ID, used to unsubscribe
+     */
+    public long subscribe(Sink sink) {
+        long id = subscriberIds.incrementAndGet();
+        subscribers.put(id, new Subscriber(id, sink));
+        logger.debug("Order event subscriber {} registered ({} active)", id, subscribers.size());
+        return id;
+    }
+
+    /**
+     * Removes a subscriber; pending events in its buffer are discarded.
+     *
+     * @param id subscription ID returned by {@link #subscribe}
+     */
+    public void unsubscribe(long id) {
+        Subscriber subscriber = subscribers.remove(id);
+        if (subscriber != null) {
+            logger.debug("Order event subscriber {} removed after dropping {} events", id, subscriber.dropped.sum());
+        }
+    }
+
+    /**
+     * Publishes an event to all current subscribers. Order changes reach the bus through the
+     * outbox relay, so subscribers only see committed changes.
+     *
+     * @param event the event to publish
+     */
+    public void publish(OrderEventDTO event) {
+        long eventId = eventIds.incrementAndGet();
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.enqueue(new Envelope(eventId, event));
+        }
+    }
+
+    /**
+     * Sends a heartbeat to every subscriber with nothing buffered; busy subscribers are being
+     * written to anyway.
+     */
+    @Scheduled(fixedDelayString = "${orders.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.buffer.isEmpty()) {
+                subscriber.enqueue(HEARTBEAT);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of active subscribers.
+     *
+     * @return subscriber count
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    private record Envelope(long id, OrderEventDTO event) {
+    }
+
+    private static final Envelope HEARTBEAT = new Envelope(0, null);
+
+    /**
+     * A subscriber with its bounded buffer and single-flight drain.
+     */
+    private final class Subscriber {
+
+        private final long id;
+        private final Sink sink;
+        private final ArrayBlockingQueue<Envelope> buffer = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final LongAdder dropped = new LongAdder();
+
+        private Subscriber(long id, Sink sink) {
+            this.id = id;
+            this.sink = sink;
+        }
+
+        private void enqueue(Envelope envelope) {
+            while (!buffer.offer(envelope)) {
+                if (buffer.poll() != null) {
+                    dropped.increment();
+                }
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Envelope envelope;
+                while ((envelope = buffer.poll()) != null) {
+                    if (envelope == HEARTBEAT) {
+                        sink.heartbeat();
+                    } else {
+                        sink.send(envelope.id(), envelope.event());
+                    }
+                }
+            } catch (Exception e) {
+                logger.debug("Order event subscriber {} failed, unsubscribing: {}", id, e.getMessage());
+                unsubscribe(id);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An event may have arrived after the last poll but before the flag was reset
+            if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
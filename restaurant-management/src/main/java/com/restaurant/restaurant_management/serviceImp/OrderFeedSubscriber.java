@@ -0,0 +1,37 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.restaurant_management.dto.OrderEventDTO;
+import com.restaurant.restaurant_management.enums.OutboxEventType;
+import com.restaurant.restaurant_management.model.OutboxEvent;
+import com.restaurant.restaurant_management.outbox.OutboxSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Forwards committed order changes from the outbox to the live order feed.
+ * A redelivered event reaches feed clients twice, with a new bus event ID.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderFeedSubscriber implements OutboxSubscriber {
+
+    private static final Set<OutboxEventType> EVENT_TYPES = EnumSet.of(
+            OutboxEventType.ORDER_PLACED, OutboxEventType.ORDER_STATUS_CHANGED, OutboxEventType.ORDER_CANCELLED);
+
+    private final ObjectMapper objectMapper;
+    private final OrderEventBus orderEventBus;
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        orderEventBus.publish(objectMapper.readValue(event.getPayload(), OrderEventDTO.class));
+    }
+}
@@ -1,134 +1,493 @@
 package com.restaurant.restaurant_management.serviceImp;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.restaurant_management.dto.BulkOrderResult;
+import com.restaurant.restaurant_management.dto.CursorPage;
+import com.restaurant.restaurant_management.dto.OrderEventDTO;
 import com.restaurant.restaurant_management.dto.OrderResponse;
 import com.restaurant.restaurant_management.dto.PlaceOrderRequest;
+import com.restaurant.restaurant_management.enums.BulkOrderOutcome;
+import com.restaurant.restaurant_management.enums.ExportFormat;
+import com.restaurant.restaurant_management.enums.OrderEventType;
 import com.restaurant.restaurant_management.enums.OrderStatus;
+import com.restaurant.restaurant_management.enums.OutboxEventType;
 import com.restaurant.restaurant_management.exception.InvalidRequestException;
 import com.restaurant.restaurant_management.exception.ResourceNotFoundException;
 import com.restaurant.restaurant_management.exception.UnauthorizedActionException;
 import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.money.Money;
+import com.restaurant.restaurant_management.outbox.OutboxWriter;
 import com.restaurant.restaurant_management.repository.InventoryRepository;
 import com.restaurant.restaurant_management.repository.MenuItemRepository;
 import com.restaurant.restaurant_management.repository.OrderRepository;
+import com.restaurant.restaurant_management.repository.RecipeIngredientRepository;
 import com.restaurant.restaurant_management.repository.UserRepository;
 import com.restaurant.restaurant_management.service.OrderService;
+import com.restaurant.restaurant_management.tenant.TenantContext;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
+    private static final Logger logger = LoggerFactory.getLogger(OrderServiceImpl.class);
+
+    /**
+     * How long a live order stream stays open before the client has to reconnect.
+     */
+    private static final long ORDER_STREAM_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    /**
+     * Largest number of orders accepted in one bulk request.
+     */
+    static final int MAX_BULK_ORDERS = 1000;
+
+    /**
+     * Number of bulk orders stored per transaction.
+     */
+    static final int BULK_CHUNK_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final MenuItemRepository menuItemRepository;
     private final InventoryRepository inventoryRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final OrderEventBus orderEventBus;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxWriter outboxWriter;
+    private final BillingLedger billingLedger;
 
     /**
      * Places a new order for the currently authenticated user.
+     * <p>
+     * Menu items and their recipe lines for the whole basket are resolved by id with one query each,
+     * stock is reserved with conditional atomic updates and the order is persisted with its
+     * items in a single cascade, together with its draft bill. The order belongs to the restaurant
+     * of its menu items; in a restaurant-scoped request, menu items of other restaurants are not found.
      *
      * @param request the order request details
-     * @return the placed Order entity
+     * @return the placed order
      */
     @Override
     @Transactional
-    public Order placeOrder(PlaceOrderRequest request) {
+    public OrderResponse placeOrder(PlaceOrderRequest request) {
+        User user = currentUser();
+        Map<Long, Integer> requestedQuantities = requestedQuantities(request);
+
+        Map<Long, MenuItem> menuItems = menuItems(requestedQuantities.keySet());
+        StockDemand demand = stockDemand(requestedQuantities, menuItems,
+                recipeIngredientRepository.findByMenuItemIdIn(requestedQuantities.keySet()));
+        reserveInventory(demand);
+
+        Order saved = orderRepository.save(buildOrder(user, request, menuItems));
+        billingLedger.draft(List.of(saved));
+        appendPlaced(saved);
+        return ResponseMapper.toResponse(saved);
+    }
+
+    /**
+     * Places a batch of orders for the currently authenticated account, e.g. a POS terminal or a
+     * delivery-platform sync, with a result per order.
+     * <p>
+     * Menu items, recipe lines and current stock for the whole batch are read with one query each,
+     * and orders are reserved in request order against an in-memory stock ledger, so an order that
+     * would oversell is rejected up front. Accepted orders are then stored in chunks of
+     * {@value #BULK_CHUNK_SIZE}, each one transaction with one conditional stock update per inventory
+     * row and batched inserts. If a chunk fails, e.g. because concurrent orders consumed stock since
+     * it was read or a database error occurred, that chunk is retried one order per transaction. An
+     * order that still fails is rejected with the reason, without affecting the rest of the batch.
+     *
+     * @param requests the orders, at most {@value #MAX_BULK_ORDERS}
+     * @return one result per order, in request order
+     * @throws InvalidRequestException if the batch is empty or too large
+     */
+    @Override
+    public List<BulkOrderResult> placeOrders(List<PlaceOrderRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidRequestException("Bulk request must contain at least one order");
+        }
+        if (requests.size() > MAX_BULK_ORDERS) {
+            throw new InvalidRequestException("Bulk request may contain at most " + MAX_BULK_ORDERS + " orders");
+        }
+        User user = currentUser();
+        BulkOrderResult[] results = new BulkOrderResult[requests.size()];
+
+        // Validate every order and collect the menu items the batch refers to
+        List<Map<Long, Integer>> quantities = new ArrayList<>(requests.size());
+        Set<Long> menuItemIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                Map<Long, Integer> requested = requestedQuantities(requests.get(i));
+                quantities.add(requested);
+                menuItemIds.addAll(requested.keySet());
+            } catch (InvalidRequestException e) {
+                quantities.add(null);
+                results[i] = rejected(i, e.getMessage());
+            }
+        }
+
+        // One query each for menu items, recipe lines and current stock of the whole batch
+        Map<Long, MenuItem> menuItems = menuItems(menuItemIds);
+        Map<Long, List<RecipeIngredient>> recipes = recipeIngredientRepository.findByMenuItemIdIn(menuItemIds).stream()
+                .collect(Collectors.groupingBy(r -> r.getMenuItem().getId()));
+        Set<Long> inventoryIds = recipes.values().stream()
+                .flatMap(List::stream)
+                .map(r -> r.getInventory().getId())
+                .collect(Collectors.toSet());
+        Map<Long, Double> stock = new HashMap<>();
+        for (Inventory inventory : inventoryRepository.findAllById(inventoryIds)) {
+            stock.put(inventory.getId(), inventory.getQuantity() != null ? inventory.getQuantity() : 0.0);
+        }
+
+        // Reserve in request order against the in-memory ledger
+        Map<Integer, StockDemand> accepted = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Map<Long, Integer> requested = quantities.get(i);
+            if (requested == null) {
+                continue;
+            }
+            try {
+                List<RecipeIngredient> recipeLines = requested.keySet().stream()
+                        .flatMap(id -> recipes.getOrDefault(id, List.of()).stream())
+                        .collect(Collectors.toList());
+                StockDemand demand = stockDemand(requested, menuItems, recipeLines);
+                Long shortInventory = demand.decrements().entrySet().stream()
+                        .filter(e -> stock.getOrDefault(e.getKey(), 0.0) < e.getValue())
+                        .map(Map.Entry::getKey)
+                        .findFirst()
+                        .orElse(null);
+                if (shortInventory != null) {
+                    results[i] = rejected(i, "Insufficient inventory for item: " + demand.itemNames().get(shortInventory));
+                    continue;
+                }
+                demand.decrements().forEach((inventoryId, amount) -> stock.merge(inventoryId, -amount, Double::sum));
+                accepted.put(i, demand);
+            } catch (ResourceNotFoundException | InvalidRequestException e) {
+                results[i] = rejected(i, e.getMessage());
+            }
+        }
+
+        // Store accepted orders chunk by chunk, falling back to one transaction per order if a chunk fails
+        List<Integer> indexes = new ArrayList<>(accepted.keySet());
+        for (int from = 0; from < indexes.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunk = indexes.subList(from, Math.min(from + BULK_CHUNK_SIZE, indexes.size()));
+            try {
+                List<Order> saved = transactionTemplate.execute(status -> {
+                    StockDemand chunkDemand = new StockDemand(new TreeMap<>(), new HashMap<>());
+                    for (Integer i : chunk) {
+                        accepted.get(i).decrements().forEach((id, amount) -> chunkDemand.decrements().merge(id, amount, Double::sum));
+                        chunkDemand.itemNames().putAll(accepted.get(i).itemNames());
+                    }
+                    reserveInventory(chunkDemand);
+                    List<Order> orders = orderRepository.saveAll(chunk.stream()
+                            .map(i -> buildOrder(user, requests.get(i), menuItems))
+                            .collect(Collectors.toList()));
+                    billingLedger.draft(orders);
+                    orders.forEach(this::appendPlaced);
+                    return orders;
+                });
+                for (int k = 0; k < chunk.size(); k++) {
+                    results[chunk.get(k)] = placed(chunk.get(k), saved.get(k));
+                }
+            } catch (RuntimeException e) {
+                if (!(e instanceof InvalidRequestException)) {
+                    logger.warn("Bulk order chunk failed, storing its {} orders one by one", chunk.size(), e);
+                }
+                for (Integer i : chunk) {
+                    try {
+                        Order saved = transactionTemplate.execute(status -> {
+                            reserveInventory(accepted.get(i));
+                            Order order = orderRepository.save(buildOrder(user, requests.get(i), menuItems));
+                            billingLedger.draft(List.of(order));
+                            appendPlaced(order);
+                            return order;
+                        });
+                        results[i] = placed(i, saved);
+                    } catch (InvalidRequestException orderConflict) {
+                        results[i] = rejected(i, orderConflict.getMessage());
+                    } catch (RuntimeException orderFailure) {
+                        logger.error("Bulk order {} could not be stored", i, orderFailure);
+                        results[i] = rejected(i, "Order could not be stored due to a server error");
+                    }
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Resolves the currently authenticated user.
+     */
+    private User currentUser() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
+        return userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+    }
 
+    /**
+     * Loads menu items by id, leaving out those of other restaurants in a restaurant-scoped request.
+     *
+     * @param ids menu item ids
+     * @return visible menu items keyed by id
+     */
+    private Map<Long, MenuItem> menuItems(Set<Long> ids) {
+        return menuItemRepository.findAllById(ids).stream()
+                .filter(menuItem -> TenantContext.permits(menuItem.getRestaurant()))
+                .collect(Collectors.toMap(MenuItem::getId, Function.identity()));
+    }
+
+    /**
+     * Validates an order request and totals the quantity requested per menu item
+     * (the same item may appear on several lines).
+     *
+     * @param request the order request
+     * @return total quantity per menu item id, in request order
+     * @throws InvalidRequestException if the order has no items or a line is incomplete
+     */
+    private Map<Long, Integer> requestedQuantities(PlaceOrderRequest request) {
+        if (request == null || request.getItems() == null || request.getItems().isEmpty()) {
+            throw new InvalidRequestException("Order must contain at least one item");
+        }
+        Map<Long, Integer> requestedQuantities = new LinkedHashMap<>();
+        for (PlaceOrderRequest.OrderItemDTO itemDTO : request.getItems()) {
+            if (itemDTO.getMenuItemId() == null || itemDTO.getQuantity() == null || itemDTO.getQuantity() <= 0) {
+                throw new InvalidRequestException("Each order item needs a menu item id and a positive quantity");
+            }
+            requestedQuantities.merge(itemDTO.getMenuItemId(), itemDTO.getQuantity(), Integer::sum);
+        }
+        return requestedQuantities;
+    }
+
+    /**
+     * Stock an order takes out of inventory.
+     *
+     * @param decrements amount per inventory id, in id order
+     * @param itemNames  menu item name per inventory id, for error messages
+     */
+    private record StockDemand(Map<Long, Double> decrements, Map<Long, String> itemNames) {
+    }
+
+    /**
+     * Works out the stock an order needs from the recipe lines of its menu items.
+     *
+     * @param requestedQuantities total quantity requested per menu item id
+     * @param menuItems           resolved menu items keyed by id
+     * @param recipeLines         recipe lines of (at least) the requested menu items
+     * @return amount to take out per inventory row
+     * @throws ResourceNotFoundException if a menu item does not exist or has no recipe lines
+     * @throws InvalidRequestException   if the menu items belong to different restaurants
+     */
+    private StockDemand stockDemand(Map<Long, Integer> requestedQuantities, Map<Long, MenuItem> menuItems,
+                                    List<RecipeIngredient> recipeLines) {
+        for (Long menuItemId : requestedQuantities.keySet()) {
+            if (!menuItems.containsKey(menuItemId)) {
+                throw new ResourceNotFoundException("Menu item not found with id: " + menuItemId);
+            }
+        }
+        long restaurants = requestedQuantities.keySet().stream()
+                .map(id -> menuItems.get(id).getRestaurant().getId())
+                .distinct()
+                .count();
+        if (restaurants > 1) {
+            throw new InvalidRequestException("All items of an order must come from the same restaurant");
+        }
+
+        Map<Long, Double> decrements = new TreeMap<>();
+        Map<Long, String> itemNamesByInventory = new HashMap<>();
+        Set<Long> stockedMenuItems = new HashSet<>();
+        for (RecipeIngredient ingredient : recipeLines) {
+            Long menuItemId = ingredient.getMenuItem().getId();
+            Integer quantity = requestedQuantities.get(menuItemId);
+            if (quantity == null) {
+                continue;
+            }
+            Long inventoryId = ingredient.getInventory().getId();
+            decrements.merge(inventoryId, quantity * ingredient.getQuantityPerServing(), Double::sum);
+            itemNamesByInventory.putIfAbsent(inventoryId, menuItems.get(menuItemId).getName());
+            stockedMenuItems.add(menuItemId);
+        }
+
+        for (Long menuItemId : requestedQuantities.keySet()) {
+            if (!stockedMenuItems.contains(menuItemId)) {
+                throw new ResourceNotFoundException("Inventory not found for item: " + menuItems.get(menuItemId).getName());
+            }
+        }
+        return new StockDemand(decrements, itemNamesByInventory);
+    }
+
+    /**
+     * Decrements stock for every inventory row of a demand with a conditional atomic update,
+     * in id order so concurrent orders never wait on each other in a cycle.
+     * If any row lacks stock the exception rolls back the decrements already applied.
+     *
+     * @param demand stock to take out
+     * @throws InvalidRequestException if a row does not have enough stock
+     */
+    private void reserveInventory(StockDemand demand) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, Double> entry : demand.decrements().entrySet()) {
+            if (inventoryRepository.decrementQuantity(entry.getKey(), entry.getValue(), now) == 0) {
+                throw new InvalidRequestException("Insufficient inventory for item: " + demand.itemNames().get(entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Builds an unsaved pending order with its items, priced at the current menu prices,
+     * for the restaurant its menu items belong to.
+     *
+     * @param user      the ordering user
+     * @param request   the order request
+     * @param menuItems resolved menu items keyed by id
+     * @return the order, not yet persisted
+     */
+    private Order buildOrder(User user, PlaceOrderRequest request, Map<Long, MenuItem> menuItems) {
         Order order = new Order();
         order.setOrderDate(LocalDateTime.now());
         order.setStatus(OrderStatus.PENDING);
         order.setUser(user);
+        order.setRestaurant(menuItems.get(request.getItems().get(0).getMenuItemId()).getRestaurant());
+
+        // Sum the lines in minor units, so the total is exact whatever the number of lines
+        List<OrderItem> orderItems = new ArrayList<>(request.getItems().size());
+        long totalMinor = 0;
+        for (PlaceOrderRequest.OrderItemDTO itemDTO : request.getItems()) {
+            MenuItem menuItem = menuItems.get(itemDTO.getMenuItemId());
+            long priceMinor = Money.toMinor(menuItem.getPrice());
+            OrderItem item = new OrderItem();
+            item.setMenuItem(menuItem);
+            item.setQuantity(itemDTO.getQuantity());
+            item.setPrice(Money.toAmount(priceMinor));
+            item.setOrder(order);
+            orderItems.add(item);
+            totalMinor = Math.addExact(totalMinor, Money.times(priceMinor, itemDTO.getQuantity()));
+        }
 
-        // FIXED here: use itemDTO variable, NOT the class name
-        List<OrderItem> orderItems = request.getItems().stream()
-                .map(itemDTO -> createOrderItemWithInventoryCheck(itemDTO, order))
-                .collect(Collectors.toList());
-
-        double totalAmount = orderItems.stream()
-                .mapToDouble(i -> i.getQuantity() * i.getPrice())
-                .sum();
-        order.setTotalAmount(totalAmount);
+        order.setTotalAmount(Money.toAmount(totalMinor));
         order.setOrderItems(orderItems);
-
-        return orderRepository.save(order);
+        return order;
     }
 
-    private OrderItem createOrderItemWithInventoryCheck(PlaceOrderRequest.OrderItemDTO itemDTO, Order order) {
-        MenuItem menuItem = menuItemRepository.findById(itemDTO.getMenuItemId())
-                .orElseThrow(() -> new ResourceNotFoundException("Menu item not found with id: " + itemDTO.getMenuItemId()));
-
-        Inventory inventory = inventoryRepository.findByItemName(menuItem.getName())
-                .orElseThrow(() -> new ResourceNotFoundException("Inventory not found for item: " + menuItem.getName()));
-
-        if (inventory.getQuantity() < itemDTO.getQuantity()) {
-            throw new InvalidRequestException("Insufficient inventory for item: " + menuItem.getName());
-        }
+    /**
+     * Writes the placed event of a saved order to the outbox, in the order's transaction.
+     */
+    private void appendPlaced(Order order) {
+        List<OrderEventDTO.Item> eventItems = order.getOrderItems().stream()
+                .map(i -> new OrderEventDTO.Item(i.getMenuItem().getName(), i.getQuantity()))
+                .collect(Collectors.toList());
+        appendEvent(order, OrderEventType.PLACED, eventItems);
+    }
 
-        inventory.setQuantity(inventory.getQuantity() - itemDTO.getQuantity());
-        inventoryRepository.save(inventory);
+    private static BulkOrderResult placed(int index, Order order) {
+        return BulkOrderResult.builder()
+                .index(index)
+                .outcome(BulkOrderOutcome.PLACED)
+                .orderId(order.getId())
+                .totalAmount(order.getTotalAmount())
+                .build();
+    }
 
-        OrderItem item = new OrderItem();
-        item.setMenuItem(menuItem);
-        item.setQuantity(itemDTO.getQuantity());
-        item.setPrice(menuItem.getPrice());
-        item.setOrder(order);
-        return item;
+    private static BulkOrderResult rejected(int index, String error) {
+        return BulkOrderResult.builder()
+                .index(index)
+                .outcome(BulkOrderOutcome.REJECTED)
+                .error(error)
+                .build();
     }
 
     @Override
     public OrderResponse getOrderById(Long orderId) {
         Order order = orderRepository.findById(orderId)
+                .filter(o -> TenantContext.permits(o.getRestaurant()))
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId));
-        return toResponse(order);
+        return ResponseMapper.toResponse(order);
     }
 
     @Override
-    public List<OrderResponse> getAllOrders() {
-        return orderRepository.findAll().stream()
-                .map(this::toResponse)
+    public CursorPage<OrderResponse> getAllOrders(Long afterId, Integer size) {
+        int pageSize = CursorPage.resolveSize(size);
+        long cursor = CursorPage.resolveCursor(afterId);
+        Long restaurantId = TenantContext.restaurantId();
+        List<Order> page = restaurantId != null
+                ? orderRepository.findByRestaurantIdAndIdGreaterThanOrderByIdAsc(restaurantId, cursor, PageRequest.of(0, pageSize))
+                : orderRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, pageSize));
+        List<OrderResponse> orders = page
+                .stream()
+                .map(ResponseMapper::toResponse)
                 .collect(Collectors.toList());
+        return CursorPage.of(orders, pageSize, OrderResponse::getId);
     }
 
     @Override
     public List<OrderResponse> getOrdersByStatus(String status) {
         OrderStatus orderStatus = parseOrderStatus(status);
-        return orderRepository.findByStatus(orderStatus).stream()
-                .map(this::toResponse)
+        Long restaurantId = TenantContext.restaurantId();
+        List<Order> orders = restaurantId != null
+                ? orderRepository.findByRestaurantIdAndStatusOrderByIdAsc(restaurantId, orderStatus)
+                : orderRepository.findByStatus(orderStatus);
+        return orders.stream()
+                .map(ResponseMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<OrderResponse> getOrdersForCustomer(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
-        return orderRepository.findByUser(user).stream()
-                .map(this::toResponse)
+        return orderRepository.findByUserUsernameOrderByIdAsc(username).stream()
+                .map(ResponseMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Moves an order to another status. Cancelling an order takes it out of the sales aggregates
+     * and reinstating a cancelled order puts it back, once the status change reaches them through
+     * the outbox.
+     */
     @Override
+    @Transactional
     public void updateOrderStatus(Long orderId, String status) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithItemsById(orderId)
+                .filter(o -> TenantContext.permits(o.getRestaurant()))
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId));
         order.setStatus(parseOrderStatus(status));
         orderRepository.save(order);
+        appendEvent(order, OrderEventType.STATUS_CHANGED, null);
     }
 
     @Override
     @Transactional
     public void cancelOrder(Long orderId, String username) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithItemsById(orderId)
+                .filter(o -> TenantContext.permits(o.getRestaurant()))
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId));
 
         if (!order.getUser().getUsername().equals(username)) {
@@ -137,8 +496,54 @@ public class OrderServiceImpl implements OrderService {
         if (order.getStatus() == OrderStatus.COMPLETED) {
             throw new InvalidRequestException("Cannot cancel a completed order.");
         }
+        if (order.getStatus() == OrderStatus.CANCELLED) {
+            return;
+        }
         order.setStatus(OrderStatus.CANCELLED);
         orderRepository.save(order);
+        appendEvent(order, OrderEventType.CANCELLED, null);
+    }
+
+    /**
+     * Opens a live stream of order events (placed, status changed, cancelled) as Server-Sent Events.
+     * Each event is named after its type and carries the bus event ID, so clients can spot gaps
+     * left by events dropped when they fell too far behind. A restaurant-scoped stream only
+     * receives the events of that restaurant's orders. Idle streams get heartbeat comments, so a
+     * stream whose client went away is closed on the next heartbeat.
+     *
+     * @return emitter registered on the order event bus
+     */
+    @Override
+    public SseEmitter streamOrderEvents() {
+        SseEmitter emitter = new SseEmitter(ORDER_STREAM_TIMEOUT_MS);
+        long subscription = orderEventBus.subscribe(new OrderStreamSink(emitter, TenantContext.restaurantId()));
+        emitter.onCompletion(() -> orderEventBus.unsubscribe(subscription));
+        emitter.onTimeout(() -> orderEventBus.unsubscribe(subscription));
+        emitter.onError(e -> orderEventBus.unsubscribe(subscription));
+        return emitter;
+    }
+
+    /**
+     * Writes bus events to an SSE stream, optionally only those of one restaurant. Heartbeats are
+     * SSE comments, which clients ignore.
+     */
+    private record OrderStreamSink(SseEmitter emitter, Long restaurantId) implements OrderEventBus.Sink {
+
+        @Override
+        public void send(long eventId, OrderEventDTO event) throws IOException {
+            if (restaurantId != null && !restaurantId.equals(event.getRestaurantId())) {
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(eventId))
+                    .name(event.getType().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
     }
 
     @Override
@@ -158,10 +563,11 @@ public class OrderServiceImpl implements OrderService {
         LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
         LocalDateTime endDateTime = endDate != null ? endDate.atTime(LocalTime.MAX) : null;
 
-        List<Order> filteredOrders = orderRepository.filterOrders(user, orderStatus, startDateTime, endDateTime);
+        List<Order> filteredOrders = orderRepository.filterOrders(
+                TenantContext.restaurantId(), user, orderStatus, startDateTime, endDateTime);
 
         return filteredOrders.stream()
-                .map(this::toResponse)
+                .map(ResponseMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -171,8 +577,12 @@ public class OrderServiceImpl implements OrderService {
         LocalDateTime end = endDate != null ? LocalDateTime.parse(endDate) : LocalDateTime.MAX;
 
         List<Order> orders;
+        Long restaurantId = TenantContext.restaurantId();
 
-        if (username != null && status != null) {
+        if (restaurantId != null) {
+            OrderStatus orderStatus = status != null ? parseOrderStatus(status) : null;
+            orders = orderRepository.findForRestaurant(restaurantId, username, orderStatus, start, end);
+        } else if (username != null && status != null) {
             OrderStatus orderStatus = parseOrderStatus(status);
             orders = orderRepository.findByUserUsernameAndStatusAndOrderDateBetween(username, orderStatus, start, end);
         } else if (username != null) {
@@ -184,7 +594,69 @@ public class OrderServiceImpl implements OrderService {
             orders = orderRepository.findByOrderDateBetween(start, end);
         }
 
-        return orders.stream().map(this::toResponse).collect(Collectors.toList());
+        return orders.stream().map(ResponseMapper::toResponse).collect(Collectors.toList());
+    }
+
+    /**
+     * Writes an order change to the outbox in the current transaction; the relay forwards it
+     * to the live feed once the transaction commits.
+     *
+     * @param order order after the change
+     * @param type  what happened
+     * @param items ordered items, or null when they did not change
+     */
+    private void appendEvent(Order order, OrderEventType type, List<OrderEventDTO.Item> items) {
+        OrderEventDTO event = toEvent(order, type, items);
+        OutboxEventType outboxType = switch (type) {
+            case PLACED -> OutboxEventType.ORDER_PLACED;
+            case STATUS_CHANGED -> OutboxEventType.ORDER_STATUS_CHANGED;
+            case CANCELLED -> OutboxEventType.ORDER_CANCELLED;
+        };
+        outboxWriter.append(outboxType, order.getId(), event.getRestaurantId(), event);
+    }
+
+    /**
+     * Builds the live feed event for an order change.
+     *
+     * @param order order after the change
+     * @param type  what happened
+     * @param items ordered items, or null when they did not change
+     * @return event for the order event bus
+     */
+    private OrderEventDTO toEvent(Order order, OrderEventType type, List<OrderEventDTO.Item> items) {
+        return OrderEventDTO.builder()
+                .type(type)
+                .orderId(order.getId())
+                .restaurantId(order.getRestaurant() != null ? order.getRestaurant().getId() : null)
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .occurredAt(LocalDateTime.now())
+                .items(items)
+                .build();
+    }
+
+    /**
+     * Streams the filtered orders to the output. Each order is written and detached right away,
+     * so neither the persistence context nor the response grows with the number of rows.
+     */
+    @Override
+    @Transactional
+    public void exportOrders(String username, String status, String startDate, String endDate,
+                             ExportFormat format, OutputStream out) throws IOException {
+        OrderStatus orderStatus = status != null ? parseOrderStatus(status) : null;
+        LocalDateTime start = startDate != null ? LocalDateTime.parse(startDate) : null;
+        LocalDateTime end = endDate != null ? LocalDateTime.parse(endDate) : null;
+
+        try (Stream<Order> orders = orderRepository.streamForExport(
+                TenantContext.restaurantId(), username, orderStatus, start, end);
+             RecordExportWriter<OrderResponse> writer = new RecordExportWriter<>(out, format, objectMapper,
+                     new String[]{"id", "orderDate", "status", "totalAmount"},
+                     o -> new Object[]{o.getId(), o.getOrderDate(), o.getStatus(), o.getTotalAmount()})) {
+            for (Order order : (Iterable<Order>) orders::iterator) {
+                writer.write(ResponseMapper.toResponse(order));
+                entityManager.detach(order);
+            }
+        }
     }
 
     private OrderStatus parseOrderStatus(String status) {
@@ -194,8 +666,4 @@ public class OrderServiceImpl implements OrderService {
             throw new InvalidRequestException("Invalid order status: " + status);
         }
     }
-
-    private OrderResponse toResponse(Order order) {
-        return new OrderResponse(order.getId(), order.getOrderDate(), order.getStatus().name(), order.getTotalAmount());
-    }
 }
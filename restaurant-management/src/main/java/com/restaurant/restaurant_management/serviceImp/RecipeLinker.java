@@ -0,0 +1,76 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.model.Inventory;
+import com.restaurant.restaurant_management.model.MenuItem;
+import com.restaurant.restaurant_management.model.RecipeIngredient;
+import com.restaurant.restaurant_management.repository.RecipeIngredientRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Gives menu items without a recipe one unit per serving of the inventory item of the same name
+ * in the same restaurant, so an order never takes stock of another branch.
+ * <p>
+ * Order placement only finds stock through recipe lines, so a menu item and its stock created
+ * through the API would otherwise not be orderable until someone writes a recipe. Links are made
+ * on startup for existing data and whenever a menu item or inventory item is saved. A menu item
+ * that already has a recipe is never touched.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipeLinker {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeLinker.class);
+
+    private final RecipeIngredientRepository recipeIngredientRepository;
+
+    /**
+     * Links every menu item without a recipe to the inventory item of the same name in its restaurant.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void linkAll() {
+        int linked = link(recipeIngredientRepository.findUnlinkedNameMatches());
+        if (linked > 0) {
+            logger.info("Linked {} menu items to inventory items by name", linked);
+        }
+    }
+
+    /**
+     * Links a saved menu item to the inventory item of the same name, if it has no recipe.
+     *
+     * @param menuItemId the saved menu item's ID
+     */
+    public void linkMenuItem(Long menuItemId) {
+        link(recipeIngredientRepository.findUnlinkedNameMatchesByMenuItemId(menuItemId));
+    }
+
+    /**
+     * Links the menu items without a recipe that are named like a saved inventory item to it.
+     *
+     * @param inventoryId the saved inventory item's ID
+     */
+    public void linkInventory(Long inventoryId) {
+        link(recipeIngredientRepository.findUnlinkedNameMatchesByInventoryId(inventoryId));
+    }
+
+    private int link(List<Object[]> matches) {
+        List<RecipeIngredient> links = matches.stream()
+                .map(row -> RecipeIngredient.builder()
+                        .menuItem((MenuItem) row[0])
+                        .inventory((Inventory) row[1])
+                        .quantityPerServing(1.0)
+                        .build())
+                .collect(Collectors.toList());
+        if (!links.isEmpty()) {
+            recipeIngredientRepository.saveAll(links);
+        }
+        return links.size();
+    }
+}
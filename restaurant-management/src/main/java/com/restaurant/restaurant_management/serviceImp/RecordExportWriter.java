@@ -0,0 +1,107 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.restaurant.restaurant_management.enums.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Writes records one by one to an output stream as NDJSON or CSV.
+ * Nothing is buffered beyond the writer's internal buffer, so memory stays constant
+ * regardless of how many records are exported.
+ *
+ * @param <T> type of the exported records
+ */
+class RecordExportWriter<T> implements AutoCloseable {
+
+    private final Writer writer;
+    private final ExportFormat format;
+    private final Function<T, Object[]> csvRow;
+    private final SequenceWriter jsonWriter;
+    private boolean empty = true;
+
+    /**
+     * Creates a writer and, for CSV, writes the header row.
+     *
+     * @param out          the stream to write to
+     * @param format       the export format
+     * @param objectMapper the mapper used for NDJSON records
+     * @param csvHeaders   the CSV column names
+     * @param csvRow       function returning the CSV column values of a record
+     * @throws IOException if writing fails
+     */
+    RecordExportWriter(OutputStream out, ExportFormat format, ObjectMapper objectMapper,
+                       String[] csvHeaders, Function<T, Object[]> csvRow) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.format = format;
+        this.csvRow = csvRow;
+        if (format == ExportFormat.NDJSON) {
+            this.jsonWriter = objectMapper.writer().withRootValueSeparator("\n").writeValues(writer);
+        } else {
+            this.jsonWriter = null;
+            writeCsvLine(csvHeaders);
+        }
+    }
+
+    /**
+     * Writes a single record.
+     *
+     * @param record the record to write
+     * @throws IOException if writing fails
+     */
+    void write(T record) throws IOException {
+        if (jsonWriter != null) {
+            jsonWriter.write(record);
+        } else {
+            writeCsvLine(csvRow.apply(record));
+        }
+        empty = false;
+    }
+
+    /**
+     * Flushes the remaining output and closes the underlying stream.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (jsonWriter != null) {
+            // The sequence writer only separates records, so terminate the last line explicitly
+            jsonWriter.flush();
+            if (!empty) {
+                writer.write('\n');
+            }
+            jsonWriter.close();
+        } else {
+            writer.close();
+        }
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
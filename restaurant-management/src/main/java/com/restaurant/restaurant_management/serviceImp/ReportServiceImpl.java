@@ -0,0 +1,104 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.dto.CategorySalesDTO;
+import com.restaurant.restaurant_management.dto.ItemSalesDTO;
+import com.restaurant.restaurant_management.dto.SalesPeriodDTO;
+import com.restaurant.restaurant_management.exception.InvalidRequestException;
+import com.restaurant.restaurant_management.model.SalesHourly;
+import com.restaurant.restaurant_management.money.Money;
+import com.restaurant.restaurant_management.repository.SalesHourlyRepository;
+import com.restaurant.restaurant_management.repository.SalesItemDailyRepository;
+import com.restaurant.restaurant_management.service.ReportService;
+import com.restaurant.restaurant_management.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Implementation of ReportService. Reads only the sales aggregate tables, so the cost of a report
+ * grows with the number of days (and items) in the range, not with the number of orders.
+ * A restaurant-scoped request reads only its restaurant's rows; otherwise the rows of every
+ * restaurant are added up for the whole chain.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+
+    private final SalesHourlyRepository salesHourlyRepository;
+    private final SalesItemDailyRepository salesItemDailyRepository;
+
+    /**
+     * Adds up the rows of each hour, one per restaurant with orders in that hour.
+     */
+    @Override
+    public List<SalesPeriodDTO> getHourlySales(LocalDate from, LocalDate to) {
+        return rollUp(hourlyRows(from, to), hour -> hour);
+    }
+
+    /**
+     * Rolls the hourly rows up into days, at most 24 rows per day and restaurant.
+     */
+    @Override
+    public List<SalesPeriodDTO> getDailySales(LocalDate from, LocalDate to) {
+        return rollUp(hourlyRows(from, to), hour -> hour.toLocalDate().atStartOfDay());
+    }
+
+    @Override
+    public List<ItemSalesDTO> getMenuItemSales(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return salesItemDailyRepository.sumByMenuItem(TenantContext.restaurantId(), from, to);
+    }
+
+    @Override
+    public List<CategorySalesDTO> getCategorySales(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return salesItemDailyRepository.sumByCategory(TenantContext.restaurantId(), from, to);
+    }
+
+    private List<SalesHourly> hourlyRows(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return salesHourlyRepository.findInRange(TenantContext.restaurantId(),
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Adds up hourly rows, in hour order, per period, adding amounts in minor units.
+     *
+     * @param rows   hourly rows ordered by hour
+     * @param period start of the period an hour belongs to
+     * @return totals per period, in time order
+     */
+    private static List<SalesPeriodDTO> rollUp(List<SalesHourly> rows, UnaryOperator<LocalDateTime> period) {
+        Map<LocalDateTime, SalesPeriodDTO> periods = new LinkedHashMap<>();
+        for (SalesHourly h : rows) {
+            SalesPeriodDTO total = periods.computeIfAbsent(period.apply(h.getBucketStart()),
+                    start -> new SalesPeriodDTO(start, 0, 0, 0.0, 0, 0.0));
+            total.setOrders(total.getOrders() + h.getOrderCount());
+            total.setItemsSold(total.getItemsSold() + h.getItemCount());
+            total.setRevenue(add(total.getRevenue(), h.getRevenue()));
+            total.setBills(total.getBills() + h.getBillCount());
+            total.setBilledAmount(add(total.getBilledAmount(), h.getBilledAmount()));
+        }
+        return new ArrayList<>(periods.values());
+    }
+
+    private static double add(double amount, double other) {
+        return Money.toAmount(Math.addExact(Money.toMinor(amount), Money.toMinor(other)));
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new InvalidRequestException("Both from and to dates are required");
+        }
+        if (to.isBefore(from)) {
+            throw new InvalidRequestException("The to date must not be before the from date");
+        }
+    }
+}
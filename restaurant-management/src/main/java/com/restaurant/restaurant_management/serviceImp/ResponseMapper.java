@@ -0,0 +1,63 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.dto.BillingResponseDTO;
+import com.restaurant.restaurant_management.dto.BookingResponseDTO;
+import com.restaurant.restaurant_management.dto.OrderResponse;
+import com.restaurant.restaurant_management.model.Billing;
+import com.restaurant.restaurant_management.model.Booking;
+import com.restaurant.restaurant_management.model.Order;
+
+/**
+ * Maps orders, bookings and bills to the DTOs returned by the services and written to exports
+ * and outbox events.
+ */
+final class ResponseMapper {
+
+    private ResponseMapper() {
+    }
+
+    /**
+     * Maps an order to its response DTO.
+     *
+     * @param order the order entity
+     * @return the order response
+     */
+    static OrderResponse toResponse(Order order) {
+        return new OrderResponse(order.getId(), order.getOrderDate(), order.getStatus().name(), order.getTotalAmount());
+    }
+
+    /**
+     * Maps a booking to its response DTO.
+     *
+     * @param booking the booking entity
+     * @return the booking response
+     */
+    static BookingResponseDTO toResponse(Booking booking) {
+        return BookingResponseDTO.builder()
+                .id(booking.getId())
+                .userId(booking.getUser().getId())
+                .tableId(booking.getTable().getId())
+                .startTime(booking.getStartTime())
+                .endTime(booking.getEndTime())
+                .status(booking.getStatus())
+                .build();
+    }
+
+    /**
+     * Maps a bill to its response DTO.
+     *
+     * @param billing the billing entity
+     * @return the billing response
+     */
+    static BillingResponseDTO toResponse(Billing billing) {
+        BillingResponseDTO dto = new BillingResponseDTO();
+        dto.setId(billing.getId());
+        dto.setOrderId(billing.getOrder().getId());
+        dto.setPrice(billing.getPrice());
+        dto.setTax(billing.getTax());
+        dto.setDiscount(billing.getDiscount());
+        dto.setTotalAmount(billing.getTotalAmount());
+        dto.setStatus(billing.getStatus());
+        return dto;
+    }
+}
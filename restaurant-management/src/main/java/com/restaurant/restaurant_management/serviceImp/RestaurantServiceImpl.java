@@ -22,17 +22,18 @@ public class RestaurantServiceImpl implements RestaurantService {
                 .name(dto.getName())
                 .address(dto.getAddress())
                 .phone(dto.getPhone())
+                .taxPercent(dto.getTaxPercent())
                 .build();
 
         Restaurant saved = restaurantRepository.save(restaurant);
 
-        return new RestaurantResponseDTO(saved.getId(), saved.getName(), saved.getAddress(), saved.getPhone());
+        return new RestaurantResponseDTO(saved.getId(), saved.getName(), saved.getAddress(), saved.getPhone(), saved.getTaxPercent());
     }
 
     @Override
     public List<RestaurantResponseDTO> getAllRestaurants() {
         return restaurantRepository.findAll().stream()
-                .map(r -> new RestaurantResponseDTO(r.getId(), r.getName(), r.getAddress(), r.getPhone()))
+                .map(r -> new RestaurantResponseDTO(r.getId(), r.getName(), r.getAddress(), r.getPhone(), r.getTaxPercent()))
                 .toList();
     }
 }
@@ -2,32 +2,62 @@ package com.restaurant.restaurant_management.serviceImp;
 
 import com.restaurant.restaurant_management.dto.RestaurantTableDto;
 import com.restaurant.restaurant_management.dto.TableRequestDTO;
+import com.restaurant.restaurant_management.exception.InvalidRequestException;
 import com.restaurant.restaurant_management.model.RestaurantTable;
+import com.restaurant.restaurant_management.repository.RestaurantRepository;
 import com.restaurant.restaurant_management.repository.RestaurantTableRepository;
 import com.restaurant.restaurant_management.service.RestaurantTableService;
+import com.restaurant.restaurant_management.tenant.TenantContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 @Service
 @RequiredArgsConstructor
 public class RestaurantTableServiceImpl implements RestaurantTableService {
 
+    /**
+     * Capacity buckets key of requests that are not scoped to a restaurant.
+     */
+    private static final long CHAIN = 0L;
+
     private final RestaurantTableRepository tableRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
+
+    /**
+     * Bookable tables grouped by capacity, per restaurant (and one set for the whole chain),
+     * rebuilt on first use after any table change.
+     */
+    private final Map<Long, CapacityBuckets> capacityBuckets = new ConcurrentHashMap<>();
+    private final AtomicLong tablesVersion = new AtomicLong();
 
     /**
-     * Create and save a new restaurant table.
+     * Create and save a new restaurant table, in the request's restaurant when it is restaurant-scoped.
      *
      * @param dto Table request data transfer object containing table details.
      * @return The saved RestaurantTable entity.
      */
     @Override
     public RestaurantTable createTable(TableRequestDTO dto) {
+        Long restaurantId = TenantContext.restaurantId();
         RestaurantTable table = RestaurantTable.builder()
             .tableNumber(dto.getTableNumber())  // Table number stored as String
             .capacity(dto.getCapacity())
             .available(true)  // New table is available by default
+            .restaurant(restaurantId != null ? restaurantRepository.getReferenceById(restaurantId) : null)
             .build();
-        return tableRepository.save(table);
+        RestaurantTable saved = tableRepository.save(table);
+        tablesVersion.incrementAndGet();
+        return saved;
     }
 
     /**
@@ -40,6 +70,7 @@ public class RestaurantTableServiceImpl implements RestaurantTableService {
     @Override
     public RestaurantTableDto getTable(Long id) {
         RestaurantTable table = tableRepository.findById(id)
+            .filter(t -> TenantContext.permits(t.getRestaurant()))
             .orElseThrow(() -> new RuntimeException("Table not found"));
         return convertToDto(table);
     }
@@ -55,6 +86,7 @@ public class RestaurantTableServiceImpl implements RestaurantTableService {
     @Override
     public RestaurantTableDto updateTable(Long id, RestaurantTableDto dto) {
         RestaurantTable table = tableRepository.findById(id)
+            .filter(t -> TenantContext.permits(t.getRestaurant()))
             .orElseThrow(() -> new RuntimeException("Table not found"));
 
         table.setTableNumber(String.valueOf(dto.getTableNumber()));  // Ensure consistent type
@@ -62,6 +94,7 @@ public class RestaurantTableServiceImpl implements RestaurantTableService {
         table.setAvailable(dto.isAvailable());
 
         RestaurantTable updated = tableRepository.save(table);
+        tablesVersion.incrementAndGet();
         return convertToDto(updated);
     }
 
@@ -74,8 +107,71 @@ public class RestaurantTableServiceImpl implements RestaurantTableService {
     @Override
     public void deleteTable(Long id) {
         RestaurantTable table = tableRepository.findById(id)
+            .filter(t -> TenantContext.permits(t.getRestaurant()))
             .orElseThrow(() -> new RuntimeException("Table not found"));
         tableRepository.delete(table);
+        tablesVersion.incrementAndGet();
+    }
+
+    /**
+     * Find the tables that seat the party and are free for the whole window.
+     * Candidates come from the capacity buckets (only tables marked available), and each
+     * candidate is checked against the in-memory booking index, so no query runs per search.
+     *
+     * @param start     Window start.
+     * @param end       Window end.
+     * @param partySize Number of guests.
+     * @return Free tables ordered by capacity, smallest first.
+     * @throws InvalidRequestException if the window is empty or the party size is not positive.
+     */
+    @Override
+    public List<RestaurantTableDto> findAvailableTables(LocalDateTime start, LocalDateTime end, int partySize) {
+        if (start == null || end == null || !start.isBefore(end)) {
+            throw new InvalidRequestException("Start time must be before end time");
+        }
+        if (partySize <= 0) {
+            throw new InvalidRequestException("Party size must be greater than zero");
+        }
+
+        List<RestaurantTableDto> free = new ArrayList<>();
+        for (List<RestaurantTableDto> bucket : capacityBuckets().byCapacity().tailMap(partySize, true).values()) {
+            for (RestaurantTableDto table : bucket) {
+                if (bookingIntervalIndex.isFree(table.getId(), start, end)) {
+                    free.add(table);
+                }
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Return the capacity buckets of the request's restaurant (or of the whole chain), rebuilding them
+     * if a table changed since they were built. A rebuild that races with a table change is tagged with
+     * the old version and rebuilt again on next use.
+     *
+     * @return Bookable tables grouped by capacity.
+     */
+    private CapacityBuckets capacityBuckets() {
+        Long restaurantId = TenantContext.restaurantId();
+        long key = restaurantId != null ? restaurantId : CHAIN;
+        CapacityBuckets buckets = capacityBuckets.get(key);
+        long version = tablesVersion.get();
+        if (buckets != null && buckets.version() == version) {
+            return buckets;
+        }
+
+        List<RestaurantTable> tables = restaurantId != null
+            ? tableRepository.findByRestaurantId(restaurantId)
+            : tableRepository.findAll();
+        NavigableMap<Integer, List<RestaurantTableDto>> byCapacity = new TreeMap<>();
+        for (RestaurantTable table : tables) {
+            if (table.isAvailable()) {
+                byCapacity.computeIfAbsent(table.getCapacity(), c -> new ArrayList<>()).add(convertToDto(table));
+            }
+        }
+        buckets = new CapacityBuckets(version, byCapacity);
+        capacityBuckets.put(key, buckets);
+        return buckets;
     }
 
     /**
@@ -92,4 +188,10 @@ public class RestaurantTableServiceImpl implements RestaurantTableService {
         dto.setAvailable(table.isAvailable());
         return dto;
     }
+
+    /**
+     * Immutable snapshot of bookable tables by capacity, tagged with the table version it was built from.
+     */
+    private record CapacityBuckets(long version, NavigableMap<Integer, List<RestaurantTableDto>> byCapacity) {
+    }
 }
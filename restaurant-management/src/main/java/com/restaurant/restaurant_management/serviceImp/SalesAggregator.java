@@ -0,0 +1,272 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.enums.BillingStatus;
+import com.restaurant.restaurant_management.enums.OrderStatus;
+import com.restaurant.restaurant_management.enums.OutboxEventType;
+import com.restaurant.restaurant_management.model.Billing;
+import com.restaurant.restaurant_management.model.Order;
+import com.restaurant.restaurant_management.model.OrderItem;
+import com.restaurant.restaurant_management.model.OutboxEvent;
+import com.restaurant.restaurant_management.money.Money;
+import com.restaurant.restaurant_management.outbox.OutboxSubscriber;
+import com.restaurant.restaurant_management.repository.BillingRepository;
+import com.restaurant.restaurant_management.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Keeps the hourly and per-item daily sales aggregates of each restaurant in step with orders and bills.
+ * <p>
+ * The aggregates are updated from the outbox, after the order or bill change committed, so order
+ * placement never waits on the shared hourly row. On every event of an order the aggregates are
+ * brought in line with the order's current state: an order counts while it is not cancelled, and
+ * an issued bill counts once. The {@code salesCounted} flags of the order and bill record what is
+ * counted and are flipped with a conditional update in the same transaction as the aggregate rows,
+ * so a redelivered or out-of-order event changes nothing.
+ * <p>
+ * Rows are created or incremented with an upsert (insert ... on conflict do update). The relay
+ * delivers one event at a time per instance, but two instances, or databases whose upsert is not
+ * atomic (H2), can still both try to create a row; the losing transaction fails on the unique key
+ * and is retried, at most {@value #MAX_ATTEMPTS} times before the relay retries the event later.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesAggregator implements OutboxSubscriber {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalesAggregator.class);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    /**
+     * Restaurant ID the aggregates of orders without a restaurant are kept under.
+     */
+    private static final long NO_RESTAURANT = 0L;
+
+    private static final Set<OutboxEventType> EVENT_TYPES = EnumSet.of(OutboxEventType.ORDER_PLACED,
+            OutboxEventType.ORDER_STATUS_CHANGED, OutboxEventType.ORDER_CANCELLED, OutboxEventType.ORDER_BILLED);
+
+    private static final String MARK_ORDER =
+            "update Order o set o.salesCounted = :counted where o.id = :orderId and o.salesCounted <> :counted";
+
+    private static final String MARK_BILL =
+            "update Billing b set b.salesCounted = true where b.order.id = :orderId " +
+            "and b.status = :issued and b.salesCounted = false";
+
+    private static final String ADD_HOURLY_ORDERS =
+            "insert into SalesHourly (restaurantId, bucketStart, orderCount, itemCount, revenue, billCount, billedAmount) " +
+            "values (:restaurantId, :bucketStart, :orders, :items, :revenue, 0, 0.0) " +
+            "on conflict (restaurantId, bucketStart) do update set orderCount = orderCount + excluded.orderCount, " +
+            "itemCount = itemCount + excluded.itemCount, revenue = revenue + excluded.revenue";
+
+    private static final String ADD_HOURLY_BILLS =
+            "insert into SalesHourly (restaurantId, bucketStart, orderCount, itemCount, revenue, billCount, billedAmount) " +
+            "values (:restaurantId, :bucketStart, 0, 0, 0.0, :bills, :amount) " +
+            "on conflict (restaurantId, bucketStart) do update set billCount = billCount + excluded.billCount, " +
+            "billedAmount = billedAmount + excluded.billedAmount";
+
+    private static final String ADD_ITEM_DAILY =
+            "insert into SalesItemDaily (restaurantId, salesDate, menuItemId, categoryId, quantity, revenue) " +
+            "values (:restaurantId, :salesDate, :menuItemId, :categoryId, :quantity, :revenue) " +
+            "on conflict (restaurantId, salesDate, menuItemId) do update set quantity = quantity + excluded.quantity, " +
+            "revenue = revenue + excluded.revenue";
+
+    // Only counted orders are taken away, so their rows exist
+    private static final String SUBTRACT_HOURLY_ORDERS =
+            "update SalesHourly s set s.orderCount = s.orderCount - :orders, s.itemCount = s.itemCount - :items, " +
+            "s.revenue = s.revenue - :revenue where s.restaurantId = :restaurantId and s.bucketStart = :bucketStart";
+
+    private static final String SUBTRACT_ITEM_DAILY =
+            "update SalesItemDaily s set s.quantity = s.quantity - :quantity, s.revenue = s.revenue - :revenue " +
+            "where s.restaurantId = :restaurantId and s.salesDate = :salesDate and s.menuItemId = :menuItemId";
+
+    private final EntityManager entityManager;
+    private final OrderRepository orderRepository;
+    private final BillingRepository billingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> sync(event.getAggregateId()));
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS || !isDuplicateKey(e)) {
+                    throw e;
+                }
+                logger.debug("Sales row of order {} was created concurrently, retrying", event.getAggregateId());
+            }
+        }
+    }
+
+    /**
+     * Counts or uncounts an order and counts its issued bill, as far as not done already.
+     */
+    private void sync(Long orderId) {
+        Order order = orderRepository.findWithItemsById(orderId).orElse(null);
+        if (order == null) {
+            return;
+        }
+        boolean counts = order.getStatus() != OrderStatus.CANCELLED;
+        if (counts != order.isSalesCounted() && markOrder(orderId, counts)) {
+            if (counts) {
+                add(order);
+            } else {
+                subtract(order);
+            }
+        }
+        if (markBill(orderId)) {
+            addBill(order, billingRepository.findByOrderId(orderId));
+        }
+    }
+
+    private boolean markOrder(Long orderId, boolean counted) {
+        return entityManager.createQuery(MARK_ORDER)
+                .setParameter("orderId", orderId)
+                .setParameter("counted", counted)
+                .executeUpdate() == 1;
+    }
+
+    private boolean markBill(Long orderId) {
+        return entityManager.createQuery(MARK_BILL)
+                .setParameter("orderId", orderId)
+                .setParameter("issued", BillingStatus.FINAL)
+                .executeUpdate() == 1;
+    }
+
+    private void add(Order order) {
+        Long restaurantId = restaurantIdOf(order);
+        Totals totals = totals(List.of(order));
+        totals.hourly.forEach((hour, t) -> entityManager.createQuery(ADD_HOURLY_ORDERS)
+                .setParameter("restaurantId", restaurantId)
+                .setParameter("bucketStart", hour)
+                .setParameter("orders", t.orders)
+                .setParameter("items", t.items)
+                .setParameter("revenue", Money.toAmount(t.revenue))
+                .executeUpdate());
+        totals.items.forEach((key, t) -> entityManager.createQuery(ADD_ITEM_DAILY)
+                .setParameter("restaurantId", restaurantId)
+                .setParameter("salesDate", key.salesDate())
+                .setParameter("menuItemId", key.menuItemId())
+                .setParameter("categoryId", t.categoryId)
+                .setParameter("quantity", t.items)
+                .setParameter("revenue", Money.toAmount(t.revenue))
+                .executeUpdate());
+    }
+
+    private void subtract(Order order) {
+        Long restaurantId = restaurantIdOf(order);
+        Totals totals = totals(List.of(order));
+        totals.hourly.forEach((hour, t) -> entityManager.createQuery(SUBTRACT_HOURLY_ORDERS)
+                .setParameter("restaurantId", restaurantId)
+                .setParameter("bucketStart", hour)
+                .setParameter("orders", t.orders)
+                .setParameter("items", t.items)
+                .setParameter("revenue", Money.toAmount(t.revenue))
+                .executeUpdate());
+        totals.items.forEach((key, t) -> entityManager.createQuery(SUBTRACT_ITEM_DAILY)
+                .setParameter("restaurantId", restaurantId)
+                .setParameter("salesDate", key.salesDate())
+                .setParameter("menuItemId", key.menuItemId())
+                .setParameter("quantity", t.items)
+                .setParameter("revenue", Money.toAmount(t.revenue))
+                .executeUpdate());
+    }
+
+    /**
+     * Adds a bill to the hour its order was placed in, in the order's restaurant.
+     */
+    private void addBill(Order order, Billing billing) {
+        entityManager.createQuery(ADD_HOURLY_BILLS)
+                .setParameter("restaurantId", restaurantIdOf(order))
+                .setParameter("bucketStart", hourOf(order.getOrderDate()))
+                .setParameter("bills", 1L)
+                .setParameter("amount", billing.getTotalAmount())
+                .executeUpdate();
+    }
+
+    private static boolean isDuplicateKey(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataIntegrityViolationException || cause instanceof ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sums orders per hour and order lines per menu item and day, keyed in write order.
+     * Revenue is summed in minor units, so a large batch adds up exactly.
+     */
+    private static Totals totals(Collection<Order> orders) {
+        Totals totals = new Totals();
+        for (Order order : orders) {
+            LocalDateTime hour = hourOf(order.getOrderDate());
+            Sum hourly = totals.hourly.computeIfAbsent(hour, h -> new Sum());
+            hourly.orders++;
+            hourly.revenue = Math.addExact(hourly.revenue, Money.toMinor(order.getTotalAmount()));
+
+            for (OrderItem item : order.getOrderItems()) {
+                hourly.items += item.getQuantity();
+                Sum daily = totals.items.computeIfAbsent(
+                        new ItemDay(hour.toLocalDate(), item.getMenuItem().getId()), k -> new Sum());
+                daily.items += item.getQuantity();
+                daily.revenue = Math.addExact(daily.revenue, Money.times(Money.toMinor(item.getPrice()), item.getQuantity()));
+                if (item.getMenuItem().getCategory() != null) {
+                    daily.categoryId = item.getMenuItem().getCategory().getId();
+                }
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Returns the restaurant an order is counted under: its own, or {@value #NO_RESTAURANT} for
+     * orders that belong to no restaurant.
+     */
+    private static Long restaurantIdOf(Order order) {
+        return order.getRestaurant() != null ? order.getRestaurant().getId() : NO_RESTAURANT;
+    }
+
+    private static LocalDateTime hourOf(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private record ItemDay(LocalDate salesDate, Long menuItemId) {
+    }
+
+    private static final class Sum {
+        private long orders;
+        private long items;
+        private long revenue;
+        private Long categoryId;
+    }
+
+    private static final class Totals {
+        private final Map<LocalDateTime, Sum> hourly = new TreeMap<>();
+        private final Map<ItemDay, Sum> items = new TreeMap<>(
+                Comparator.comparing(ItemDay::salesDate).thenComparing(ItemDay::menuItemId));
+    }
+}
@@ -0,0 +1,62 @@
+package com.restaurant.restaurant_management.tenant;
+
+import com.restaurant.restaurant_management.model.Restaurant;
+
+/**
+ * Holds the restaurant (branch) the current request works on, as resolved by {@link TenantFilter}.
+ * <p>
+ * With a restaurant set, services read and write only that restaurant's orders, bookings, tables,
+ * inventory and bills, and use that restaurant's partition of the in-process caches. Without one
+ * (no {@value TenantFilter#HEADER} header) requests work across the whole chain, as before.
+ * <p>
+ * The restaurant is picked by the client and is not checked against the caller, so the scope keeps a
+ * request's reads and writes within one branch but does not stop a caller from choosing another one.
+ */
+public final class TenantContext {
+
+    private static final ThreadLocal<Long> RESTAURANT_ID = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * Returns the restaurant of the current request.
+     *
+     * @return restaurant ID, or null when the request is not scoped to a restaurant
+     */
+    public static Long restaurantId() {
+        return RESTAURANT_ID.get();
+    }
+
+    /**
+     * Scopes the current thread to a restaurant.
+     *
+     * @param restaurantId restaurant ID, or null for the whole chain
+     */
+    public static void set(Long restaurantId) {
+        if (restaurantId == null) {
+            RESTAURANT_ID.remove();
+        } else {
+            RESTAURANT_ID.set(restaurantId);
+        }
+    }
+
+    /**
+     * Checks whether a record of the given restaurant is visible to the current request: always when
+     * the request is not scoped, otherwise only if it belongs to the request's restaurant.
+     *
+     * @param restaurant restaurant the record belongs to (may be null for unscoped legacy rows)
+     * @return true if the record is within the request's scope; this is not an authorization check
+     */
+    public static boolean permits(Restaurant restaurant) {
+        Long current = RESTAURANT_ID.get();
+        return current == null || (restaurant != null && current.equals(restaurant.getId()));
+    }
+
+    /**
+     * Removes the restaurant scope of the current thread.
+     */
+    public static void clear() {
+        RESTAURANT_ID.remove();
+    }
+}
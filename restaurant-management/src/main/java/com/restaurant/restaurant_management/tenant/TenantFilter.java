@@ -0,0 +1,87 @@
+package com.restaurant.restaurant_management.tenant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.restaurant_management.exception.GlobalExceptionHandler;
+import com.restaurant.restaurant_management.repository.RestaurantRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the restaurant a request is scoped to from the {@value #HEADER} header, once per request,
+ * and keeps it in {@link TenantContext} while the request is handled.
+ * <p>
+ * A malformed ID is answered with 400 and an unknown restaurant with 404. Restaurants are never
+ * deleted, so IDs found once are remembered and later requests for them skip the database.
+ * <p>
+ * The header is a partitioning hint chosen by the client, not an access boundary: the filter runs
+ * before authentication, users do not belong to a restaurant, and any caller may name any branch or
+ * omit the header to work across the whole chain. What a caller may do is decided by the role rules
+ * in {@code SecurityConfig} alone.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class TenantFilter extends OncePerRequestFilter {
+
+    /**
+     * Request header carrying the restaurant ID.
+     */
+    public static final String HEADER = "X-Restaurant-Id";
+
+    private final RestaurantRepository restaurantRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Set<Long> knownRestaurants = ConcurrentHashMap.newKeySet();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HEADER);
+        if (header == null || header.isBlank()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long restaurantId;
+        try {
+            restaurantId = Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            reject(response, HttpStatus.BAD_REQUEST, "Invalid " + HEADER + " header: " + header);
+            return;
+        }
+        if (!knownRestaurants.contains(restaurantId)) {
+            if (!restaurantRepository.existsById(restaurantId)) {
+                reject(response, HttpStatus.NOT_FOUND, "Restaurant not found with id: " + restaurantId);
+                return;
+            }
+            knownRestaurants.add(restaurantId);
+        }
+
+        TenantContext.set(restaurantId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new GlobalExceptionHandler.ErrorResponse(message));
+    }
+}
@@ -0,0 +1,4 @@
+-- Each restaurant can set the tax rate its bills are drafted and issued at; restaurants without one
+-- use billing.default-tax-percent.
+
+alter table restaurants add column tax_percent float(53);
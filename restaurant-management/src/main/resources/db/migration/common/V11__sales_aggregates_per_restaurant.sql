@@ -0,0 +1,46 @@
+-- The sales aggregates are kept per restaurant, led by restaurant_id in their unique keys, so a branch's
+-- reports read only its own rows. Orders of no restaurant are counted under restaurant_id 0, since a
+-- unique key does not treat nulls as equal. The rows are rebuilt per restaurant from what the sales
+-- aggregator has counted so far (orders.sales_counted, billing.sales_counted), so events still in the
+-- outbox are counted once, when they are relayed.
+
+delete from sales_hourly;
+delete from sales_item_daily;
+
+alter table sales_hourly drop constraint uk_sales_hourly_bucket;
+alter table sales_item_daily drop constraint uk_sales_item_daily_date_item;
+
+alter table sales_hourly add column restaurant_id bigint not null;
+alter table sales_item_daily add column restaurant_id bigint not null;
+
+alter table sales_hourly add constraint uk_sales_hourly_restaurant_bucket unique (restaurant_id, bucket_start);
+alter table sales_item_daily add constraint uk_sales_item_daily_restaurant_date_item unique (restaurant_id, sales_date, menu_item_id);
+create index idx_sales_hourly_bucket on sales_hourly (bucket_start);
+create index idx_sales_item_daily_date on sales_item_daily (sales_date);
+
+insert into sales_hourly (restaurant_id, bucket_start, order_count, item_count, revenue, bill_count, billed_amount)
+select restaurant_id, bucket_start, sum(orders), sum(items), sum(revenue), sum(bills), sum(billed_amount)
+from (
+    select coalesce(o.restaurant_id, 0) as restaurant_id,
+           timestampadd(hour, extract(hour from o.order_date), cast(cast(o.order_date as date) as datetime)) as bucket_start,
+           1 as orders,
+           (select coalesce(sum(i.quantity), 0) from order_items i where i.order_id = o.id) as items,
+           o.total_amount as revenue, 0 as bills, 0 as billed_amount
+    from orders o
+    where o.sales_counted = true
+    union all
+    select coalesce(o.restaurant_id, 0),
+           timestampadd(hour, extract(hour from o.order_date), cast(cast(o.order_date as date) as datetime)),
+           0, 0, 0, 1, b.total_amount
+    from billing b join orders o on o.id = b.order_id
+    where b.sales_counted = true
+) counted
+group by restaurant_id, bucket_start;
+
+insert into sales_item_daily (restaurant_id, sales_date, menu_item_id, category_id, quantity, revenue)
+select coalesce(o.restaurant_id, 0), cast(o.order_date as date), i.menu_item_id, m.category_id, sum(i.quantity), sum(i.price * i.quantity)
+from order_items i
+    join orders o on o.id = i.order_id
+    join menu_items m on m.id = i.menu_item_id
+where o.sales_counted = true
+group by coalesce(o.restaurant_id, 0), cast(o.order_date as date), i.menu_item_id, m.category_id;
@@ -0,0 +1,10 @@
+-- Menu items were linked by name to the stock of every restaurant. Drop the name links to stock of
+-- another restaurant; the recipe linker links menu items left without a recipe to their own
+-- restaurant's stock on startup. Links to stock of no restaurant predate restaurant scoping and stay.
+
+delete from recipe_ingredients
+where quantity_per_serving = 1
+  and exists (
+    select 1 from menu_items m, inventory i
+    where m.id = recipe_ingredients.menu_item_id and i.id = recipe_ingredients.inventory_id
+      and i.item_name = m.name and i.restaurant_id <> m.restaurant_id);
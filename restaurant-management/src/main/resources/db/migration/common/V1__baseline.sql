@@ -0,0 +1,30 @@
+-- Schema before versioned migrations, as Hibernate created it from the entities. Existing databases
+-- are at this version already and are baselined at 1 (spring.flyway.baseline-on-migrate).
+
+create table categories (id bigint not null auto_increment, name varchar(50) not null, description varchar(255), primary key (id)) engine=InnoDB;
+create table restaurants (id bigint not null auto_increment, phone varchar(13), name varchar(100) not null, description varchar(500), address varchar(255), primary key (id)) engine=InnoDB;
+create table restaurant_table (available bit, capacity integer not null, id bigint not null auto_increment, table_number varchar(255), primary key (id)) engine=InnoDB;
+create table role (id bigint not null auto_increment, name enum ('ROLE_ADMIN','ROLE_CUSTOMER','ROLE_STAFF'), primary key (id)) engine=InnoDB;
+create table users (id bigint not null auto_increment, username varchar(50) not null, email varchar(100) not null, password varchar(255) not null, primary key (id)) engine=InnoDB;
+create table user_roles (role_id bigint not null, user_id bigint not null, primary key (role_id, user_id)) engine=InnoDB;
+create table menu_items (price float(53) not null, category_id bigint, id bigint not null auto_increment, restaurant_id bigint not null, name varchar(100) not null, description varchar(500), primary key (id)) engine=InnoDB;
+create table inventory (price_per_unit float(53), quantity float(53), id bigint not null auto_increment, last_updated datetime(6), item_name varchar(255), unit varchar(255), primary key (id)) engine=InnoDB;
+create table orders (total_amount float(53) not null, id bigint not null auto_increment, order_date datetime(6) not null, user_id bigint not null, status enum ('CANCELLED','COMPLETED','CONFIRMED','PENDING','PREPARING') not null, primary key (id)) engine=InnoDB;
+create table order_items (price float(53) not null, quantity integer not null, id bigint not null auto_increment, menu_item_id bigint not null, order_id bigint not null, primary key (id)) engine=InnoDB;
+create table billing (discount float(53) not null, price float(53) not null, tax float(53) not null, total_amount float(53) not null, id bigint not null auto_increment, order_id bigint not null, primary key (id)) engine=InnoDB;
+create table bookings (end_time datetime(6), id bigint not null auto_increment, start_time datetime(6), table_id bigint, user_id bigint, status enum ('CANCELLED','CONFIRMED','DELIVERED','PLACED','PREPARING','READY'), primary key (id)) engine=InnoDB;
+
+alter table billing add constraint UKje0farg86310qsp6fcwccmv9y unique (order_id);
+alter table categories add constraint UKt8o6pivur7nn124jehx7cygw5 unique (name);
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table billing add constraint FKsoe8idnxykikeq45ssfc639pg foreign key (order_id) references orders (id);
+alter table bookings add constraint FKlowygb7iid2w4gc3ba5mf479c foreign key (table_id) references restaurant_table (id);
+alter table bookings add constraint FKeyog2oic85xg7hsu2je2lx3s6 foreign key (user_id) references users (id);
+alter table menu_items add constraint FK5bg0vbmql5ggu48n7d5pwgjg3 foreign key (category_id) references categories (id);
+alter table menu_items add constraint FKhaqtoboitpl0n541y0sc753my foreign key (restaurant_id) references restaurants (id);
+alter table order_items add constraint FKdtfg1f49yr5yye2fpl2xid2xo foreign key (menu_item_id) references menu_items (id);
+alter table order_items add constraint FKbioxgbv59vetrxe0ejfubep1w foreign key (order_id) references orders (id);
+alter table orders add constraint FK32ql8ubntj5uh44ph9659tiih foreign key (user_id) references users (id);
+alter table user_roles add constraint FKrhfovtciq1l558cw6udg0h0d3 foreign key (role_id) references role (id);
+alter table user_roles add constraint FKhfh9dx7w3ubf1co1vdev94g3f foreign key (user_id) references users (id);
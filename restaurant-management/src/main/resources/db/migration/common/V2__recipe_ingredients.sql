@@ -0,0 +1,8 @@
+-- Stock consumed per serving of a menu item. Menu items without a recipe are linked to the
+-- inventory item of the same name on startup (RecipeLinker).
+
+create table recipe_ingredients (quantity_per_serving float(53) not null, id bigint not null, inventory_id bigint not null, menu_item_id bigint not null, primary key (id)) engine=InnoDB;
+
+alter table recipe_ingredients add constraint uk_recipe_menu_item_inventory unique (menu_item_id, inventory_id);
+alter table recipe_ingredients add constraint FK66ue1vthwcwh1nspprgyagll9 foreign key (inventory_id) references inventory (id);
+alter table recipe_ingredients add constraint FKrgicwelyeu8464tjatwn9rig4 foreign key (menu_item_id) references menu_items (id);
@@ -0,0 +1,20 @@
+-- Orders, bookings, tables, stock and bills belong to a restaurant. An order belongs to the
+-- restaurant of its menu items and its bill to the order's restaurant; rows whose restaurant
+-- cannot be derived stay unassigned and are only visible outside a restaurant scope.
+
+alter table orders add column restaurant_id bigint;
+alter table billing add column restaurant_id bigint;
+alter table bookings add column restaurant_id bigint;
+alter table inventory add column restaurant_id bigint;
+alter table restaurant_table add column restaurant_id bigint;
+
+update orders set restaurant_id = (
+    select min(m.restaurant_id) from order_items i join menu_items m on m.id = i.menu_item_id
+    where i.order_id = orders.id);
+update billing set restaurant_id = (select o.restaurant_id from orders o where o.id = billing.order_id);
+
+alter table orders add constraint FK2m9qulf12xm537bku3jnrrbup foreign key (restaurant_id) references restaurants (id);
+alter table billing add constraint FK5ewnmhvl60h01hwtpwjryxywp foreign key (restaurant_id) references restaurants (id);
+alter table bookings add constraint FK3pv7kriicofgxo9l3kgpjbi9i foreign key (restaurant_id) references restaurants (id);
+alter table inventory add constraint FKrdn3tjs71y3gnhuoxtn57rv9v foreign key (restaurant_id) references restaurants (id);
+alter table restaurant_table add constraint FK145s1yt6jxecbtjop9987npr4 foreign key (restaurant_id) references restaurants (id);
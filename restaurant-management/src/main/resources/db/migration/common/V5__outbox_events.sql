@@ -0,0 +1,4 @@
+-- Transactional outbox of order and billing events, relayed to in-process subscribers after commit.
+-- Its id sequence is created per database in V5_1.
+
+create table outbox_events (attempts integer not null, aggregate_id bigint not null, available_at datetime(6) not null, created_at datetime(6) not null, failed_at datetime(6), id bigint not null, restaurant_id bigint, last_error varchar(500), event_type enum ('ORDER_BILLED','ORDER_CANCELLED','ORDER_PLACED','ORDER_STATUS_CHANGED') not null, payload text not null, primary key (id)) engine=InnoDB;
@@ -0,0 +1,4 @@
+-- Bills are drafted with the order and issued by staff. Bills created before drafts existed were
+-- all issued by staff, so they are final.
+
+alter table billing add column status enum ('DRAFT','FINAL','VOID') default 'FINAL' not null;
@@ -0,0 +1,10 @@
+-- Money is computed in minor units and stored exactly. Existing amounts are rounded to the cent.
+
+alter table menu_items modify price decimal(12,2) not null;
+alter table order_items modify price decimal(12,2) not null;
+alter table orders modify total_amount decimal(12,2) not null;
+alter table billing modify price decimal(12,2) not null;
+alter table billing modify tax decimal(12,2) not null;
+alter table billing modify discount decimal(12,2) not null;
+alter table billing modify total_amount decimal(12,2) not null;
+alter table inventory modify price_per_unit decimal(12,2);
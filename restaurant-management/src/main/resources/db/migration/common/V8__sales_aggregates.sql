@@ -0,0 +1,41 @@
+-- Hourly and per-item daily sales totals read by the reports. The sales aggregator keeps them up to
+-- date from the outbox and records what it counted in orders.sales_counted and
+-- billing.sales_counted. Existing orders and final bills are counted here, in one pass.
+
+create table sales_hourly (billed_amount decimal(12,2) not null, revenue decimal(12,2) not null, bill_count bigint not null, bucket_start datetime(6) not null, id bigint not null auto_increment, item_count bigint not null, order_count bigint not null, primary key (id)) engine=InnoDB;
+create table sales_item_daily (revenue decimal(12,2) not null, sales_date date not null, category_id bigint, id bigint not null auto_increment, menu_item_id bigint not null, quantity bigint not null, primary key (id)) engine=InnoDB;
+
+alter table sales_hourly add constraint uk_sales_hourly_bucket unique (bucket_start);
+alter table sales_item_daily add constraint uk_sales_item_daily_date_item unique (sales_date, menu_item_id);
+
+alter table orders add column sales_counted bit default false not null;
+alter table billing add column sales_counted bit default false not null;
+
+-- Orders count in the hour they were placed unless cancelled; final bills count in the hour of their order
+insert into sales_hourly (bucket_start, order_count, item_count, revenue, bill_count, billed_amount)
+select bucket_start, sum(orders), sum(items), sum(revenue), sum(bills), sum(billed_amount)
+from (
+    select timestampadd(hour, extract(hour from o.order_date), cast(cast(o.order_date as date) as datetime)) as bucket_start,
+           1 as orders,
+           (select coalesce(sum(i.quantity), 0) from order_items i where i.order_id = o.id) as items,
+           o.total_amount as revenue, 0 as bills, 0 as billed_amount
+    from orders o
+    where o.status <> 'CANCELLED'
+    union all
+    select timestampadd(hour, extract(hour from o.order_date), cast(cast(o.order_date as date) as datetime)),
+           0, 0, 0, 1, b.total_amount
+    from billing b join orders o on o.id = b.order_id
+    where b.status = 'FINAL'
+) counted
+group by bucket_start;
+
+insert into sales_item_daily (sales_date, menu_item_id, category_id, quantity, revenue)
+select cast(o.order_date as date), i.menu_item_id, m.category_id, sum(i.quantity), sum(i.price * i.quantity)
+from order_items i
+    join orders o on o.id = i.order_id
+    join menu_items m on m.id = i.menu_item_id
+where o.status <> 'CANCELLED'
+group by cast(o.order_date as date), i.menu_item_id, m.category_id;
+
+update orders set sales_counted = true where status <> 'CANCELLED';
+update billing set sales_counted = true where status = 'FINAL';
@@ -0,0 +1,25 @@
+-- Composite indexes matching the finders of the repositories (RepositoryIndexUsageTest checks their plans).
+
+create index idx_billing_restaurant_id on billing (restaurant_id, id);
+create index idx_billing_status on billing (status, id);
+create index idx_bookings_restaurant_id on bookings (restaurant_id, id);
+create index idx_bookings_table_id on bookings (table_id, id);
+create index idx_bookings_table_end_time on bookings (table_id, end_time);
+create index idx_bookings_end_time on bookings (end_time);
+create index idx_bookings_status on bookings (status);
+create index idx_bookings_user_id on bookings (user_id, id);
+create index idx_inventory_restaurant_id on inventory (restaurant_id, id);
+create index idx_inventory_restaurant_item_name on inventory (restaurant_id, item_name);
+create index idx_inventory_item_name on inventory (item_name);
+create index idx_menu_items_name on menu_items (name);
+create index idx_orders_restaurant_id on orders (restaurant_id, id);
+create index idx_orders_restaurant_status on orders (restaurant_id, status, id);
+create index idx_orders_restaurant_date on orders (restaurant_id, order_date);
+create index idx_orders_status_date on orders (status, order_date);
+create index idx_orders_order_date on orders (order_date);
+create index idx_orders_user_date on orders (user_id, order_date);
+create index idx_orders_user_status_date on orders (user_id, status, order_date);
+create index idx_outbox_events_due on outbox_events (failed_at, available_at);
+create index idx_restaurant_table_restaurant_id on restaurant_table (restaurant_id, id);
+create index idx_role_name on role (name);
+create index idx_users_username on users (username);
@@ -0,0 +1,10 @@
+-- Orders, order items, bookings, bills, stock and recipe lines take ids from pooled sequences
+-- (allocation size 50), so Hibernate can batch their inserts. H2 has native sequences, each started
+-- at 1: the test database starts empty.
+
+create sequence orders_seq start with 1 increment by 50;
+create sequence order_items_seq start with 1 increment by 50;
+create sequence bookings_seq start with 1 increment by 50;
+create sequence billing_seq start with 1 increment by 50;
+create sequence inventory_seq start with 1 increment by 50;
+create sequence recipe_ingredients_seq start with 1 increment by 50;
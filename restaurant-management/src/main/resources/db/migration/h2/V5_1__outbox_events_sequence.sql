@@ -0,0 +1,3 @@
+-- Pooled id sequence of the outbox, as in V3.
+
+create sequence outbox_events_seq start with 1 increment by 50;
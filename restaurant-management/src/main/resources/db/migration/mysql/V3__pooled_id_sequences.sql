@@ -0,0 +1,23 @@
+-- Orders, order items, bookings, bills, stock and recipe lines take ids from pooled sequences
+-- (allocation size 50), so Hibernate can batch their inserts. MySQL has no sequences; each one is a
+-- one-row table that Hibernate advances, started above the ids already in use. The id columns keep
+-- AUTO_INCREMENT, which is unused once Hibernate supplies the ids; dropping it is refused on
+-- columns referenced by foreign keys.
+
+create table orders_seq (next_val bigint) engine=InnoDB;
+insert into orders_seq select coalesce(max(id), 0) + 1 from orders;
+
+create table order_items_seq (next_val bigint) engine=InnoDB;
+insert into order_items_seq select coalesce(max(id), 0) + 1 from order_items;
+
+create table bookings_seq (next_val bigint) engine=InnoDB;
+insert into bookings_seq select coalesce(max(id), 0) + 1 from bookings;
+
+create table billing_seq (next_val bigint) engine=InnoDB;
+insert into billing_seq select coalesce(max(id), 0) + 1 from billing;
+
+create table inventory_seq (next_val bigint) engine=InnoDB;
+insert into inventory_seq select coalesce(max(id), 0) + 1 from inventory;
+
+create table recipe_ingredients_seq (next_val bigint) engine=InnoDB;
+insert into recipe_ingredients_seq select coalesce(max(id), 0) + 1 from recipe_ingredients;
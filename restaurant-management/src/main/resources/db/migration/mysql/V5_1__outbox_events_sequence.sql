@@ -0,0 +1,4 @@
+-- Pooled id sequence of the outbox, emulated by a one-row table as in V3.
+
+create table outbox_events_seq (next_val bigint) engine=InnoDB;
+insert into outbox_events_seq values ( 1 );
@@ -0,0 +1,258 @@
+package com.restaurant.restaurant_management;
+
+import com.restaurant.restaurant_management.dto.PlaceOrderRequest;
+import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.repository.*;
+import com.restaurant.restaurant_management.serviceImp.MenuCatalogCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeds users, restaurants, menus, stock and tables for tests and benchmarks, and deletes them again.
+ * <p>
+ * Tests share one database per application context, so every test that seeds through this class
+ * calls {@link #cleanUp()} after it runs. Clean-up also deletes what the application created for the
+ * seeded rows: orders of seeded users or restaurants with their items, bills and outbox events,
+ * bookings, menu items and stock of seeded restaurants, recipe lines and the sales aggregates of
+ * seeded restaurants and menu items.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private static final AtomicLong UNIQUE = new AtomicLong();
+
+    private final UserRepository userRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final CategoryRepository categoryRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final InventoryRepository inventoryRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final RestaurantTableRepository restaurantTableRepository;
+    private final MenuCatalogCache menuCatalogCache;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> users = Collections.synchronizedSet(new HashSet<>());
+    private final Set<Long> restaurants = Collections.synchronizedSet(new HashSet<>());
+    private final Set<Long> categories = Collections.synchronizedSet(new HashSet<>());
+    private final Set<Long> menuItems = Collections.synchronizedSet(new HashSet<>());
+    private final Set<Long> inventory = Collections.synchronizedSet(new HashSet<>());
+    private final Set<Long> tables = Collections.synchronizedSet(new HashSet<>());
+
+    /**
+     * Saves a customer with a unique username and email, no roles and the password {@code secret}.
+     *
+     * @param prefix start of the username and email
+     * @return the saved user
+     */
+    public User customer(String prefix) {
+        String name = prefix + "-" + UNIQUE.incrementAndGet();
+        return user(name, name + "@customer.com", "secret", new HashSet<>());
+    }
+
+    /**
+     * Saves a user.
+     *
+     * @param username the username
+     * @param email    the email
+     * @param password the stored password (hash)
+     * @param roles    the user's roles
+     * @return the saved user
+     */
+    public User user(String username, String email, String password, Set<Role> roles) {
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .email(email)
+                .password(password)
+                .roles(roles)
+                .build());
+        users.add(user.getId());
+        return user;
+    }
+
+    /**
+     * Saves a restaurant.
+     *
+     * @param name the restaurant name
+     * @return the saved restaurant
+     */
+    public Restaurant restaurant(String name) {
+        return restaurant(name, null);
+    }
+
+    /**
+     * Saves a restaurant with its own tax rate.
+     *
+     * @param name       the restaurant name
+     * @param taxPercent the tax percentage its bills are drafted at (null for the default rate)
+     * @return the saved restaurant
+     */
+    public Restaurant restaurant(String name, Double taxPercent) {
+        Restaurant restaurant = restaurantRepository.save(Restaurant.builder().name(name).taxPercent(taxPercent).build());
+        restaurants.add(restaurant.getId());
+        return restaurant;
+    }
+
+    /**
+     * Saves a category; a number is appended to the name since category names are unique.
+     *
+     * @param name start of the category name
+     * @return the saved category
+     */
+    public Category category(String name) {
+        Category category = new Category();
+        category.setName(name + " " + UNIQUE.incrementAndGet());
+        category = categoryRepository.save(category);
+        categories.add(category.getId());
+        return category;
+    }
+
+    /**
+     * Saves a menu item.
+     *
+     * @param name       the item name
+     * @param price      the item price
+     * @param category   the category (may be null)
+     * @param restaurant the restaurant serving it
+     * @return the saved menu item
+     */
+    public MenuItem menuItem(String name, double price, Category category, Restaurant restaurant) {
+        MenuItem menuItem = new MenuItem();
+        menuItem.setName(name);
+        menuItem.setPrice(price);
+        menuItem.setCategory(category);
+        menuItem.setRestaurant(restaurant);
+        menuItem = menuItemRepository.save(menuItem);
+        menuItems.add(menuItem.getId());
+        return menuItem;
+    }
+
+    /**
+     * Saves an inventory item named after the menu item, in its restaurant, and a recipe that uses
+     * one unit of it per serving.
+     *
+     * @param menuItem the menu item to stock
+     * @param quantity the units in stock
+     * @return the saved inventory item
+     */
+    public Inventory stock(MenuItem menuItem, double quantity) {
+        Inventory stock = inventoryRepository.save(Inventory.builder()
+                .itemName(menuItem.getName())
+                .quantity(quantity)
+                .unit("portions")
+                .pricePerUnit(10.0)
+                .restaurant(menuItem.getRestaurant())
+                .build());
+        inventory.add(stock.getId());
+        recipeIngredientRepository.save(RecipeIngredient.builder()
+                .menuItem(menuItem)
+                .inventory(stock)
+                .quantityPerServing(1.0)
+                .build());
+        return stock;
+    }
+
+    /**
+     * Saves a table.
+     *
+     * @param tableNumber the table number
+     * @param capacity    the seats
+     * @param restaurant  the restaurant (may be null)
+     * @return the saved table
+     */
+    public RestaurantTable table(String tableNumber, int capacity, Restaurant restaurant) {
+        RestaurantTable table = restaurantTableRepository.save(RestaurantTable.builder()
+                .tableNumber(tableNumber)
+                .capacity(capacity)
+                .restaurant(restaurant)
+                .build());
+        tables.add(table.getId());
+        return table;
+    }
+
+    /**
+     * Deletes everything seeded since the last clean-up, together with the rows the application
+     * created for it, and drops the cached menu.
+     */
+    public void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            String orders = "SELECT o.id FROM Order o WHERE o.user.id IN :users OR o.restaurant.id IN :restaurants";
+            delete("DELETE FROM OutboxEvent e WHERE e.aggregateId IN (" + orders + ")");
+            delete("DELETE FROM Billing b WHERE b.order.id IN (" + orders + ")");
+            delete("DELETE FROM OrderItem i WHERE i.order.id IN (" + orders + ")");
+            delete("DELETE FROM Order o WHERE o.user.id IN :users OR o.restaurant.id IN :restaurants");
+            delete("DELETE FROM Booking b WHERE b.user.id IN :users OR b.table.id IN :tables " +
+                    "OR b.restaurant.id IN :restaurants");
+            String menu = "SELECT m.id FROM MenuItem m WHERE m.id IN :menuItems OR m.restaurant.id IN :restaurants";
+            String stock = "SELECT i.id FROM Inventory i WHERE i.id IN :inventory OR i.restaurant.id IN :restaurants";
+            delete("DELETE FROM RecipeIngredient r WHERE r.menuItem.id IN (" + menu + ") " +
+                    "OR r.inventory.id IN (" + stock + ")");
+            delete("DELETE FROM SalesHourly s WHERE s.restaurantId IN :restaurants");
+            delete("DELETE FROM SalesItemDaily s WHERE s.restaurantId IN :restaurants OR s.menuItemId IN (" + menu + ")");
+            delete("DELETE FROM Inventory i WHERE i.id IN :inventory OR i.restaurant.id IN :restaurants");
+            delete("DELETE FROM MenuItem m WHERE m.id IN :menuItems OR m.restaurant.id IN :restaurants");
+            delete("DELETE FROM RestaurantTable t WHERE t.id IN :tables");
+            delete("DELETE FROM Category c WHERE c.id IN :categories");
+            delete("DELETE FROM Restaurant r WHERE r.id IN :restaurants");
+            // Removed one by one so their role links go too
+            userRepository.deleteAllById(snapshot(users));
+        });
+        for (Set<Long> ids : List.of(users, restaurants, categories, menuItems, inventory, tables)) {
+            ids.clear();
+        }
+        menuCatalogCache.invalidate();
+    }
+
+    /**
+     * Builds an order request.
+     *
+     * @param lines the order lines
+     * @return the request
+     */
+    public static PlaceOrderRequest order(PlaceOrderRequest.OrderItemDTO... lines) {
+        PlaceOrderRequest request = new PlaceOrderRequest();
+        request.setItems(List.of(lines));
+        return request;
+    }
+
+    /**
+     * Builds an order line.
+     *
+     * @param menuItemId the menu item ID
+     * @param quantity   the quantity
+     * @return the line
+     */
+    public static PlaceOrderRequest.OrderItemDTO line(Long menuItemId, int quantity) {
+        PlaceOrderRequest.OrderItemDTO line = new PlaceOrderRequest.OrderItemDTO();
+        line.setMenuItemId(menuItemId);
+        line.setQuantity(quantity);
+        return line;
+    }
+
+    private void delete(String jpql) {
+        Query query = entityManager.createQuery(jpql);
+        Map<String, Set<Long>> parameters = Map.of("users", users, "restaurants", restaurants,
+                "categories", categories, "menuItems", menuItems, "inventory", inventory, "tables", tables);
+        parameters.forEach((name, ids) -> {
+            if (jpql.contains(":" + name)) {
+                // An empty IN list is not valid SQL; no row has ID -1
+                List<Long> values = snapshot(ids);
+                query.setParameter(name, values.isEmpty() ? List.of(-1L) : values);
+            }
+        });
+        query.executeUpdate();
+    }
+
+    private static List<Long> snapshot(Set<Long> ids) {
+        synchronized (ids) {
+            return new ArrayList<>(ids);
+        }
+    }
+}
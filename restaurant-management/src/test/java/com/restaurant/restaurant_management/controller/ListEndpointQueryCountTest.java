@@ -0,0 +1,133 @@
+package com.restaurant.restaurant_management.controller;
+
+import com.restaurant.restaurant_management.TestFixtures;
+import com.restaurant.restaurant_management.enums.BillingStatus;
+import com.restaurant.restaurant_management.enums.BookingStatus;
+import com.restaurant.restaurant_management.enums.OrderStatus;
+import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.repository.BillingRepository;
+import com.restaurant.restaurant_management.repository.BookingRepository;
+import com.restaurant.restaurant_management.repository.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the SQL statements each list endpoint executes over a page of several rows.
+ * A per-row lazy load (N+1) pushes the count past the fixed budget and fails the test.
+ * The statistics are global, so the outbox relay's periodic poll is pushed out of the way.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "outbox.relay.poll-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+class ListEndpointQueryCountTest {
+
+    private static final int ROWS = 10;
+    private static final long MAX_STATEMENTS = 1;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private BillingRepository billingRepository;
+
+    private User customer;
+    private RestaurantTable table;
+
+    @BeforeEach
+    void seed() {
+        customer = fixtures.customer("nplusone");
+        table = fixtures.table("N1", 4, null);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < ROWS; i++) {
+            Booking booking = new Booking();
+            booking.setUser(customer);
+            booking.setTable(table);
+            booking.setStartTime(start.plusHours(i));
+            booking.setEndTime(start.plusHours(i).plusMinutes(30));
+            booking.setStatus(BookingStatus.CONFIRMED);
+            bookingRepository.save(booking);
+
+            Order order = new Order();
+            order.setUser(customer);
+            order.setOrderDate(LocalDateTime.now());
+            order.setStatus(OrderStatus.PENDING);
+            order.setTotalAmount(100.0);
+            order = orderRepository.save(order);
+
+            Billing billing = new Billing();
+            billing.setOrder(order);
+            billing.setPrice(100.0);
+            billing.setTax(5.0);
+            billing.setDiscount(0.0);
+            billing.setTotalAmount(105.0);
+            billing.setStatus(BillingStatus.FINAL);
+            billingRepository.save(billing);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void bookingListsRunFixedNumberOfStatements() throws Exception {
+        assertStatements(get("/bookings").with(user("admin").roles("ADMIN")));
+        assertStatements(get("/bookings").param("tableId", table.getId().toString())
+                .with(user("admin").roles("ADMIN")));
+        assertStatements(get("/bookings/my").with(user(customer.getEmail()).roles("CUSTOMER")));
+    }
+
+    @Test
+    void orderListsRunFixedNumberOfStatements() throws Exception {
+        assertStatements(get("/orders").with(user("admin").roles("ADMIN")));
+        assertStatements(get("/orders/my").with(user(customer.getUsername()).roles("CUSTOMER")));
+    }
+
+    @Test
+    void billListRunsFixedNumberOfStatements() throws Exception {
+        assertStatements(get("/billing/admin/bills").with(user("admin").roles("ADMIN")));
+    }
+
+    private void assertStatements(RequestBuilder request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= MAX_STATEMENTS,
+                "Expected at most " + MAX_STATEMENTS + " statements but " + statements + " were executed");
+    }
+}
@@ -0,0 +1,107 @@
+package com.restaurant.restaurant_management.controller;
+
+import com.restaurant.restaurant_management.dto.OrderEventDTO;
+import com.restaurant.restaurant_management.enums.OrderEventType;
+import com.restaurant.restaurant_management.securityConfig.JwtUtil;
+import com.restaurant.restaurant_management.serviceImp.OrderEventBus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.core.userdetails.User;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Follows the live order stream over HTTP: events arrive in publication order with their bus IDs,
+ * idle streams get heartbeats, and a client that disconnects is unsubscribed from the bus.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "orders.stream.heartbeat-interval-ms=100")
+class OrderStreamTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OrderEventBus orderEventBus;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void streamsEventsInOrderWithHeartbeatsAndUnsubscribesOnDisconnect() throws Exception {
+        String token = jwtUtil.generateToken(User.withUsername("stream-staff").password("").authorities("ROLE_STAFF").build());
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        int subscribers = orderEventBus.subscriberCount();
+
+        HttpResponse<Stream<String>> response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/orders/stream"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream")
+                .build(), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        await(() -> orderEventBus.subscriberCount() == subscribers + 1);
+
+        try (Stream<String> lines = response.body()) {
+            Iterator<String> stream = lines.iterator();
+            assertEquals(":heartbeat", nextHeartbeat(stream));
+
+            List<Long> published = List.of(-301L, -302L, -303L);
+            published.forEach(orderId -> orderEventBus.publish(OrderEventDTO.builder()
+                    .type(OrderEventType.STATUS_CHANGED)
+                    .orderId(orderId)
+                    .build()));
+
+            List<Long> received = new ArrayList<>();
+            long lastEventId = 0;
+            String eventId = null;
+            String eventName = null;
+            while (received.size() < published.size()) {
+                String line = stream.next();
+                if (line.startsWith("id:")) {
+                    eventId = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    eventName = line.substring(6);
+                } else if (line.startsWith("data:") && line.contains("\"orderId\":-30")) {
+                    assertEquals("STATUS_CHANGED", eventName);
+                    long id = Long.parseLong(eventId);
+                    assertTrue(id > lastEventId);
+                    lastEventId = id;
+                    received.add(Long.parseLong(line.replaceAll(".*\"orderId\":(-?\\d+).*", "$1")));
+                }
+            }
+            assertEquals(published, received);
+        }
+
+        // The server only notices the closed connection when it writes the next heartbeat
+        await(() -> orderEventBus.subscriberCount() == subscribers);
+    }
+
+    private static String nextHeartbeat(Iterator<String> stream) {
+        String line;
+        do {
+            line = stream.next();
+        } while (!line.startsWith(":"));
+        return line;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 10s");
+            Thread.sleep(20);
+        }
+    }
+}
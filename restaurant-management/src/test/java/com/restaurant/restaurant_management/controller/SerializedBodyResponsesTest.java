@@ -0,0 +1,69 @@
+package com.restaurant.restaurant_management.controller;
+
+import com.restaurant.restaurant_management.dto.SerializedBody;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks conditional requests, that gzip is only sent to clients whose Accept-Encoding allows it,
+ * and that each encoding is validated by its own ETag.
+ */
+class SerializedBodyResponsesTest {
+
+    private static final SerializedBody BODY = new SerializedBody(
+            "[]".getBytes(StandardCharsets.UTF_8), new byte[]{1, 2, 3}, "\"abc\"", "\"abc-gzip\"");
+
+    @Test
+    void honoursQualityValuesOfAcceptEncoding() {
+        assertTrue(SerializedBodyResponses.acceptsGzip("gzip, deflate, br"));
+        assertTrue(SerializedBodyResponses.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        assertTrue(SerializedBodyResponses.acceptsGzip("*"));
+        assertFalse(SerializedBodyResponses.acceptsGzip("gzip;q=0"));
+        assertFalse(SerializedBodyResponses.acceptsGzip("gzip; q=0.0, *;q=1"));
+        assertFalse(SerializedBodyResponses.acceptsGzip("*;q=0"));
+        assertFalse(SerializedBodyResponses.acceptsGzip("identity"));
+        assertFalse(SerializedBodyResponses.acceptsGzip(null));
+    }
+
+    @Test
+    void sendsGzipOnlyWhenAccepted() {
+        ResponseEntity<byte[]> gzip = SerializedBodyResponses.of(BODY, null, "gzip;q=0.5");
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"abc-gzip\"", gzip.getHeaders().getETag());
+        assertArrayEquals(BODY.getGzip(), gzip.getBody());
+
+        ResponseEntity<byte[]> plain = SerializedBodyResponses.of(BODY, null, "gzip;q=0");
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"abc\"", plain.getHeaders().getETag());
+        assertArrayEquals(BODY.getJson(), plain.getBody());
+    }
+
+    @Test
+    void validatesEachEncodingWithItsOwnEtag() {
+        ResponseEntity<byte[]> gzip = SerializedBodyResponses.of(BODY, "\"abc-gzip\"", "gzip");
+        assertEquals(HttpStatus.NOT_MODIFIED, gzip.getStatusCode());
+        assertEquals("\"abc-gzip\"", gzip.getHeaders().getETag());
+
+        // The identity tag does not validate the gzip body, nor the gzip tag the identity body
+        ResponseEntity<byte[]> gzipForIdentityTag = SerializedBodyResponses.of(BODY, "\"abc\"", "gzip");
+        assertEquals(HttpStatus.OK, gzipForIdentityTag.getStatusCode());
+        assertArrayEquals(BODY.getGzip(), gzipForIdentityTag.getBody());
+        ResponseEntity<byte[]> identityForGzipTag = SerializedBodyResponses.of(BODY, "\"abc-gzip\"", null);
+        assertEquals(HttpStatus.OK, identityForGzipTag.getStatusCode());
+        assertArrayEquals(BODY.getJson(), identityForGzipTag.getBody());
+    }
+
+    @Test
+    void answersMatchingEtagWithNotModified() {
+        ResponseEntity<byte[]> response = SerializedBodyResponses.of(BODY, "W/\"abc\"", null);
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("Accept-Encoding, X-Restaurant-Id", response.getHeaders().getFirst(HttpHeaders.VARY));
+        assertNull(response.getBody());
+    }
+}
@@ -0,0 +1,80 @@
+package com.restaurant.restaurant_management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives placeOrder, menu reads and bookings against the app on an embedded database, logs
+ * throughput and latency percentiles, writes them to {@code target/loadtest-<mode>-threads.json}
+ * and fails when a step exceeds the error or p99 budget. Subclasses start the app with platform
+ * or virtual threads so both modes can be compared side by side. Subclasses are skipped unless run
+ * with {@code -Dloadtest=true}; {@code -Dloadtest.clients}, {@code -Dloadtest.seconds},
+ * {@code -Dloadtest.maxErrorRate} and {@code -Dloadtest.maxP99Ms} tune the load and the budget.
+ */
+abstract class AbstractThreadModeLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractThreadModeLoadTest.class);
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 400);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 20));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01"));
+    // The clients send back to back, so at saturation latency grows with their number; the default
+    // only catches stalls, the error budget catches failures
+    private static final long MAX_P99_MS = Long.getLong("loadtest.maxP99Ms", 15_000);
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Label of the thread mode the context was started with.
+     */
+    abstract String mode();
+
+    @Test
+    void mixedTrafficStaysWithinBudget() throws Exception {
+        LoadScenario scenario = new LoadScenario(context, port);
+        Map<String, LatencyHistogram> histograms;
+        try {
+            scenario.seed(1, 20, 30, 20);
+            List<LoadScenario.Step> mix = List.of(
+                    scenario.menuReads(60),
+                    scenario.placeOrders(30),
+                    scenario.bookings(10));
+
+            // Short warm-up so JIT and caches do not skew the measured run
+            scenario.run(CLIENTS / 4, Duration.ofSeconds(3), mix);
+            histograms = scenario.run(CLIENTS, DURATION, mix);
+        } finally {
+            scenario.cleanUp();
+        }
+
+        logger.info(LoadScenario.report(mode() + " threads, " + CLIENTS + " clients", histograms, DURATION));
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("threads", mode());
+        settings.put("clients", CLIENTS);
+        LoadScenario.writeReport(objectMapper,
+                new File("target/loadtest-" + mode().toLowerCase() + "-threads.json"), settings, histograms, DURATION);
+
+        List<String> violations = LoadScenario.budgetViolations(histograms, MAX_ERROR_RATE, MAX_P99_MS);
+        assertTrue(violations.isEmpty(), "Load budget exceeded: " + violations);
+    }
+}
@@ -0,0 +1,97 @@
+package com.restaurant.restaurant_management.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear latency histogram in microseconds: four buckets per power of two,
+ * so percentiles are accurate to within 25%, over the full range of a long.
+ */
+class LatencyHistogram {
+
+    private static final int BUCKETS = 256;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    void record(long micros) {
+        counts.incrementAndGet(bucket(Math.max(0, micros)));
+        total.increment();
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long maxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Returns an upper bound of the given percentile.
+     *
+     * @param percentile between 0 and 100
+     * @return latency in microseconds that at least {@code percentile}% of the samples do not exceed
+     */
+    long percentileMicros(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts.get(b);
+            if (seen >= Math.max(1, rank)) {
+                return Math.min(upperBound(b), maxMicros());
+            }
+        }
+        return maxMicros();
+    }
+
+    /**
+     * Counts the samples whose bucket lies entirely at or below the given latency,
+     * so the result may undercount by the samples of one partially covered bucket.
+     *
+     * @param micros latency in microseconds
+     * @return number of samples known not to exceed {@code micros}
+     */
+    long countAtMost(long micros) {
+        long seen = 0;
+        for (int b = 0; b < BUCKETS && upperBound(b) <= micros; b++) {
+            seen += counts.get(b);
+        }
+        return seen;
+    }
+
+    private static int bucket(long micros) {
+        if (micros < 4) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) ((micros >>> (exponent - 2)) & 3);
+        return exponent * 4 + sub;
+    }
+
+    private static long upperBound(int bucket) {
+        // Buckets 4 to 7 stay empty: 0 to 3 have a bucket each and 4 starts at bucket 8
+        if (bucket < 8) {
+            return Math.min(bucket, 3);
+        }
+        int exponent = bucket / 4;
+        int sub = bucket % 4;
+        return ((4L + sub + 1) << (exponent - 2)) - 1;
+    }
+}
@@ -0,0 +1,428 @@
+package com.restaurant.restaurant_management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.restaurant_management.TestFixtures;
+import com.restaurant.restaurant_management.enums.RoleType;
+import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.repository.*;
+import com.restaurant.restaurant_management.securityConfig.JwtUtil;
+import com.restaurant.restaurant_management.serviceImp.MenuCatalogCache;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.ObjIntConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Seeds restaurants, menus, stock, tables and users into a running application and drives a
+ * weighted mix of HTTP requests against it from many concurrent clients, recording a latency
+ * histogram per step. Clients run on virtual threads so the load generator itself is never the bottleneck.
+ */
+class LoadScenario {
+
+    static final String PASSWORD = "load-secret";
+
+    private static final Pattern ORDER_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final ApplicationContext context;
+    private final String baseUrl;
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final List<List<Long>> menuItemIds = new ArrayList<>();
+    private final List<Long> tableIds = new ArrayList<>();
+    private final List<String> customerEmails = new ArrayList<>();
+    private final List<String> customerTokens = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Long> unbilledOrderIds = new ConcurrentLinkedQueue<>();
+    private String staffToken;
+
+    /**
+     * A load-generating client: its index picks the customer it acts as.
+     */
+    record Client(int index, Random random) {
+    }
+
+    /**
+     * One kind of request in the traffic mix.
+     *
+     * @param name       label used in the report
+     * @param weight     relative share of the mix
+     * @param request    builds a request for the client, or returns null when there is nothing to send yet
+     * @param accepted   status codes counted as a successful outcome
+     * @param onResponse receives status and body of each response; null when the body is not needed
+     */
+    record Step(String name, int weight, Function<Client, HttpRequest> request, IntPredicate accepted,
+                ObjIntConsumer<String> onResponse) {
+
+        Step(String name, int weight, Function<Client, HttpRequest> request, IntPredicate accepted) {
+            this(name, weight, request, accepted, null);
+        }
+    }
+
+    LoadScenario(ApplicationContext context, int port) {
+        this.context = context;
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    /**
+     * Seeds customers who can log in with {@link #PASSWORD}, a staff member, restaurants with a
+     * menu each whose items use plentiful stock, and tables.
+     *
+     * @param restaurants             number of restaurants
+     * @param menuItemsPerRestaurant  number of menu items per restaurant
+     * @param tables                  number of tables
+     * @param customers               number of customers; clients act as customer {@code index % customers}
+     */
+    void seed(int restaurants, int menuItemsPerRestaurant, int tables, int customers) {
+        TestFixtures fixtures = context.getBean(TestFixtures.class);
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        Role customerRole = role(RoleType.ROLE_CUSTOMER);
+        String passwordHash = context.getBean(BCryptPasswordEncoder.class).encode(PASSWORD);
+
+        for (int i = 0; i < customers; i++) {
+            String email = "load-customer-" + i + "@customer.com";
+            fixtures.user("load-customer-" + i, email, passwordHash, new HashSet<>(Set.of(customerRole)));
+            customerEmails.add(email);
+            customerTokens.add(jwtUtil.generateToken(new org.springframework.security.core.userdetails.User(
+                    email, "", List.of(new SimpleGrantedAuthority(RoleType.ROLE_CUSTOMER.name())))));
+        }
+        staffToken = jwtUtil.generateToken(new org.springframework.security.core.userdetails.User(
+                "load-staff@staff.com", "", List.of(new SimpleGrantedAuthority(RoleType.ROLE_STAFF.name()))));
+
+        for (int r = 0; r < restaurants; r++) {
+            Restaurant restaurant = fixtures.restaurant("Load Kitchen " + r);
+            Category category = fixtures.category("Load Mains " + r);
+            List<Long> menu = new ArrayList<>();
+            for (int i = 0; i < menuItemsPerRestaurant; i++) {
+                MenuItem menuItem = fixtures.menuItem("Load Dish " + r + "-" + i, 100.0 + i, category, restaurant);
+                fixtures.stock(menuItem, 1_000_000_000.0);
+                menu.add(menuItem.getId());
+            }
+            menuItemIds.add(menu);
+        }
+
+        for (int i = 0; i < tables; i++) {
+            tableIds.add(fixtures.table("L" + i, 2 + i % 6, null).getId());
+        }
+        context.getBean(MenuCatalogCache.class).invalidate();
+    }
+
+    /**
+     * Deletes the seeded data and everything the run created for it, such as orders, bills and bookings.
+     */
+    void cleanUp() {
+        context.getBean(TestFixtures.class).cleanUp();
+    }
+
+    /**
+     * Builds a traffic mix from a spec such as {@code menu=50,order=20,booking=10,billing=15,login=5}.
+     * Keys are {@code menu}, {@code order}, {@code booking}, {@code billing} and {@code login}.
+     *
+     * @param spec comma-separated key=weight pairs
+     * @return the steps, in spec order
+     * @throws IllegalArgumentException for an unknown key or a malformed pair
+     */
+    List<Step> mix(String spec) {
+        List<Step> mix = new ArrayList<>();
+        for (String pair : spec.split(",")) {
+            String[] parts = pair.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected key=weight but got: " + pair);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight <= 0) {
+                continue;
+            }
+            mix.add(switch (parts[0].trim()) {
+                case "menu" -> menuReads(weight);
+                case "order" -> placeOrders(weight);
+                case "booking" -> bookings(weight);
+                case "billing" -> billings(weight);
+                case "login" -> logins(weight);
+                default -> throw new IllegalArgumentException("Unknown mix key: " + parts[0]);
+            });
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Traffic mix has no steps: " + spec);
+        }
+        return mix;
+    }
+
+    /**
+     * Public menu read.
+     */
+    Step menuReads(int weight) {
+        return new Step("GET /menu-items", weight,
+                client -> get(client, "/menu-items").build(),
+                status -> status == 200);
+    }
+
+    /**
+     * A customer order of one to three random menu items of a random restaurant. Ids of placed orders feed {@link #billings}.
+     */
+    Step placeOrders(int weight) {
+        return new Step("POST /orders/place", weight, client -> {
+            Random random = client.random();
+            StringBuilder items = new StringBuilder();
+            List<Long> menu = menuItemIds.get(random.nextInt(menuItemIds.size()));
+            int lines = 1 + random.nextInt(3);
+            for (int i = 0; i < lines; i++) {
+                if (i > 0) {
+                    items.append(',');
+                }
+                items.append("{\"menuItemId\":").append(menu.get(random.nextInt(menu.size())))
+                        .append(",\"quantity\":").append(1 + random.nextInt(2)).append('}');
+            }
+            return post(customerToken(client), "/orders/place", "{\"items\":[" + items + "]}").build();
+        }, status -> status == 200, (body, status) -> {
+            Matcher id = ORDER_ID.matcher(body);
+            if (status == 200 && id.find()) {
+                unbilledOrderIds.add(Long.parseLong(id.group(1)));
+            }
+        });
+    }
+
+    /**
+     * A one-hour booking of a random table at a random evening slot within the next year;
+     * a 409 for an already booked slot is an expected outcome.
+     */
+    Step bookings(int weight) {
+        return new Step("POST /bookings", weight, client -> {
+            Random random = client.random();
+            LocalDateTime start = LocalDate.now().plusDays(1 + random.nextInt(365)).atTime(17 + random.nextInt(5), 0);
+            String body = "{\"tableId\":" + tableIds.get(random.nextInt(tableIds.size()))
+                    + ",\"startTime\":\"" + start + "\",\"endTime\":\"" + start.plusHours(1) + "\"}";
+            return post(customerToken(client), "/bookings", body).build();
+        }, status -> status == 200 || status == 409);
+    }
+
+    /**
+     * Staff billing of an order placed earlier in the run, with tax and an occasional discount.
+     * Sends nothing until an order has been placed.
+     */
+    Step billings(int weight) {
+        return new Step("POST /billing/create", weight, client -> {
+            Long orderId = unbilledOrderIds.poll();
+            if (orderId == null) {
+                return null;
+            }
+            String query = "?taxPercent=5&discountPercent=" + (client.random().nextInt(4) == 0 ? 10 : 0);
+            return post(staffToken, "/billing/create/" + orderId + query, "").build();
+        }, status -> status == 200);
+    }
+
+    /**
+     * Customer login with email and password, which verifies the BCrypt hash and issues a token.
+     */
+    Step logins(int weight) {
+        return new Step("POST /auth/login", weight, client -> {
+            String email = customerEmails.get(client.index() % customerEmails.size());
+            return post(null, "/auth/login",
+                    "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}").build();
+        }, status -> status == 200);
+    }
+
+    /**
+     * Runs the mix from {@code clients} concurrent clients until {@code duration} has elapsed.
+     *
+     * @return latency histogram per step, in mix order
+     */
+    Map<String, LatencyHistogram> run(int clients, Duration duration, List<Step> mix) throws InterruptedException {
+        Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        mix.forEach(step -> histograms.put(step.name(), new LatencyHistogram()));
+        int totalWeight = mix.stream().mapToInt(Step::weight).sum();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                Client client = new Client(c, new Random(c));
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Step step = pick(mix, client.random().nextInt(totalWeight));
+                        HttpRequest request = step.request().apply(client);
+                        if (request == null) {
+                            continue;
+                        }
+                        LatencyHistogram histogram = histograms.get(step.name());
+                        long start = System.nanoTime();
+                        try {
+                            int status;
+                            if (step.onResponse() == null) {
+                                status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            } else {
+                                HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                                status = response.statusCode();
+                                step.onResponse().accept(response.body(), status);
+                            }
+                            long micros = (System.nanoTime() - start) / 1_000;
+                            if (step.accepted().test(status)) {
+                                histogram.record(micros);
+                            } else {
+                                histogram.recordError();
+                            }
+                        } catch (IOException e) {
+                            histogram.recordError();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return histograms;
+    }
+
+    /**
+     * Formats throughput and latency percentiles per step.
+     */
+    static String report(String title, Map<String, LatencyHistogram> histograms, Duration duration) {
+        StringBuilder report = new StringBuilder(String.format("%n== %s ==%n%-22s %9s %7s %9s %9s %9s %9s %9s%n",
+                title, "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        long requests = 0;
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram h = entry.getValue();
+            requests += h.count();
+            report.append(String.format("%-22s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), h.count(), h.errors(), h.count() / (double) duration.toSeconds(),
+                    h.percentileMicros(50) / 1000.0, h.percentileMicros(90) / 1000.0,
+                    h.percentileMicros(99) / 1000.0, h.maxMicros() / 1000.0));
+        }
+        report.append(String.format("%-22s %9d %7s %9.1f%n", "total", requests, "", requests / (double) duration.toSeconds()));
+        return report.toString();
+    }
+
+    /**
+     * Formats the latency distribution per step as the share of requests within each band.
+     */
+    static String distribution(Map<String, LatencyHistogram> histograms) {
+        long[] bandsMillis = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000};
+        StringBuilder report = new StringBuilder(String.format("%-22s", "share within (ms)"));
+        for (long band : bandsMillis) {
+            report.append(String.format(" %6d", band));
+        }
+        report.append(String.format("%n"));
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram h = entry.getValue();
+            report.append(String.format("%-22s", entry.getKey()));
+            for (long band : bandsMillis) {
+                double share = h.count() == 0 ? 0 : 100.0 * h.countAtMost(band * 1000) / h.count();
+                report.append(String.format(" %5.1f%%", share));
+            }
+            report.append(String.format("%n"));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Lists the steps that failed more often than the error budget or whose p99 latency is over
+     * the latency budget. A step without a single completed request is always a violation.
+     */
+    static List<String> budgetViolations(Map<String, LatencyHistogram> histograms, double maxErrorRate, long maxP99Ms) {
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram h = entry.getValue();
+            long attempts = h.count() + h.errors();
+            if (h.count() == 0) {
+                violations.add(entry.getKey() + ": no requests completed");
+                continue;
+            }
+            double errorRate = h.errors() / (double) attempts;
+            if (errorRate > maxErrorRate) {
+                violations.add(String.format("%s: error rate %.2f%% over %.2f%%", entry.getKey(), errorRate * 100, maxErrorRate * 100));
+            }
+            long p99Ms = h.percentileMicros(99) / 1000;
+            if (p99Ms > maxP99Ms) {
+                violations.add(String.format("%s: p99 %d ms over %d ms", entry.getKey(), p99Ms, maxP99Ms));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Writes the run settings and the throughput and latency percentiles per step as JSON.
+     */
+    static void writeReport(ObjectMapper objectMapper, File file, Map<String, Object> settings,
+                            Map<String, LatencyHistogram> histograms, Duration duration) throws IOException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        histograms.forEach((name, h) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", h.count());
+            stats.put("errors", h.errors());
+            stats.put("requestsPerSecond", h.count() / (double) duration.toSeconds());
+            stats.put("p50Ms", h.percentileMicros(50) / 1000.0);
+            stats.put("p90Ms", h.percentileMicros(90) / 1000.0);
+            stats.put("p99Ms", h.percentileMicros(99) / 1000.0);
+            stats.put("p999Ms", h.percentileMicros(99.9) / 1000.0);
+            stats.put("maxMs", h.maxMicros() / 1000.0);
+            endpoints.put(name, stats);
+        });
+        Map<String, Object> report = new LinkedHashMap<>(settings);
+        report.put("seconds", duration.toSeconds());
+        report.put("endpoints", endpoints);
+
+        file.getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, report);
+    }
+
+    private static Step pick(List<Step> mix, int roll) {
+        for (Step step : mix) {
+            roll -= step.weight();
+            if (roll < 0) {
+                return step;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private Role role(RoleType type) {
+        RoleRepository roleRepository = context.getBean(RoleRepository.class);
+        return roleRepository.findByName(type).orElseGet(() -> {
+            Role role = new Role();
+            role.setName(type);
+            return roleRepository.save(role);
+        });
+    }
+
+    private String customerToken(Client client) {
+        return customerTokens.get(client.index() % customerTokens.size());
+    }
+
+    private HttpRequest.Builder get(Client client, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + customerToken(client))
+                .GET();
+    }
+
+    private HttpRequest.Builder post(String token, String path, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+}
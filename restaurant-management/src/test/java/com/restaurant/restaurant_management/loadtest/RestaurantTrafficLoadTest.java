@@ -0,0 +1,78 @@
+package com.restaurant.restaurant_management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load run over the app on an embedded database: seeds restaurants, menus, stock,
+ * tables and customers, then drives orders, menu reads, bookings, billing and logins from
+ * concurrent clients. Logs throughput and latency per endpoint, writes them to
+ * {@code target/loadtest-report.json} and fails when an endpoint exceeds the error or p99 budget.
+ * <p>
+ * Run with {@code mvn -Ploadtest test}. Tunable with {@code -Dloadtest.clients}, {@code -Dloadtest.seconds},
+ * {@code -Dloadtest.warmupSeconds}, {@code -Dloadtest.mix} (e.g. {@code menu=50,order=20,booking=10,billing=15,login=5}),
+ * {@code -Dloadtest.maxErrorRate} and {@code -Dloadtest.maxP99Ms}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class RestaurantTrafficLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantTrafficLoadTest.class);
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 5));
+    private static final String MIX = System.getProperty("loadtest.mix", "menu=50,order=20,booking=10,billing=15,login=5");
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01"));
+    private static final long MAX_P99_MS = Long.getLong("loadtest.maxP99Ms", 1000);
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void restaurantTrafficStaysWithinBudget() throws Exception {
+        LoadScenario scenario = new LoadScenario(context, port);
+        Map<String, LatencyHistogram> histograms;
+        try {
+            scenario.seed(3, 20, 40, 50);
+            List<LoadScenario.Step> mix = scenario.mix(MIX);
+
+            // Warm-up so JIT and caches do not skew the measured run
+            scenario.run(CLIENTS / 4, WARMUP, mix);
+            histograms = scenario.run(CLIENTS, DURATION, mix);
+        } finally {
+            scenario.cleanUp();
+        }
+
+        logger.info(LoadScenario.report("Restaurant traffic, " + CLIENTS + " clients, mix " + MIX, histograms, DURATION));
+        logger.info(LoadScenario.distribution(histograms));
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("clients", CLIENTS);
+        settings.put("mix", MIX);
+        LoadScenario.writeReport(objectMapper, new File("target/loadtest-report.json"), settings, histograms, DURATION);
+
+        List<String> violations = LoadScenario.budgetViolations(histograms, MAX_ERROR_RATE, MAX_P99_MS);
+        assertTrue(violations.isEmpty(), "Load budget exceeded: " + violations);
+    }
+}
@@ -0,0 +1,18 @@
+package com.restaurant.restaurant_management.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Mixed-traffic load scenario with request handling on virtual threads. Runs with {@code -Dloadtest=true}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class VirtualThreadsLoadTest extends AbstractThreadModeLoadTest {
+
+    @Override
+    String mode() {
+        return "Virtual";
+    }
+}
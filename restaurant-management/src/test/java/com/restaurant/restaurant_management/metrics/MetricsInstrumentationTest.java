@@ -0,0 +1,72 @@
+package com.restaurant.restaurant_management.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that service calls, their failures and per-request SQL statement counts are recorded,
+ * and that the metrics endpoint is restricted to admins.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsInstrumentationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void recordsServiceTimerAndStatementsPerRequest() throws Exception {
+        mockMvc.perform(get("/orders").with(user("admin").roles("ADMIN"))).andExpect(status().isOk());
+
+        Timer service = meterRegistry.find("restaurant.service")
+                .tags("class", "OrderServiceImpl", "method", "getAllOrders", "exception", "none")
+                .timer();
+        assertNotNull(service);
+        assertTrue(service.count() >= 1);
+
+        DistributionSummary statements = meterRegistry.find("restaurant.http.statements")
+                .tags("method", "GET", "uri", "/orders", "status", "200")
+                .summary();
+        assertNotNull(statements);
+        assertTrue(statements.count() >= 1);
+        assertTrue(statements.totalAmount() >= 1);
+    }
+
+    @Test
+    void recordsServiceErrorsByException() throws Exception {
+        Timer before = meterRegistry.find("restaurant.service")
+                .tags("method", "getOrderById", "exception", "ResourceNotFoundException")
+                .timer();
+        long previous = before == null ? 0 : before.count();
+
+        mockMvc.perform(get("/orders/987654321").with(user("admin").roles("ADMIN"))).andExpect(status().isNotFound());
+
+        Timer errors = meterRegistry.find("restaurant.service")
+                .tags("method", "getOrderById", "exception", "ResourceNotFoundException")
+                .timer();
+        assertNotNull(errors);
+        assertEquals(previous + 1, errors.count());
+    }
+
+    @Test
+    void metricsEndpointIsAdminOnly() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(user("customer").roles("CUSTOMER"))).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").with(user("admin").roles("ADMIN"))).andExpect(status().isOk());
+    }
+}
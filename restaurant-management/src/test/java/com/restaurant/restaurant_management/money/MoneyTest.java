@@ -0,0 +1,66 @@
+package com.restaurant.restaurant_management.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks minor-unit conversion, exact summing and that percentages round like {@link BigDecimal}.
+ */
+class MoneyTest {
+
+    @Test
+    void convertsAmountsToMinorUnitsAndBack() {
+        assertEquals(24950L, Money.toMinor(249.5));
+        assertEquals(101L, Money.toMinor(1.01));
+        assertEquals(0.1, Money.toAmount(Money.toMinor(0.1)));
+        assertEquals(new BigDecimal("1.10"), new MoneyConverter().convertToDatabaseColumn(1.1));
+    }
+
+    @Test
+    void sumsWithoutDrift() {
+        long total = 0;
+        double floating = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            total += Money.times(Money.toMinor(0.1), 3);
+            floating += 0.1 * 3;
+        }
+        assertEquals(30_000_000L, total);
+        assertEquals(300_000.0, Money.toAmount(total));
+        // The floating-point sum of the same amounts has drifted
+        assertNotEquals(300_000.0, floating);
+    }
+
+    @Test
+    void roundsPercentagesLikeBigDecimal() {
+        long[] amounts = {1, 5, 15, 25, 1005, 24950, 99999, -15, -25};
+        double[] percents = {5.0, 12.5, 18.0, 2.5, 50.0};
+        for (RoundingMode rounding : RoundingMode.values()) {
+            if (rounding == RoundingMode.UNNECESSARY) {
+                continue;
+            }
+            for (long amount : amounts) {
+                for (double percent : percents) {
+                    long expected = BigDecimal.valueOf(amount)
+                            .multiply(BigDecimal.valueOf(percent))
+                            .divide(BigDecimal.valueOf(100), 0, rounding)
+                            .longValueExact();
+                    assertEquals(expected, Money.percentOf(amount, percent, rounding),
+                            amount + " x " + percent + "% " + rounding);
+                }
+            }
+        }
+    }
+
+    @Test
+    void failsInsteadOfRoundingOrOverflowingSilently() {
+        assertThrows(ArithmeticException.class, () -> Money.percentOf(15, 5.0, RoundingMode.UNNECESSARY));
+        assertEquals(20L, Money.percentOf(400, 5.0, RoundingMode.UNNECESSARY));
+        assertThrows(ArithmeticException.class, () -> Money.times(Long.MAX_VALUE / 2, 3));
+    }
+}
@@ -0,0 +1,148 @@
+package com.restaurant.restaurant_management.outbox;
+
+import com.restaurant.restaurant_management.TestFixtures;
+import com.restaurant.restaurant_management.dto.OrderEventDTO;
+import com.restaurant.restaurant_management.dto.OrderResponse;
+import com.restaurant.restaurant_management.enums.OrderEventType;
+import com.restaurant.restaurant_management.enums.OutboxEventType;
+import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.repository.OutboxEventRepository;
+import com.restaurant.restaurant_management.service.OrderService;
+import com.restaurant.restaurant_management.serviceImp.OrderEventBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static com.restaurant.restaurant_management.TestFixtures.line;
+import static com.restaurant.restaurant_management.TestFixtures.order;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that committed order changes reach the live feed through the outbox, and that an event
+ * no subscriber can handle is retried and finally parked instead of blocking the outbox.
+ */
+@SpringBootTest
+class OutboxRelayTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderEventBus orderEventBus;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Value("${outbox.relay.max-attempts}")
+    private int maxAttempts;
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void deliversPlacedOrdersToTheLiveFeedAfterCommit() throws InterruptedException {
+        User user = fixtures.customer("outbox");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+        MenuItem menuItem = fixtures.menuItem("Outbox Pulao", 180.0, null, fixtures.restaurant("Outbox Kitchen"));
+        fixtures.stock(menuItem, 100.0);
+
+        BlockingQueue<OrderEventDTO> received = new LinkedBlockingQueue<>();
+        long subscription = orderEventBus.subscribe((eventId, event) -> received.add(event));
+        try {
+            OrderResponse order = orderService.placeOrder(order(line(menuItem.getId(), 1)));
+            orderService.cancelOrder(order.getId(), user.getUsername());
+
+            assertEquals(OrderEventType.PLACED, next(received, order.getId()).getType());
+            OrderEventDTO cancelled = next(received, order.getId());
+            assertEquals(OrderEventType.CANCELLED, cancelled.getType());
+            assertEquals(menuItem.getRestaurant().getId(), cancelled.getRestaurantId());
+        } finally {
+            orderEventBus.unsubscribe(subscription);
+        }
+    }
+
+    @Test
+    void retriesFailingEventsAndParksThemAfterMaxAttempts() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent poison = outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(OutboxEventType.ORDER_PLACED)
+                .aggregateId(-1L)
+                .payload("not json")
+                .createdAt(now)
+                .availableAt(now)
+                .build());
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            int expected = attempt;
+            outboxRelay.drain();
+            await(() -> reload(poison).getAttempts() >= expected);
+
+            OutboxEvent event = reload(poison);
+            assertNotNull(event.getLastError());
+            if (attempt < maxAttempts) {
+                assertNull(event.getFailedAt());
+                assertTrue(event.getAvailableAt().isAfter(LocalDateTime.now()));
+                // Make the retry due now instead of waiting for the backoff
+                event.setAvailableAt(LocalDateTime.now());
+                outboxEventRepository.save(event);
+            }
+        }
+
+        OutboxEvent parked = reload(poison);
+        assertEquals(maxAttempts, parked.getAttempts());
+        assertNotNull(parked.getFailedAt());
+        outboxRelay.drain();
+        assertEquals(maxAttempts, reload(poison).getAttempts());
+        outboxEventRepository.delete(parked);
+    }
+
+    private OutboxEvent reload(OutboxEvent event) {
+        return outboxEventRepository.findById(event.getId()).orElseThrow();
+    }
+
+    /**
+     * Waits for the next feed event of the order, skipping events of orders placed by other tests.
+     */
+    private static OrderEventDTO next(BlockingQueue<OrderEventDTO> received, Long orderId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            OrderEventDTO event = received.poll(100, TimeUnit.MILLISECONDS);
+            if (event != null && orderId.equals(event.getOrderId())) {
+                return event;
+            }
+        }
+        return fail("No event for order " + orderId);
+    }
+
+    /**
+     * Polls until the condition holds; the scheduled relay may be the one that handles the event.
+     */
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 10s");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.restaurant.restaurant_management.repository;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Data source that records the SQL and bound parameters of the statements executed on the
+ * current thread while a capture is open, so tests can replay them (e.g. under EXPLAIN).
+ */
+class CapturingDataSource extends DelegatingDataSource {
+
+    /**
+     * An executed statement and its parameters by 1-based index.
+     */
+    record Statement(String sql, Map<Integer, Object> parameters) {
+    }
+
+    private final ThreadLocal<List<Statement>> captured = new ThreadLocal<>();
+
+    CapturingDataSource(DataSource target) {
+        super(target);
+    }
+
+    /**
+     * Records the statements executed on this thread while the action runs.
+     *
+     * @param action the action to capture
+     * @return the executed statements, in order
+     */
+    List<Statement> capture(Runnable action) {
+        List<Statement> statements = new ArrayList<>();
+        captured.set(statements);
+        try {
+            action.run();
+        } finally {
+            captured.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                        return wrap(statement, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement wrap(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        parameters.put(index, name.equals("setNull") ? null : args[1]);
+                    } else if (name.equals("clearParameters")) {
+                        parameters.clear();
+                    } else if (name.startsWith("execute") && captured.get() != null) {
+                        captured.get().add(new Statement(sql, new TreeMap<>(parameters)));
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
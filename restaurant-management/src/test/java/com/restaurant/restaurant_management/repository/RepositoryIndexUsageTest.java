@@ -0,0 +1,355 @@
+package com.restaurant.restaurant_management.repository;
+
+import com.restaurant.restaurant_management.TestFixtures;
+import com.restaurant.restaurant_management.enums.BookingStatus;
+import com.restaurant.restaurant_management.enums.OrderStatus;
+import com.restaurant.restaurant_management.enums.RoleType;
+import com.restaurant.restaurant_management.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every custom repository finder against the seeded H2 database, replays each SQL statement
+ * it executed under {@code EXPLAIN} with its parameters inlined, and fails if any plan scans a
+ * whole table. Inlining lets H2 fold the optional filters ({@code :x IS NULL OR ...}) the way
+ * MySQL does for client-side prepared statements, so the plan shows the index the filter uses.
+ * <p>
+ * Foreign key columns are indexed by the database itself (both H2 and InnoDB create an index for a
+ * foreign key without one), but only a filter on the column itself can use that index: a derived
+ * finder such as {@code findByTableId} joins the referenced table and filters on its id, which scans.
+ * Such finders are written as JPQL on {@code x.table.id}. A new finder fails the test until it is
+ * added here.
+ */
+@SpringBootTest
+@Import(RepositoryIndexUsageTest.CaptureConfig.class)
+class RepositoryIndexUsageTest {
+
+    /**
+     * Finders that read a whole table by design.
+     */
+    private static final Set<String> UNFILTERED = Set.of(
+            "MenuItemRepository.findAllWithCategory",
+            "RecipeIngredientRepository.findUnlinkedNameMatches");
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof CapturingDataSource)
+                            ? new CapturingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BillingRepository billingRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    @Autowired
+    private RestaurantTableRepository restaurantTableRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private SalesHourlyRepository salesHourlyRepository;
+
+    @Autowired
+    private SalesItemDailyRepository salesItemDailyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private final Set<String> explained = new HashSet<>();
+    private final List<String> fullScans = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void everyFinderUsesAnIndex() {
+        User user = fixtures.customer("explain");
+        Restaurant restaurant = fixtures.restaurant("Explain Kitchen");
+        Category savedCategory = fixtures.category("Explain");
+        RestaurantTable table = fixtures.table("EX-1", 4, restaurant);
+
+        Long restaurantId = restaurant.getId();
+        LocalDateTime to = LocalDateTime.now();
+        LocalDateTime from = to.minusDays(7);
+        Pageable page = PageRequest.of(0, 20);
+
+        explain("OrderRepository.findByStatus", () -> orderRepository.findByStatus(OrderStatus.PENDING));
+        explain("OrderRepository.findByRestaurantIdAndStatusOrderByIdAsc",
+                () -> orderRepository.findByRestaurantIdAndStatusOrderByIdAsc(restaurantId, OrderStatus.PENDING));
+        explain("OrderRepository.findByUser", () -> orderRepository.findByUser(user));
+        explain("OrderRepository.findByUserUsernameOrderByIdAsc",
+                () -> orderRepository.findByUserUsernameOrderByIdAsc(user.getUsername()));
+        explain("OrderRepository.findWithItemsById", () -> orderRepository.findWithItemsById(1L));
+        explain("OrderRepository.filterOrders", () -> {
+            orderRepository.filterOrders(restaurantId, null, OrderStatus.PENDING, null, null);
+            orderRepository.filterOrders(null, user, null, from, to);
+            orderRepository.filterOrders(null, null, OrderStatus.COMPLETED, from, to);
+            orderRepository.filterOrders(null, null, null, from, to);
+        });
+        explain("OrderRepository.findByUserUsernameAndStatusAndOrderDateBetween",
+                () -> orderRepository.findByUserUsernameAndStatusAndOrderDateBetween(
+                        user.getUsername(), OrderStatus.PENDING, from, to));
+        explain("OrderRepository.findByUserUsernameAndOrderDateBetween",
+                () -> orderRepository.findByUserUsernameAndOrderDateBetween(user.getUsername(), from, to));
+        explain("OrderRepository.findByStatusAndOrderDateBetween",
+                () -> orderRepository.findByStatusAndOrderDateBetween(OrderStatus.PENDING, from, to));
+        explain("OrderRepository.findByOrderDateBetween", () -> orderRepository.findByOrderDateBetween(from, to));
+        explain("OrderRepository.findByIdGreaterThanOrderByIdAsc",
+                () -> orderRepository.findByIdGreaterThanOrderByIdAsc(0L, page));
+        explain("OrderRepository.findByRestaurantIdAndIdGreaterThanOrderByIdAsc",
+                () -> orderRepository.findByRestaurantIdAndIdGreaterThanOrderByIdAsc(restaurantId, 0L, page));
+        explain("OrderRepository.findForRestaurant", () -> {
+            orderRepository.findForRestaurant(restaurantId, null, null, from, to);
+            orderRepository.findForRestaurant(restaurantId, user.getUsername(), OrderStatus.PENDING, from, to);
+        });
+        explain("OrderRepository.streamForExport", () -> inTransaction(() -> {
+            try (Stream<Order> orders = orderRepository.streamForExport(null, user.getUsername(), null, from, to)) {
+                orders.count();
+            }
+        }));
+
+        explain("BookingRepository.findByTableAndStartTimeLessThanEqualAndEndTimeGreaterThanEqual",
+                () -> bookingRepository.findByTableAndStartTimeLessThanEqualAndEndTimeGreaterThanEqual(table, to, from));
+        explain("BookingRepository.findByUser", () -> bookingRepository.findByUser(user));
+        explain("BookingRepository.findByTableId", () -> bookingRepository.findByTableId(table.getId()));
+        explain("BookingRepository.findByStatus", () -> bookingRepository.findByStatus(BookingStatus.PLACED));
+        explain("BookingRepository.findByUserId", () -> bookingRepository.findByUserId(user.getId()));
+        explain("BookingRepository.findResponsePage", () -> bookingRepository.findResponsePage(0L, page));
+        explain("BookingRepository.findResponsePageByTableId",
+                () -> bookingRepository.findResponsePageByTableId(table.getId(), 0L, page));
+        explain("BookingRepository.findResponsePageByRestaurantId", () -> {
+            bookingRepository.findResponsePageByRestaurantId(restaurantId, null, 0L, page);
+            bookingRepository.findResponsePageByRestaurantId(restaurantId, table.getId(), 0L, page);
+        });
+        explain("BookingRepository.findResponsesByUserEmail",
+                () -> bookingRepository.findResponsesByUserEmail(user.getEmail()));
+        explain("BookingRepository.findByEndTimeAfterAndStatusNot",
+                () -> bookingRepository.findByEndTimeAfterAndStatusNot(to, BookingStatus.CANCELLED));
+        explain("BookingRepository.findByTableIdAndEndTimeAfterAndStatusNot",
+                () -> bookingRepository.findByTableIdAndEndTimeAfterAndStatusNot(table.getId(), to, BookingStatus.CANCELLED));
+
+        explain("BillingRepository.findByOrderId", () -> billingRepository.findByOrderId(1L));
+        explain("BillingRepository.findResponseByOrderId", () -> {
+            billingRepository.findResponseByOrderId(1L, null);
+            billingRepository.findResponseByOrderId(1L, restaurantId);
+        });
+        explain("BillingRepository.lockByOrderId", () -> inTransaction(() -> billingRepository.lockByOrderId(1L)));
+        explain("BillingRepository.findByUserAndDateRange", () -> {
+            billingRepository.findByUserAndDateRange(null, null, null, null, 0L, page);
+            billingRepository.findByUserAndDateRange(restaurantId, null, from, to, 0L, page);
+            billingRepository.findByUserAndDateRange(null, user.getUsername(), from, to, 0L, page);
+        });
+        explain("BillingRepository.streamForExport", () -> inTransaction(() -> {
+            try (Stream<Billing> bills = billingRepository.streamForExport(null, user.getUsername(), null, null)) {
+                bills.count();
+            }
+        }));
+
+        explain("InventoryRepository.findByItemName", () -> inventoryRepository.findByItemName("Explain Rice"));
+        explain("InventoryRepository.decrementQuantity",
+                () -> inTransaction(() -> inventoryRepository.decrementQuantity(1L, 1.0, to)));
+        explain("InventoryRepository.findByIdGreaterThanOrderByIdAsc",
+                () -> inventoryRepository.findByIdGreaterThanOrderByIdAsc(0L, page));
+        explain("InventoryRepository.findByRestaurantIdAndIdGreaterThanOrderByIdAsc",
+                () -> inventoryRepository.findByRestaurantIdAndIdGreaterThanOrderByIdAsc(restaurantId, 0L, page));
+
+        explain("MenuItemRepository.findByCategoryId", () -> menuItemRepository.findByCategoryId(savedCategory.getId()));
+        explain("MenuItemRepository.findByCategory", () -> menuItemRepository.findByCategory(savedCategory));
+        explain("MenuItemRepository.findAllWithCategoryByRestaurantId",
+                () -> menuItemRepository.findAllWithCategoryByRestaurantId(restaurantId));
+
+        explain("OutboxEventRepository.findDue", () -> outboxEventRepository.findDue(to, page));
+
+        explain("RecipeIngredientRepository.findByMenuItemIdIn",
+                () -> recipeIngredientRepository.findByMenuItemIdIn(List.of(1L, 2L, 3L)));
+        explain("RecipeIngredientRepository.findByMenuItemId", () -> recipeIngredientRepository.findByMenuItemId(1L));
+        explain("RecipeIngredientRepository.findUnlinkedNameMatchesByMenuItemId",
+                () -> recipeIngredientRepository.findUnlinkedNameMatchesByMenuItemId(1L));
+        explain("RecipeIngredientRepository.findUnlinkedNameMatchesByInventoryId",
+                () -> recipeIngredientRepository.findUnlinkedNameMatchesByInventoryId(1L));
+        explain("RecipeIngredientRepository.deleteByMenuItemId",
+                () -> inTransaction(() -> recipeIngredientRepository.deleteByMenuItemId(-1L)));
+        explain("RecipeIngredientRepository.deleteByInventoryId",
+                () -> inTransaction(() -> recipeIngredientRepository.deleteByInventoryId(-1L)));
+
+        explain("RestaurantTableRepository.findByRestaurantId",
+                () -> restaurantTableRepository.findByRestaurantId(restaurantId));
+        explain("RoleRepository.findByName", () -> roleRepository.findByName(RoleType.ROLE_STAFF));
+        for (Long salesRestaurantId : Arrays.asList(restaurantId, null)) {
+            explain("SalesHourlyRepository.findInRange",
+                    () -> salesHourlyRepository.findInRange(salesRestaurantId, from, to));
+            explain("SalesItemDailyRepository.sumByMenuItem",
+                    () -> salesItemDailyRepository.sumByMenuItem(salesRestaurantId, from.toLocalDate(), to.toLocalDate()));
+            explain("SalesItemDailyRepository.sumByCategory",
+                    () -> salesItemDailyRepository.sumByCategory(salesRestaurantId, from.toLocalDate(), to.toLocalDate()));
+        }
+        explain("UserRepository.findByEmail", () -> userRepository.findByEmail(user.getEmail()));
+        explain("UserRepository.findByUsername", () -> userRepository.findByUsername(user.getUsername()));
+
+        assertTrue(fullScans.isEmpty(), "Full table scans:\n" + String.join("\n", fullScans));
+
+        Repositories repositories = new Repositories(applicationContext);
+        for (Class<?> domainType : repositories) {
+            Class<?> repository = repositories.getRequiredRepositoryInformation(domainType).getRepositoryInterface();
+            for (Method method : repository.getDeclaredMethods()) {
+                String name = repository.getSimpleName() + "." + method.getName();
+                assertTrue(explained.contains(name) || UNFILTERED.contains(name), name + " is not explained");
+            }
+        }
+    }
+
+    /**
+     * Runs a finder, explains every statement it executed and records plans with a table scan.
+     */
+    private void explain(String finder, Runnable call) {
+        List<CapturingDataSource.Statement> statements = ((CapturingDataSource) dataSource).capture(call);
+        assertFalse(statements.isEmpty(), finder + " executed no statement");
+        for (CapturingDataSource.Statement statement : statements) {
+            String plan = plan(inline(statement));
+            if (plan.contains(".tableScan")) {
+                fullScans.add(finder + ": " + plan.replaceAll("\\s+", " "));
+            }
+        }
+        explained.add(finder);
+    }
+
+    private void inTransaction(Runnable action) {
+        transactionTemplate.executeWithoutResult(status -> {
+            action.run();
+            status.setRollbackOnly();
+        });
+    }
+
+    private String plan(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN " + sql)) {
+            StringBuilder text = new StringBuilder();
+            while (plan.next()) {
+                text.append(plan.getString(1)).append('\n');
+            }
+            return text.toString();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not explain " + sql, e);
+        }
+    }
+
+    /**
+     * Replaces the statement's parameter markers with its bound values as SQL literals.
+     */
+    private static String inline(CapturingDataSource.Statement statement) {
+        StringBuilder sql = new StringBuilder();
+        int index = 1;
+        boolean quoted = false;
+        for (char c : statement.sql().toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                sql.append(literal(statement.parameters().get(index++)));
+            } else {
+                sql.append(c);
+            }
+        }
+        return sql.toString();
+    }
+
+    private static String literal(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof Timestamp || value instanceof LocalDateTime) {
+            return "TIMESTAMP '" + value.toString().replace('T', ' ') + "'";
+        }
+        if (value instanceof java.sql.Date || value instanceof LocalDate) {
+            return "DATE '" + value + "'";
+        }
+        if (value instanceof Enum<?> constant) {
+            return quote(constant.name());
+        }
+        if (value instanceof Object[] array) {
+            return Arrays.stream(array).map(RepositoryIndexUsageTest::literal)
+                    .collect(Collectors.joining(", ", "ARRAY[", "]"));
+        }
+        return quote(value.toString());
+    }
+
+    private static String quote(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,42 @@
+package com.restaurant.restaurant_management.securityConfig;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The full-period order and bill exports contain every customer's data, so only admins may download them.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExportAccessTest {
+
+    private static final String[] EXPORTS = {"/orders/admin/orders/export", "/billing/admin/bills/export"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void customersAndStaffCannotExport() throws Exception {
+        for (String export : EXPORTS) {
+            mockMvc.perform(get(export).with(user("customer").roles("CUSTOMER")))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(get(export).with(user("staff").roles("STAFF")))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Test
+    void adminsCanExport() throws Exception {
+        for (String export : EXPORTS) {
+            mockMvc.perform(get(export).with(user("admin").roles("ADMIN")))
+                    .andExpect(status().isOk());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.restaurant.restaurant_management.securityConfig;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT authentication cost, before and after parse-once validation,
+ * plus the cost of issuing a token at login.
+ * <p>
+ * {@code verifyOnEveryCall} repeats what the filter used to do on each request: verify and parse the
+ * token once for the username, once for the expiration check and once for validation.
+ * {@code cachedClaims} runs the current filter path: one lookup in the verified-claims cache, whose
+ * claims are then used for the principal and for validation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        user = new User("bench@customer.com", "", List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean verifyOnEveryCall() {
+        String username = jwtUtil.verifyClaims(token).getSubject();
+        Date expiration = jwtUtil.verifyClaims(token).getExpiration();
+        Claims claims = jwtUtil.verifyClaims(token);
+        return username.equals(claims.getSubject()) && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public boolean cachedClaims() {
+        Claims claims = jwtUtil.parseClaims(token);
+        UserDetails userDetails = jwtUtil.extractUserDetails(claims);
+        return claims.getSubject() != null && jwtUtil.validateClaims(claims, userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+}
@@ -0,0 +1,163 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.TestFixtures;
+import com.restaurant.restaurant_management.dto.BillingResponseDTO;
+import com.restaurant.restaurant_management.dto.OrderResponse;
+import com.restaurant.restaurant_management.dto.PlaceOrderRequest;
+import com.restaurant.restaurant_management.enums.BillingStatus;
+import com.restaurant.restaurant_management.enums.OutboxEventType;
+import com.restaurant.restaurant_management.exception.InvalidRequestException;
+import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.outbox.OutboxRelay;
+import com.restaurant.restaurant_management.repository.OutboxEventRepository;
+import com.restaurant.restaurant_management.service.BillingService;
+import com.restaurant.restaurant_management.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that bills are drafted with their orders at the restaurant's tax rate, issued when staff
+ * bill them or the order is completed, and voided and drafted again as the order is cancelled and reinstated.
+ */
+@SpringBootTest
+class BillingLedgerTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private BillingService billingService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private BillingLedger billingLedger;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private MenuItem menuItem;
+
+    @BeforeEach
+    void seed() {
+        User user = fixtures.customer("ledger");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+
+        menuItem = fixtures.menuItem("Ledger Paneer", 200.0, null, fixtures.restaurant("Ledger Kitchen", 5.0));
+        fixtures.stock(menuItem, 100.0);
+    }
+
+    @AfterEach
+    void cleanUp() throws InterruptedException {
+        SecurityContextHolder.clearContext();
+        // Deleting orders whose events are still being relayed deadlocks with the relay's updates
+        settle();
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void draftsAtTheRestaurantTaxRateAndIssuesOnCompletion() {
+        OrderResponse order = orderService.placeOrder(order(2));
+
+        BillingResponseDTO draft = billingService.getBillingByOrderId(order.getId());
+        assertEquals(BillingStatus.DRAFT, draft.getStatus());
+        assertEquals(400.0, draft.getPrice());
+        assertEquals(20.0, draft.getTax(), 0.001);
+        assertEquals(420.0, draft.getTotalAmount(), 0.001);
+
+        orderService.updateOrderStatus(order.getId(), "COMPLETED");
+        billingLedger.handle(OutboxEvent.builder()
+                .eventType(OutboxEventType.ORDER_STATUS_CHANGED)
+                .aggregateId(order.getId())
+                .build());
+
+        BillingResponseDTO issued = billingService.getBillingByOrderId(order.getId());
+        assertEquals(draft.getId(), issued.getId());
+        assertEquals(BillingStatus.FINAL, issued.getStatus());
+        assertEquals(420.0, issued.getTotalAmount(), 0.001);
+        assertThrows(InvalidRequestException.class, () -> billingService.createBilling(order.getId(), 5.0, 0.0));
+    }
+
+    @Test
+    void staffBillingReratesTheDraft() {
+        OrderResponse order = orderService.placeOrder(order(1));
+        Long draftId = billingService.getBillingByOrderId(order.getId()).getId();
+
+        BillingResponseDTO issued = billingService.createBilling(order.getId(), 10.0, 5.0);
+        assertEquals(draftId, issued.getId());
+        assertEquals(BillingStatus.FINAL, issued.getStatus());
+        assertEquals(20.0, issued.getTax(), 0.001);
+        assertEquals(10.0, issued.getDiscount(), 0.001);
+        assertEquals(210.0, issued.getTotalAmount(), 0.001);
+        assertEquals(BillingStatus.FINAL, billingService.getBillingByOrderId(order.getId()).getStatus());
+    }
+
+    @Test
+    void voidsOnCancellationAndDraftsAgainOnReinstatement() throws InterruptedException {
+        OrderResponse order = orderService.placeOrder(order(1));
+
+        orderService.updateOrderStatus(order.getId(), "CANCELLED");
+        awaitStatus(order.getId(), BillingStatus.VOID);
+        orderService.updateOrderStatus(order.getId(), "CONFIRMED");
+        awaitStatus(order.getId(), BillingStatus.DRAFT);
+    }
+
+    @Test
+    void refusesToBillACancelledOrder() throws InterruptedException {
+        OrderResponse order = orderService.placeOrder(order(1));
+
+        // Before and after the outbox has voided the draft
+        orderService.updateOrderStatus(order.getId(), "CANCELLED");
+        assertThrows(InvalidRequestException.class, () -> billingService.createBilling(order.getId(), 5.0, 0.0));
+        awaitStatus(order.getId(), BillingStatus.VOID);
+        assertThrows(InvalidRequestException.class, () -> billingService.createBilling(order.getId(), 5.0, 0.0));
+        assertEquals(BillingStatus.VOID, billingService.getBillingByOrderId(order.getId()).getStatus());
+    }
+
+    /**
+     * Polls the bill until the outbox relay has brought it to the expected status.
+     */
+    private BillingResponseDTO awaitStatus(Long orderId, BillingStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        BillingResponseDTO bill;
+        while ((bill = billingService.getBillingByOrderId(orderId)).getStatus() != status) {
+            assertTrue(System.nanoTime() < deadline, "Bill still " + bill.getStatus() + ", expected " + status);
+            Thread.sleep(20);
+        }
+        return bill;
+    }
+
+    /**
+     * Relays the outbox until no event is due.
+     */
+    private void settle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        outboxRelay.drain();
+        while (!outboxEventRepository.findDue(LocalDateTime.now(), PageRequest.of(0, 1)).isEmpty()) {
+            assertTrue(System.nanoTime() < deadline, "Outbox not drained within 10s");
+            Thread.sleep(20);
+            outboxRelay.drain();
+        }
+    }
+
+    private PlaceOrderRequest order(int quantity) {
+        return TestFixtures.order(TestFixtures.line(menuItem.getId(), quantity));
+    }
+}
@@ -0,0 +1,172 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.TestFixtures;
+import com.restaurant.restaurant_management.dto.BulkOrderResult;
+import com.restaurant.restaurant_management.dto.PlaceOrderRequest;
+import com.restaurant.restaurant_management.enums.BulkOrderOutcome;
+import com.restaurant.restaurant_management.exception.InvalidRequestException;
+import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.repository.InventoryRepository;
+import com.restaurant.restaurant_management.repository.OrderRepository;
+import com.restaurant.restaurant_management.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.restaurant.restaurant_management.TestFixtures.line;
+import static com.restaurant.restaurant_management.TestFixtures.order;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Places a mixed batch through bulk ingestion and checks the per-order outcomes
+ * and that stock is reserved exactly for the placed orders, also when storing an order fails.
+ */
+@SpringBootTest
+class BulkOrderIngestionTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @MockitoSpyBean
+    private BillingLedger billingLedger;
+
+    private Restaurant restaurant;
+    private Category category;
+
+    @BeforeEach
+    void authenticate() {
+        User user = fixtures.customer("bulk-pos");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+
+        restaurant = fixtures.restaurant("Bulk Kitchen");
+        category = fixtures.category("Bulk Mains");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void placesOrdersIndividuallyAndReservesStockOnlyForPlacedOnes() {
+        MenuItem biryani = menuItem("Bulk Biryani", 250.0);
+        Inventory biryaniStock = stock(biryani, 5);
+        MenuItem lassi = menuItem("Bulk Lassi", 80.0);
+        Inventory lassiStock = stock(lassi, 100);
+
+        List<BulkOrderResult> results = orderService.placeOrders(List.of(
+                order(line(biryani.getId(), 2)),
+                order(line(biryani.getId(), 2), line(lassi.getId(), 1)),
+                order(line(biryani.getId(), 2)),
+                new PlaceOrderRequest(),
+                order(line(987654321L, 1)),
+                order(line(lassi.getId(), 3))));
+
+        assertEquals(6, results.size());
+        assertPlaced(results.get(0), 500.0);
+        assertPlaced(results.get(1), 580.0);
+        assertRejected(results.get(2), "Insufficient inventory");
+        assertRejected(results.get(3), "at least one item");
+        assertRejected(results.get(4), "Menu item not found");
+        assertPlaced(results.get(5), 240.0);
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getIndex());
+        }
+
+        assertEquals(1.0, inventoryRepository.findById(biryaniStock.getId()).orElseThrow().getQuantity());
+        assertEquals(96.0, inventoryRepository.findById(lassiStock.getId()).orElseThrow().getQuantity());
+        assertTrue(orderRepository.existsById(results.get(5).getOrderId()));
+    }
+
+    @Test
+    void storesBatchesLargerThanOneChunk() {
+        MenuItem dosa = menuItem("Bulk Dosa", 120.0);
+        Inventory dosaStock = stock(dosa, 1_000);
+        int orders = OrderServiceImpl.BULK_CHUNK_SIZE * 2 + 7;
+
+        List<PlaceOrderRequest> requests = new ArrayList<>(Collections.nCopies(orders, order(line(dosa.getId(), 1))));
+        List<BulkOrderResult> results = orderService.placeOrders(requests);
+
+        assertTrue(results.stream().allMatch(r -> r.getOutcome() == BulkOrderOutcome.PLACED));
+        assertEquals(orders, results.stream().map(BulkOrderResult::getOrderId).distinct().count());
+        assertEquals(1_000.0 - orders, inventoryRepository.findById(dosaStock.getId()).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void rejectsOnlyTheOrderThatFailsToStore() {
+        MenuItem dosa = menuItem("Bulk Masala Dosa", 120.0);
+        Inventory dosaStock = stock(dosa, 100);
+        MenuItem broken = menuItem("Bulk Broken Dish", 90.0);
+        Inventory brokenStock = stock(broken, 100);
+        // Drafting a bill for the broken dish fails like a database error would, in the chunk and on its own
+        doAnswer(invocation -> {
+            Collection<Order> orders = invocation.getArgument(0);
+            if (orders.stream().flatMap(o -> o.getOrderItems().stream())
+                    .anyMatch(item -> item.getMenuItem().getId().equals(broken.getId()))) {
+                throw new IllegalStateException("Simulated storage failure");
+            }
+            return invocation.callRealMethod();
+        }).when(billingLedger).draft(anyCollection());
+
+        List<BulkOrderResult> results = orderService.placeOrders(List.of(
+                order(line(dosa.getId(), 1)),
+                order(line(dosa.getId(), 1), line(broken.getId(), 1)),
+                order(line(dosa.getId(), 2))));
+
+        assertPlaced(results.get(0), 120.0);
+        assertRejected(results.get(1), "could not be stored");
+        assertPlaced(results.get(2), 240.0);
+        assertEquals(97.0, inventoryRepository.findById(dosaStock.getId()).orElseThrow().getQuantity());
+        assertEquals(100.0, inventoryRepository.findById(brokenStock.getId()).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void rejectsOversizedBatch() {
+        List<PlaceOrderRequest> requests = Collections.nCopies(OrderServiceImpl.MAX_BULK_ORDERS + 1, new PlaceOrderRequest());
+        assertThrows(InvalidRequestException.class, () -> orderService.placeOrders(requests));
+    }
+
+    private MenuItem menuItem(String name, double price) {
+        return fixtures.menuItem(name, price, category, restaurant);
+    }
+
+    private Inventory stock(MenuItem menuItem, double quantity) {
+        return fixtures.stock(menuItem, quantity);
+    }
+
+    private static void assertPlaced(BulkOrderResult result, double totalAmount) {
+        assertEquals(BulkOrderOutcome.PLACED, result.getOutcome(), result.getError());
+        assertNotNull(result.getOrderId());
+        assertEquals(totalAmount, result.getTotalAmount());
+        assertNull(result.getError());
+    }
+
+    private static void assertRejected(BulkOrderResult result, String reason) {
+        assertEquals(BulkOrderOutcome.REJECTED, result.getOutcome());
+        assertNull(result.getOrderId());
+        assertTrue(result.getError().contains(reason), result.getError());
+    }
+}
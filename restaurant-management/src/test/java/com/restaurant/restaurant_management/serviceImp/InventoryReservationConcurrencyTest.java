@@ -0,0 +1,109 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.TestFixtures;
+import com.restaurant.restaurant_management.dto.PlaceOrderRequest;
+import com.restaurant.restaurant_management.exception.InvalidRequestException;
+import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.repository.InventoryRepository;
+import com.restaurant.restaurant_management.repository.OrderRepository;
+import com.restaurant.restaurant_management.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fires many parallel orders at a single hot item and checks that the
+ * atomic stock reservation never oversells. The throughput reached is logged
+ * for comparison between runs, not asserted, since it depends on the machine.
+ */
+@SpringBootTest
+class InventoryReservationConcurrencyTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryReservationConcurrencyTest.class);
+
+    private static final int STOCK = 1_000;
+    private static final int ORDERS = 4_000;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @AfterEach
+    void cleanUp() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void concurrentOrdersNeverOversellHotItem() throws Exception {
+        User user = fixtures.customer("stress");
+        MenuItem menuItem = fixtures.menuItem("Stress Paneer Tikka", 120.0,
+                fixtures.category("Stress Starters"), fixtures.restaurant("Stress Kitchen"));
+        Inventory inventory = fixtures.stock(menuItem, STOCK);
+        PlaceOrderRequest request = TestFixtures.order(TestFixtures.line(menuItem.getId(), 1));
+
+        AtomicInteger placed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(ORDERS);
+
+        for (int i = 0; i < ORDERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+                try {
+                    orderService.placeOrder(request);
+                    placed.incrementAndGet();
+                } catch (InvalidRequestException e) {
+                    rejected.incrementAndGet();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+                return null;
+            }));
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+        logger.info("Placed {} and rejected {} orders for one item on {} threads in {} ms ({} orders/s)",
+                placed.get(), rejected.get(), THREADS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                Math.round(ORDERS / (elapsedNanos / 1_000_000_000.0)));
+
+        // Every order either got a portion or was turned away, and no more were sold than stocked
+        assertEquals(ORDERS, placed.get() + rejected.get());
+        assertTrue(placed.get() <= STOCK, "oversold: " + placed.get() + " orders for " + STOCK + " portions");
+        assertEquals(STOCK, placed.get());
+        // Stock went down by exactly one portion per accepted order, and each of those orders was saved
+        double remaining = inventoryRepository.findById(inventory.getId()).orElseThrow().getQuantity();
+        assertEquals(STOCK - placed.get(), remaining);
+        assertEquals(placed.get(), orderRepository.findByUser(user).size());
+    }
+}
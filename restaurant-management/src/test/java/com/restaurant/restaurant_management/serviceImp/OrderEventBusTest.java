@@ -0,0 +1,149 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.dto.OrderEventDTO;
+import com.restaurant.restaurant_management.enums.OrderEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks per-subscriber ordering, drop-oldest buffering, removal of failing subscribers and
+ * heartbeats of the order event bus, without a Spring context.
+ */
+class OrderEventBusTest {
+
+    private final OrderEventBus bus = new OrderEventBus(false);
+
+    @AfterEach
+    void shutdown() {
+        bus.shutdown();
+    }
+
+    @Test
+    void deliversEventsInPublicationOrder() throws InterruptedException {
+        List<Long> orderIds = new CopyOnWriteArrayList<>();
+        List<Long> eventIds = new CopyOnWriteArrayList<>();
+        bus.subscribe((eventId, event) -> {
+            eventIds.add(eventId);
+            orderIds.add(event.getOrderId());
+        });
+
+        // As many as fit the buffer, so none is dropped however slowly the subscriber drains
+        int events = OrderEventBus.BUFFER_CAPACITY;
+        for (long i = 1; i <= events; i++) {
+            bus.publish(event(i));
+        }
+
+        await(() -> orderIds.size() == events);
+        assertEquals(LongStream.rangeClosed(1, events).boxed().toList(), orderIds);
+        for (int i = 1; i < eventIds.size(); i++) {
+            assertEquals(eventIds.get(i - 1) + 1, eventIds.get(i));
+        }
+    }
+
+    @Test
+    void dropsOldestEventsOfASlowSubscriberOnly() throws InterruptedException {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> slow = new CopyOnWriteArrayList<>();
+        List<Long> fast = new CopyOnWriteArrayList<>();
+        bus.subscribe((eventId, event) -> {
+            sending.countDown();
+            release.await();
+            slow.add(event.getOrderId());
+        });
+        bus.subscribe((eventId, event) -> fast.add(event.getOrderId()));
+
+        // The slow subscriber holds event 1 while the rest overflows its buffer
+        bus.publish(event(1));
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+        int events = OrderEventBus.BUFFER_CAPACITY + 50;
+        for (long i = 2; i <= events; i++) {
+            bus.publish(event(i));
+            // Let the fast subscriber keep up, so only the slow one overflows
+            long published = i;
+            await(() -> fast.size() == published);
+        }
+        release.countDown();
+
+        await(() -> slow.size() == OrderEventBus.BUFFER_CAPACITY + 1);
+        assertEquals(1L, slow.get(0));
+        assertEquals(LongStream.rangeClosed(events - OrderEventBus.BUFFER_CAPACITY + 1, events).boxed().toList(),
+                slow.subList(1, slow.size()));
+        assertEquals(LongStream.rangeClosed(1, events).boxed().toList(), fast);
+    }
+
+    @Test
+    void unsubscribesASubscriberThatFails() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        bus.subscribe((eventId, event) -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("client gone");
+        });
+        List<Long> healthy = new CopyOnWriteArrayList<>();
+        bus.subscribe((eventId, event) -> healthy.add(event.getOrderId()));
+
+        bus.publish(event(1));
+        await(() -> bus.subscriberCount() == 1);
+        bus.publish(event(2));
+
+        await(() -> healthy.size() == 2);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void heartbeatsIdleSubscribersAndRemovesUnreachableOnes() throws InterruptedException {
+        AtomicInteger heartbeats = new AtomicInteger();
+        long reachable = bus.subscribe(new OrderEventBus.Sink() {
+            @Override
+            public void send(long eventId, OrderEventDTO event) {
+            }
+
+            @Override
+            public void heartbeat() {
+                heartbeats.incrementAndGet();
+            }
+        });
+        bus.subscribe(new OrderEventBus.Sink() {
+            @Override
+            public void send(long eventId, OrderEventDTO event) {
+            }
+
+            @Override
+            public void heartbeat() throws Exception {
+                throw new IOException("Broken pipe");
+            }
+        });
+
+        bus.heartbeat();
+        await(() -> heartbeats.get() == 1 && bus.subscriberCount() == 1);
+        bus.unsubscribe(reachable);
+        assertEquals(0, bus.subscriberCount());
+    }
+
+    private static OrderEventDTO event(long orderId) {
+        return OrderEventDTO.builder()
+                .type(OrderEventType.PLACED)
+                .orderId(orderId)
+                .build();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 10s");
+            Thread.sleep(10);
+        }
+    }
+}
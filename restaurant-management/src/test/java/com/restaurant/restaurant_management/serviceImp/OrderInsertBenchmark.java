@@ -0,0 +1,108 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.RestaurantManagementApplication;
+import com.restaurant.restaurant_management.TestFixtures;
+import com.restaurant.restaurant_management.dto.OrderResponse;
+import com.restaurant.restaurant_management.dto.PlaceOrderRequest;
+import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of placing an order of 1, 10 and 100 distinct menu items against an embedded H2 database.
+ * The SQL statements prepared and rows inserted are reported next to the timing as the
+ * {@code statements} and {@code inserts} secondary results, with {@code orders} to divide them by.
+ * With ids from pooled sequences the order and its items go out as JDBC batches, so inserts grow
+ * with the item count while prepared statements grow only by the per-item stock update.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderInsertBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int items;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private Statistics statistics;
+    private PlaceOrderRequest request;
+
+    /**
+     * Orders placed and the SQL work they caused in the current iteration, reported by JMH.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SqlCounters {
+
+        public long orders;
+        public long statements;
+        public long inserts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            orders = 0;
+            statements = 0;
+            inserts = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RestaurantManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN", "spring.jpa.properties.hibernate.generate_statistics=true")
+                .run();
+        orderService = context.getBean(OrderService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        TestFixtures fixtures = context.getBean(TestFixtures.class);
+        User user = fixtures.customer("bench-orders");
+        // JMH may call the benchmark method on another thread than this setup
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER"))));
+
+        Restaurant restaurant = fixtures.restaurant("Bench Kitchen");
+        Category category = fixtures.category("Bench Mains");
+        PlaceOrderRequest.OrderItemDTO[] lines = new PlaceOrderRequest.OrderItemDTO[items];
+        for (int i = 0; i < items; i++) {
+            MenuItem menuItem = fixtures.menuItem("Bench Dish " + i, 100.0 + i, category, restaurant);
+            fixtures.stock(menuItem, 1_000_000_000.0);
+            lines[i] = TestFixtures.line(menuItem.getId(), 1);
+        }
+        request = TestFixtures.order(lines);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse placeOrder(SqlCounters counters) {
+        long statementsBefore = statistics.getPrepareStatementCount();
+        long insertsBefore = statistics.getEntityInsertCount();
+        OrderResponse response = orderService.placeOrder(request);
+        counters.orders++;
+        counters.statements += statistics.getPrepareStatementCount() - statementsBefore;
+        counters.inserts += statistics.getEntityInsertCount() - insertsBefore;
+        return response;
+    }
+}
@@ -0,0 +1,169 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.TestFixtures;
+import com.restaurant.restaurant_management.dto.InventoryDTO;
+import com.restaurant.restaurant_management.dto.MenuItemRequestDTO;
+import com.restaurant.restaurant_management.dto.MenuItemResponseDTO;
+import com.restaurant.restaurant_management.dto.RecipeIngredientDTO;
+import com.restaurant.restaurant_management.exception.InvalidRequestException;
+import com.restaurant.restaurant_management.model.Category;
+import com.restaurant.restaurant_management.model.Restaurant;
+import com.restaurant.restaurant_management.model.User;
+import com.restaurant.restaurant_management.service.InventoryService;
+import com.restaurant.restaurant_management.service.MenuItemService;
+import com.restaurant.restaurant_management.service.OrderService;
+import com.restaurant.restaurant_management.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that menu items and stock saved through the API are linked by name within their
+ * restaurant until they get a recipe, that deleting stock drops the recipe lines using it, and that
+ * malformed recipes are rejected.
+ */
+@SpringBootTest
+class RecipeLinkingTest {
+
+    @Autowired
+    private MenuItemService menuItemService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Category category;
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void seed() {
+        User user = fixtures.customer("recipe");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+        category = fixtures.category("Recipe Mains");
+        restaurant = fixtures.restaurant("Recipe Kitchen");
+        TenantContext.set(restaurant.getId());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        TenantContext.clear();
+        SecurityContextHolder.clearContext();
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void linksStockCreatedAfterTheMenuItem() {
+        MenuItemResponseDTO biryani = menuItemService.createMenuItem(menuItem("Recipe Biryani"));
+        InventoryDTO stock = inventoryService.createInventory(stock("Recipe Biryani", 10.0));
+
+        assertEquals(List.of(stock.getId()), inventoryIds(biryani.getId()));
+        orderService.placeOrder(TestFixtures.order(TestFixtures.line(biryani.getId(), 3)));
+        assertEquals(7.0, inventoryService.getInventoryById(stock.getId()).getQuantity());
+    }
+
+    @Test
+    void linksMenuItemCreatedAfterTheStockButKeepsExistingRecipes() {
+        InventoryDTO rice = inventoryService.createInventory(stock("Recipe Pulao", 10.0));
+        InventoryDTO peas = inventoryService.createInventory(stock("Recipe Peas", 10.0));
+        MenuItemResponseDTO pulao = menuItemService.createMenuItem(menuItem("Recipe Pulao"));
+        assertEquals(List.of(rice.getId()), inventoryIds(pulao.getId()));
+
+        inventoryService.updateRecipe(pulao.getId(), List.of(line(peas.getId(), 0.5)));
+        inventoryService.updateInventory(rice.getId(), stock("Recipe Pulao", 20.0));
+        assertEquals(List.of(peas.getId()), inventoryIds(pulao.getId()));
+    }
+
+    @Test
+    void linksStockOnlyWithinTheMenuItemsRestaurant() {
+        MenuItemResponseDTO northBurger = menuItemService.createMenuItem(menuItem("Recipe Burger"));
+        InventoryDTO northStock = inventoryService.createInventory(stock("Recipe Burger", 10.0));
+
+        Restaurant south = fixtures.restaurant("Recipe South Kitchen");
+        TenantContext.set(south.getId());
+        MenuItemRequestDTO southRequest = menuItem("Recipe Burger");
+        southRequest.setRestaurantId(south.getId());
+        MenuItemResponseDTO southBurger = menuItemService.createMenuItem(southRequest);
+        InventoryDTO southStock = inventoryService.createInventory(stock("Recipe Burger", 10.0));
+
+        assertEquals(List.of(southStock.getId()), inventoryIds(southBurger.getId()));
+        orderService.placeOrder(TestFixtures.order(TestFixtures.line(southBurger.getId(), 4)));
+        assertEquals(6.0, inventoryService.getInventoryById(southStock.getId()).getQuantity());
+
+        TenantContext.set(restaurant.getId());
+        assertEquals(List.of(northStock.getId()), inventoryIds(northBurger.getId()));
+        orderService.placeOrder(TestFixtures.order(TestFixtures.line(northBurger.getId(), 1)));
+        assertEquals(9.0, inventoryService.getInventoryById(northStock.getId()).getQuantity());
+
+        TenantContext.set(south.getId());
+        assertEquals(6.0, inventoryService.getInventoryById(southStock.getId()).getQuantity());
+    }
+
+    @Test
+    void deletesLinkedStockTogetherWithItsRecipeLines() {
+        MenuItemResponseDTO kebab = menuItemService.createMenuItem(menuItem("Recipe Kebab"));
+        InventoryDTO stock = inventoryService.createInventory(stock("Recipe Kebab", 10.0));
+        assertEquals(List.of(stock.getId()), inventoryIds(kebab.getId()));
+
+        inventoryService.deleteInventory(stock.getId());
+
+        assertEquals(List.of(), inventoryIds(kebab.getId()));
+        assertThrows(RuntimeException.class, () -> inventoryService.getInventoryById(stock.getId()));
+    }
+
+    @Test
+    void rejectsMissingAndDuplicateRecipeLines() {
+        InventoryDTO stock = inventoryService.createInventory(stock("Recipe Dal", 10.0));
+        MenuItemResponseDTO dal = menuItemService.createMenuItem(menuItem("Recipe Dal"));
+
+        assertThrows(InvalidRequestException.class, () -> inventoryService.updateRecipe(dal.getId(), null));
+        assertThrows(InvalidRequestException.class, () -> inventoryService.updateRecipe(dal.getId(),
+                List.of(line(stock.getId(), 1.0), line(stock.getId(), 2.0))));
+        assertThrows(InvalidRequestException.class, () -> inventoryService.updateRecipe(dal.getId(),
+                List.of(line(null, 1.0))));
+        assertEquals(List.of(stock.getId()), inventoryIds(dal.getId()));
+    }
+
+    private MenuItemRequestDTO menuItem(String name) {
+        MenuItemRequestDTO dto = new MenuItemRequestDTO();
+        dto.setName(name);
+        dto.setPrice(150.0);
+        dto.setCategoryId(category.getId());
+        dto.setRestaurantId(restaurant.getId());
+        return dto;
+    }
+
+    private static InventoryDTO stock(String name, double quantity) {
+        return InventoryDTO.builder()
+                .itemName(name)
+                .quantity(quantity)
+                .unit("portions")
+                .pricePerUnit(10.0)
+                .build();
+    }
+
+    private static RecipeIngredientDTO line(Long inventoryId, double quantityPerServing) {
+        return RecipeIngredientDTO.builder()
+                .inventoryId(inventoryId)
+                .quantityPerServing(quantityPerServing)
+                .build();
+    }
+
+    private List<Long> inventoryIds(Long menuItemId) {
+        return inventoryService.getRecipe(menuItemId).stream().map(RecipeIngredientDTO::getInventoryId).toList();
+    }
+}
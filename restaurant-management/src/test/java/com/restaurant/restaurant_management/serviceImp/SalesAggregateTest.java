@@ -0,0 +1,223 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.TestFixtures;
+import com.restaurant.restaurant_management.dto.CategorySalesDTO;
+import com.restaurant.restaurant_management.dto.ItemSalesDTO;
+import com.restaurant.restaurant_management.dto.OrderResponse;
+import com.restaurant.restaurant_management.dto.PlaceOrderRequest;
+import com.restaurant.restaurant_management.dto.SalesPeriodDTO;
+import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.outbox.OutboxRelay;
+import com.restaurant.restaurant_management.repository.OutboxEventRepository;
+import com.restaurant.restaurant_management.service.BillingService;
+import com.restaurant.restaurant_management.service.OrderService;
+import com.restaurant.restaurant_management.service.ReportService;
+import com.restaurant.restaurant_management.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.restaurant.restaurant_management.TestFixtures.order;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Places, cancels and bills orders and checks that the sales reports move by exactly those orders
+ * once the outbox has been relayed. Other tests share the database, so daily totals are compared
+ * before and after, with the outbox drained on both sides; reports scoped to a seeded restaurant
+ * see only its orders.
+ */
+@SpringBootTest
+class SalesAggregateTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private BillingService billingService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void reportsFollowPlacedCancelledAndBilledOrders() throws InterruptedException {
+        User user = fixtures.customer("sales");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+
+        Restaurant restaurant = fixtures.restaurant("Sales Kitchen");
+        Category category = fixtures.category("Sales Curries");
+        MenuItem korma = menuItem("Sales Korma", 100.0, category, restaurant);
+        MenuItem naan = menuItem("Sales Naan", 50.0, category, restaurant);
+
+        LocalDate today = LocalDate.now();
+        settle();
+        SalesPeriodDTO before = today(today);
+
+        OrderResponse first = orderService.placeOrder(order(line(korma, 2), line(naan, 1)));
+        orderService.placeOrder(order(line(naan, 4)));
+        OrderResponse third = orderService.placeOrder(order(line(korma, 1)));
+        orderService.cancelOrder(third.getId(), user.getUsername());
+        orderService.cancelOrder(third.getId(), user.getUsername());
+        billingService.createBilling(first.getId(), 10.0, 0.0);
+        // Redelivered events must not count twice
+        outboxRelay.drain();
+        orderService.updateOrderStatus(first.getId(), "CONFIRMED");
+
+        settle();
+        SalesPeriodDTO after = today(today);
+        assertEquals(2, after.getOrders() - before.getOrders());
+        assertEquals(7, after.getItemsSold() - before.getItemsSold());
+        assertEquals(450.0, after.getRevenue() - before.getRevenue(), 0.001);
+        assertEquals(1, after.getBills() - before.getBills());
+        assertEquals(275.0, after.getBilledAmount() - before.getBilledAmount(), 0.001);
+
+        List<ItemSalesDTO> items = reportService.getMenuItemSales(today, today);
+        ItemSalesDTO kormaSales = items.stream().filter(i -> i.getMenuItemId().equals(korma.getId())).findFirst().orElseThrow();
+        ItemSalesDTO naanSales = items.stream().filter(i -> i.getMenuItemId().equals(naan.getId())).findFirst().orElseThrow();
+        assertEquals(2L, kormaSales.getQuantity());
+        assertEquals(200.0, kormaSales.getRevenue());
+        assertEquals("Sales Korma", kormaSales.getName());
+        assertEquals(5L, naanSales.getQuantity());
+        assertEquals(250.0, naanSales.getRevenue());
+
+        Long categoryId = category.getId();
+        CategorySalesDTO curries = reportService.getCategorySales(today, today).stream()
+                .filter(c -> categoryId.equals(c.getCategoryId())).findFirst().orElseThrow();
+        assertEquals(7L, curries.getQuantity());
+        assertEquals(450.0, curries.getRevenue());
+    }
+
+    @Test
+    void concurrentOrdersAreAllPlacedAndCounted() throws Exception {
+        User user = fixtures.customer("sales-rush");
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of());
+        Restaurant restaurant = fixtures.restaurant("Rush Kitchen");
+        MenuItem thali = menuItem("Rush Thali", 120.0, fixtures.category("Rush Mains"), restaurant);
+
+        LocalDate today = LocalDate.now();
+        settle();
+        SalesPeriodDTO before = today(today);
+
+        int orders = 40;
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<OrderResponse>> placed = new ArrayList<>();
+            for (int i = 0; i < orders; i++) {
+                placed.add(pool.submit(() -> {
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    try {
+                        return orderService.placeOrder(order(line(thali, 1)));
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }));
+            }
+            for (Future<OrderResponse> order : placed) {
+                order.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        settle();
+        SalesPeriodDTO after = today(today);
+        assertEquals(orders, after.getOrders() - before.getOrders());
+        assertEquals(orders * 120.0, after.getRevenue() - before.getRevenue(), 0.001);
+        ItemSalesDTO thaliSales = reportService.getMenuItemSales(today, today).stream()
+                .filter(i -> i.getMenuItemId().equals(thali.getId())).findFirst().orElseThrow();
+        assertEquals(orders, thaliSales.getQuantity());
+    }
+
+    @Test
+    void scopesReportsToTheRequestRestaurant() throws InterruptedException {
+        User user = fixtures.customer("sales-branch");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+        Restaurant north = fixtures.restaurant("North Branch");
+        Restaurant south = fixtures.restaurant("South Branch");
+        MenuItem northDosa = menuItem("North Dosa", 80.0, null, north);
+        MenuItem southDosa = menuItem("South Dosa", 90.0, null, south);
+
+        LocalDate today = LocalDate.now();
+        orderService.placeOrder(order(line(northDosa, 2)));
+        orderService.placeOrder(order(line(northDosa, 1)));
+        orderService.placeOrder(order(line(southDosa, 5)));
+        settle();
+
+        TenantContext.set(north.getId());
+        try {
+            SalesPeriodDTO northDay = today(today);
+            assertEquals(2, northDay.getOrders());
+            assertEquals(3, northDay.getItemsSold());
+            assertEquals(240.0, northDay.getRevenue(), 0.001);
+            assertEquals(List.of(northDosa.getId()), reportService.getMenuItemSales(today, today).stream()
+                    .map(ItemSalesDTO::getMenuItemId).toList());
+            assertEquals(2, reportService.getHourlySales(today, today).stream().mapToLong(SalesPeriodDTO::getOrders).sum());
+        } finally {
+            TenantContext.clear();
+        }
+
+        // The chain-wide report adds up both branches
+        List<Long> chainItems = reportService.getMenuItemSales(today, today).stream()
+                .map(ItemSalesDTO::getMenuItemId).toList();
+        assertTrue(chainItems.containsAll(List.of(northDosa.getId(), southDosa.getId())));
+    }
+
+    /**
+     * Relays the outbox until no event is due, so the aggregates reflect every committed order.
+     */
+    private void settle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        outboxRelay.drain();
+        while (!outboxEventRepository.findDue(LocalDateTime.now(), PageRequest.of(0, 1)).isEmpty()) {
+            assertTrue(System.nanoTime() < deadline, "Outbox not drained within 10s");
+            Thread.sleep(20);
+            outboxRelay.drain();
+        }
+    }
+
+    private SalesPeriodDTO today(LocalDate today) {
+        List<SalesPeriodDTO> days = reportService.getDailySales(today, today);
+        return days.isEmpty() ? new SalesPeriodDTO(today.atStartOfDay(), 0, 0, 0.0, 0, 0.0) : days.get(0);
+    }
+
+    private MenuItem menuItem(String name, double price, Category category, Restaurant restaurant) {
+        MenuItem menuItem = fixtures.menuItem(name, price, category, restaurant);
+        fixtures.stock(menuItem, 1_000.0);
+        return menuItem;
+    }
+
+    private static PlaceOrderRequest.OrderItemDTO line(MenuItem menuItem, int quantity) {
+        return TestFixtures.line(menuItem.getId(), quantity);
+    }
+}
@@ -0,0 +1,124 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.restaurant.restaurant_management.RestaurantManagementApplication;
+import com.restaurant.restaurant_management.dto.BillingResponseDTO;
+import com.restaurant.restaurant_management.dto.BookingResponseDTO;
+import com.restaurant.restaurant_management.dto.CursorPage;
+import com.restaurant.restaurant_management.dto.OrderResponse;
+import com.restaurant.restaurant_management.enums.BookingStatus;
+import com.restaurant.restaurant_management.enums.OrderStatus;
+import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.repository.BookingRepository;
+import com.restaurant.restaurant_management.repository.OrderRepository;
+import com.restaurant.restaurant_management.repository.RestaurantTableRepository;
+import com.restaurant.restaurant_management.repository.UserRepository;
+import com.restaurant.restaurant_management.service.BillingService;
+import com.restaurant.restaurant_management.service.BookingService;
+import com.restaurant.restaurant_management.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service calls end to end against an embedded H2 database, so the numbers include JPA and JDBC
+ * and are reproducible on any machine: one default-size page of orders and bookings, and billing
+ * an order. Runs the real application context without the web server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceDbBenchmark {
+
+    private static final int ROWS = 500;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private BookingService bookingService;
+    private BillingService billingService;
+    private OrderRepository orderRepository;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RestaurantManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN")
+                .run();
+        orderService = context.getBean(OrderService.class);
+        bookingService = context.getBean(BookingService.class);
+        billingService = context.getBean(BillingService.class);
+        orderRepository = context.getBean(OrderRepository.class);
+
+        user = context.getBean(UserRepository.class).save(User.builder()
+                .username("bench")
+                .email("bench@customer.com")
+                .password("secret")
+                .roles(new HashSet<>())
+                .build());
+        RestaurantTable table = context.getBean(RestaurantTableRepository.class)
+                .save(RestaurantTable.builder().tableNumber("B1").capacity(4).build());
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < ROWS; i++) {
+            newOrder();
+            Booking booking = new Booking();
+            booking.setUser(user);
+            booking.setTable(table);
+            booking.setStartTime(start.plusHours(i));
+            booking.setEndTime(start.plusHours(i).plusMinutes(45));
+            booking.setStatus(BookingStatus.CONFIRMED);
+            bookingRepository.save(booking);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<OrderResponse> ordersPage() {
+        return orderService.getAllOrders(null, CursorPage.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<BookingResponseDTO> bookingsPage() {
+        return bookingService.getAllBookings(null, null, CursorPage.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    public BillingResponseDTO createBilling(UnbilledOrder unbilled) {
+        return billingService.createBilling(unbilled.orderId, 5.0, 10.0);
+    }
+
+    Order newOrder() {
+        Order order = new Order();
+        order.setUser(user);
+        order.setOrderDate(LocalDateTime.now());
+        order.setStatus(OrderStatus.COMPLETED);
+        order.setTotalAmount(249.5);
+        return orderRepository.save(order);
+    }
+
+    /**
+     * A fresh order for every createBilling call, since an order can be billed only once.
+     */
+    @State(Scope.Thread)
+    public static class UnbilledOrder {
+
+        private Long orderId;
+
+        @Setup(Level.Invocation)
+        public void create(ServiceDbBenchmark benchmark) {
+            orderId = benchmark.newOrder().getId();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.restaurant.restaurant_management.serviceImp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.restaurant_management.dto.BookingResponseDTO;
+import com.restaurant.restaurant_management.dto.CursorPage;
+import com.restaurant.restaurant_management.dto.MenuItemResponseDTO;
+import com.restaurant.restaurant_management.dto.OrderResponse;
+import com.restaurant.restaurant_management.enums.BookingStatus;
+import com.restaurant.restaurant_management.enums.OrderStatus;
+import com.restaurant.restaurant_management.model.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of the per-row work behind the list endpoints, without a database:
+ * entity to DTO mapping, billing calculation and JSON serialization of a default-size page.
+ * The ObjectMapper is configured the way Spring Boot configures the one used by the controllers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceHotPathBenchmark {
+
+    private static final int PAGE_SIZE = CursorPage.DEFAULT_SIZE;
+
+    private ObjectMapper objectMapper;
+    private List<Order> orders;
+    private List<Booking> bookings;
+    private CursorPage<OrderResponse> orderPage;
+    private CursorPage<BookingResponseDTO> bookingPage;
+    private CursorPage<MenuItemResponseDTO> menuPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        User user = User.builder().id(1L).username("bench").email("bench@customer.com").build();
+        RestaurantTable table = RestaurantTable.builder().id(1L).tableNumber("T1").capacity(4).build();
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 19, 0);
+
+        orders = new ArrayList<>(PAGE_SIZE);
+        bookings = new ArrayList<>(PAGE_SIZE);
+        List<MenuItemResponseDTO> menuItems = new ArrayList<>(PAGE_SIZE);
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            Order order = new Order();
+            order.setId(i);
+            order.setOrderDate(now.plusMinutes(i));
+            order.setStatus(OrderStatus.PENDING);
+            order.setTotalAmount(100.0 + i);
+            order.setUser(user);
+            orders.add(order);
+
+            Booking booking = new Booking();
+            booking.setId(i);
+            booking.setUser(user);
+            booking.setTable(table);
+            booking.setStartTime(now.plusDays(i));
+            booking.setEndTime(now.plusDays(i).plusHours(2));
+            booking.setStatus(BookingStatus.CONFIRMED);
+            bookings.add(booking);
+
+            menuItems.add(new MenuItemResponseDTO(i, "Dish " + i, "Benchmark dish number " + i, 150.0 + i, 1L, "Mains"));
+        }
+
+        orderPage = CursorPage.of(mapOrders(), PAGE_SIZE, OrderResponse::getId);
+        bookingPage = CursorPage.of(mapBookings(), PAGE_SIZE, BookingResponseDTO::getId);
+        menuPage = CursorPage.of(menuItems, PAGE_SIZE, MenuItemResponseDTO::getId);
+    }
+
+    @Benchmark
+    public List<OrderResponse> mapOrders() {
+        List<OrderResponse> responses = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            responses.add(ResponseMapper.toResponse(order));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<BookingResponseDTO> mapBookings() {
+        List<BookingResponseDTO> responses = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            responses.add(ResponseMapper.toResponse(booking));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public Billing calculateBilling() {
+        return BillingLedger.calculateBilling(orders.get(0), 5.0, 10.0, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orderPage);
+    }
+
+    @Benchmark
+    public byte[] serializeBookingPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookingPage);
+    }
+
+    @Benchmark
+    public byte[] serializeMenuPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(menuPage);
+    }
+}
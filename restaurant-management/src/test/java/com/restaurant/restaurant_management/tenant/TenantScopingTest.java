@@ -0,0 +1,152 @@
+package com.restaurant.restaurant_management.tenant;
+
+import com.restaurant.restaurant_management.TestFixtures;
+import com.restaurant.restaurant_management.dto.BillingResponseDTO;
+import com.restaurant.restaurant_management.dto.OrderResponse;
+import com.restaurant.restaurant_management.dto.PlaceOrderRequest;
+import com.restaurant.restaurant_management.exception.InvalidRequestException;
+import com.restaurant.restaurant_management.exception.ResourceNotFoundException;
+import com.restaurant.restaurant_management.model.*;
+import com.restaurant.restaurant_management.service.BillingService;
+import com.restaurant.restaurant_management.service.OrderService;
+import com.restaurant.restaurant_management.serviceImp.MenuCatalogCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the restaurant header is resolved once per request and that menus, orders and bills
+ * of one restaurant are neither visible nor usable from another.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TenantScopingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private BillingService billingService;
+
+    @Autowired
+    private MenuCatalogCache menuCatalogCache;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Category category;
+    private Restaurant north;
+    private Restaurant south;
+    private MenuItem northThali;
+    private MenuItem southDosa;
+
+    @BeforeEach
+    void seed() {
+        User user = fixtures.customer("tenant");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+
+        category = fixtures.category("Branch Specials");
+        north = fixtures.restaurant("North Branch");
+        south = fixtures.restaurant("South Branch");
+        northThali = menuItem("North Thali", 300.0, north);
+        southDosa = menuItem("South Dosa", 120.0, south);
+        menuCatalogCache.invalidate();
+    }
+
+    @AfterEach
+    void clear() {
+        TenantContext.clear();
+        SecurityContextHolder.clearContext();
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void rejectsMalformedAndUnknownRestaurantHeaders() throws Exception {
+        mockMvc.perform(get("/menu-items").header(TenantFilter.HEADER, "north"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/menu-items").header(TenantFilter.HEADER, "987654321"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void servesEachRestaurantItsOwnMenu() throws Exception {
+        mockMvc.perform(get("/menu-items").param("categoryId", category.getId().toString())
+                        .header(TenantFilter.HEADER, north.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", contains("North Thali")));
+        mockMvc.perform(get("/menu-items").param("categoryId", category.getId().toString())
+                        .header(TenantFilter.HEADER, south.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", contains("South Dosa")));
+        mockMvc.perform(get("/menu-items").param("categoryId", category.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", containsInAnyOrder("North Thali", "South Dosa")));
+    }
+
+    @Test
+    void listsItemsWithoutCategoryInTheRestaurantMenu() throws Exception {
+        fixtures.menuItem("North Water", 20.0, null, north);
+        menuCatalogCache.invalidate();
+
+        mockMvc.perform(get("/menu-items").header(TenantFilter.HEADER, north.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", contains("North Thali", "North Water")));
+    }
+
+    @Test
+    void scopesOrdersAndBillsToTheirRestaurant() {
+        TenantContext.set(north.getId());
+        OrderResponse northOrder = orderService.placeOrder(order(northThali));
+        assertThrows(ResourceNotFoundException.class, () -> orderService.placeOrder(order(southDosa)));
+
+        TenantContext.set(south.getId());
+        OrderResponse southOrder = orderService.placeOrder(order(southDosa));
+        assertEquals(List.of(southOrder.getId()), orderService.getAllOrders(null, null).getItems().stream()
+                .map(OrderResponse::getId).toList());
+        assertThrows(ResourceNotFoundException.class, () -> orderService.getOrderById(northOrder.getId()));
+        assertThrows(ResourceNotFoundException.class, () -> billingService.createBilling(northOrder.getId(), 5.0, 0.0));
+        billingService.createBilling(southOrder.getId(), 5.0, 0.0);
+
+        TenantContext.set(north.getId());
+        BillingResponseDTO northBill = billingService.createBilling(northOrder.getId(), 5.0, 0.0);
+        assertEquals(List.of(northBill.getId()), billingService.getFilteredBills(null, null, null, null, null)
+                .getItems().stream().map(BillingResponseDTO::getId).toList());
+
+        TenantContext.clear();
+        assertEquals(northOrder.getId(), orderService.getOrderById(northOrder.getId()).getId());
+        assertThrows(InvalidRequestException.class, () -> orderService.placeOrder(order(northThali, southDosa)));
+    }
+
+    private MenuItem menuItem(String name, double price, Restaurant restaurant) {
+        MenuItem menuItem = fixtures.menuItem(name, price, category, restaurant);
+        fixtures.stock(menuItem, 100.0);
+        return menuItem;
+    }
+
+    private static PlaceOrderRequest order(MenuItem... menuItems) {
+        PlaceOrderRequest request = new PlaceOrderRequest();
+        request.setItems(Arrays.stream(menuItems).map(menuItem -> TestFixtures.line(menuItem.getId(), 1)).toList());
+        return request;
+    }
+}